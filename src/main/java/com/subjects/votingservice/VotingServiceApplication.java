@@ -1,5 +1,6 @@
 package com.subjects.votingservice;
 
+import com.subjects.votingservice.infrastructure.persistence.DeadlineMongoRepositoryFactoryBean;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
@@ -7,7 +8,8 @@ import org.springframework.data.mongodb.repository.config.EnableMongoRepositorie
 /**
  * SpringBoot application class.
  */
-@EnableMongoRepositories(basePackages = "com.subjects.votingservice.infrastructure.repository")
+@EnableMongoRepositories(basePackages = "com.subjects.votingservice.infrastructure.repository",
+    repositoryFactoryBeanClass = DeadlineMongoRepositoryFactoryBean.class)
 @SpringBootApplication
 public class VotingServiceApplication {
 
@@ -5,12 +5,26 @@ package com.subjects.votingservice.api.constants;
  */
 public class HttpConstants {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REQUEST_TIMEOUT_HEADER = "Request-Timeout-Milliseconds";
+    public static final String PREFER_HEADER = "Prefer";
+    public static final String RESPOND_ASYNC = "respond-async";
+
     public static final String SUCCESS_REQUEST_CODE = "200";
     public static final String SUCCESS_REQUEST_DESCRIPTION = "Request processed.";
 
+    public static final String ACCEPTED_REQUEST_CODE = "202";
+    public static final String ACCEPTED_REQUEST_DESCRIPTION = "Request accepted for processing.";
+
     public static final String BAD_REQUEST_CODE = "400";
     public static final String BAD_REQUEST_DESCRIPTION = "Bad request.";
 
     public static final String NOT_FOUND_REQUEST_CODE = "404";
     public static final String NOT_FOUND_REQUEST_DESCRIPTION = "Not Found.";
+
+    public static final String SERVICE_UNAVAILABLE_CODE = "503";
+    public static final String SERVICE_UNAVAILABLE_DESCRIPTION = "Service unavailable.";
+
+    public static final String GATEWAY_TIMEOUT_CODE = "504";
+    public static final String GATEWAY_TIMEOUT_DESCRIPTION = "Request deadline exceeded.";
 }
@@ -1,25 +1,36 @@
 package com.subjects.votingservice.api.controller;
 
 import com.subjects.votingservice.domain.service.VoteService;
+import com.subjects.votingservice.infrastructure.cache.IdempotencyStore;
 import com.subjects.votingservice.api.dto.RestErrorResponseDto;
+import com.subjects.votingservice.api.dto.vote.VoteBatchRequestDto;
+import com.subjects.votingservice.api.dto.vote.VoteBatchResultDto;
 import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
 import com.subjects.votingservice.api.dto.vote.VoteResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.subjects.votingservice.api.constants.HttpConstants.*;
 import static org.springdoc.core.Constants.POST_METHOD;
@@ -35,15 +46,22 @@ import static org.springdoc.core.Constants.POST_METHOD;
 public class VoteController {
 
     private final VoteService voteService;
+    private final IdempotencyStore idempotencyStore;
+
+    @Qualifier("ioExecutor")
+    private final Executor ioExecutor;
 
     /**
-     * Saves a vote.
+     * Saves a vote. Retries with the same idempotency key get the original response without saving the vote again.
      *
+     * @param idempotencyKey optional idempotency key
      * @param voteRequestDto {@link VoteRequestDto} vote request data transfer object
-     * @return {@link VoteResponseDto} vote response data transfer object
+     * @return {@link CompletableFuture} of {@link VoteResponseDto} vote response data transfer object
      */
     @ResponseStatus(HttpStatus.OK)
     @Operation(method = POST_METHOD, summary = "Registers an associate vote for a given voting session.")
+    @Parameter(in = ParameterIn.HEADER, name = IDEMPOTENCY_KEY_HEADER, description = "Key identifying retries of the same vote")
+    @Parameter(in = ParameterIn.HEADER, name = REQUEST_TIMEOUT_HEADER, description = "Time budget of the request in milliseconds")
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
         description = "Vote request data transfer object",
         required = true,
@@ -59,11 +77,74 @@ public class VoteController {
         description = BAD_REQUEST_DESCRIPTION,
         content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
     )
+    @ApiResponse(
+        responseCode = SERVICE_UNAVAILABLE_CODE,
+        description = SERVICE_UNAVAILABLE_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
+    )
+    @ApiResponse(
+        responseCode = GATEWAY_TIMEOUT_CODE,
+        description = GATEWAY_TIMEOUT_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
+    )
     @PostMapping(value = "/vote")
-    public VoteResponseDto saveVote(@Valid @RequestBody VoteRequestDto voteRequestDto) {
+    public CompletableFuture<VoteResponseDto> saveVote(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                       @Valid @RequestBody VoteRequestDto voteRequestDto) {
         log.info("Vote request data transfer object {}", voteRequestDto);
-        final VoteResponseDto voteResponseDto = voteService.save(voteRequestDto);
-        log.info("Vote response data transfer object {}", voteResponseDto);
-        return voteResponseDto;
+        if (idempotencyKey == null) {
+            return saveVoteAsync(voteRequestDto);
+        }
+        return idempotencyStore.execute(idempotencyKey, voteRequestDto, () -> saveVoteAsync(voteRequestDto));
+    }
+
+    /**
+     * Saves a batch of votes.
+     *
+     * @param voteBatchRequestDto {@link VoteBatchRequestDto} vote batch request data transfer object
+     * @return {@link CompletableFuture} of {@link List} of {@link VoteBatchResultDto} vote batch result data transfer object
+     */
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(method = POST_METHOD, summary = "Registers a batch of associate votes, reporting the outcome of each vote.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "Vote batch request data transfer object",
+        required = true,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = VoteBatchRequestDto.class))
+    )
+    @ApiResponse(
+        responseCode = SUCCESS_REQUEST_CODE,
+        description = SUCCESS_REQUEST_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = VoteBatchResultDto.class)))
+    )
+    @ApiResponse(
+        responseCode = BAD_REQUEST_CODE,
+        description = BAD_REQUEST_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
+    )
+    @ApiResponse(
+        responseCode = SERVICE_UNAVAILABLE_CODE,
+        description = SERVICE_UNAVAILABLE_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
+    )
+    @ApiResponse(
+        responseCode = GATEWAY_TIMEOUT_CODE,
+        description = GATEWAY_TIMEOUT_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
+    )
+    @PostMapping(value = "/vote/batch")
+    public CompletableFuture<List<VoteBatchResultDto>> saveVotes(@Valid @RequestBody VoteBatchRequestDto voteBatchRequestDto) {
+        log.info("Vote batch request with {} votes", voteBatchRequestDto.getVotes().size());
+        return CompletableFuture.supplyAsync(() -> {
+            final List<VoteBatchResultDto> voteBatchResultDtos = voteService.saveAll(voteBatchRequestDto.getVotes());
+            log.info("Number of vote batch results: {}", voteBatchResultDtos.size());
+            return voteBatchResultDtos;
+        }, ioExecutor);
+    }
+
+    private CompletableFuture<VoteResponseDto> saveVoteAsync(VoteRequestDto voteRequestDto) {
+        return CompletableFuture.supplyAsync(() -> {
+            final VoteResponseDto voteResponseDto = voteService.save(voteRequestDto);
+            log.info("Vote response data transfer object {}", voteResponseDto);
+            return voteResponseDto;
+        }, ioExecutor);
     }
 }
@@ -0,0 +1,108 @@
+package com.subjects.votingservice.api.controller;
+
+import com.subjects.votingservice.api.dto.RestErrorResponseDto;
+import com.subjects.votingservice.api.dto.vote.VoteReceiptResponseDto;
+import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
+import com.subjects.votingservice.domain.service.VoteReceiptService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+
+import static com.subjects.votingservice.api.constants.HttpConstants.*;
+import static org.springdoc.core.Constants.GET_METHOD;
+import static org.springdoc.core.Constants.POST_METHOD;
+
+/**
+ * Vote receipt controller, accepts votes to be processed later when clients send the {@code Prefer: respond-async}
+ * header.
+ */
+@Tag(name = "Vote Receipt Controller")
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "vote.receipt", name = "enabled", havingValue = "true")
+@RequestMapping(path = "/api/voting-service/v1", produces = MediaType.APPLICATION_JSON_VALUE)
+public class VoteReceiptController {
+
+    private static final String ID = "id";
+
+    private final VoteReceiptService voteReceiptService;
+
+    /**
+     * Accepts a vote to be validated and saved later.
+     *
+     * @param voteRequestDto {@link VoteRequestDto} vote request data transfer object
+     * @return {@link VoteReceiptResponseDto} pending vote receipt
+     */
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(method = POST_METHOD, summary = "Accepts an associate vote for a given voting session, returning a receipt to poll its outcome.")
+    @Parameter(in = ParameterIn.HEADER, name = PREFER_HEADER, required = true, example = RESPOND_ASYNC)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "Vote request data transfer object",
+        required = true,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = VoteRequestDto.class))
+    )
+    @ApiResponse(
+        responseCode = ACCEPTED_REQUEST_CODE,
+        description = ACCEPTED_REQUEST_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = VoteReceiptResponseDto.class))
+    )
+    @ApiResponse(
+        responseCode = BAD_REQUEST_CODE,
+        description = BAD_REQUEST_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
+    )
+    @PostMapping(value = "/vote", headers = PREFER_HEADER + "=" + RESPOND_ASYNC)
+    public VoteReceiptResponseDto submitVote(@Valid @RequestBody VoteRequestDto voteRequestDto) {
+        log.info("Vote request data transfer object {}", voteRequestDto);
+        final VoteReceiptResponseDto voteReceiptResponseDto = voteReceiptService.submit(voteRequestDto);
+        log.info("Vote receipt response data transfer object {}", voteReceiptResponseDto);
+        return voteReceiptResponseDto;
+    }
+
+    /**
+     * Searches vote receipt by id.
+     *
+     * @param id vote receipt id
+     * @return {@link VoteReceiptResponseDto} vote receipt response data transfer object
+     */
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(method = GET_METHOD, summary = "Searches vote receipt by id")
+    @Parameter(in = ParameterIn.PATH, name = ID, required = true)
+    @ApiResponse(
+        responseCode = SUCCESS_REQUEST_CODE,
+        description = SUCCESS_REQUEST_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = VoteReceiptResponseDto.class))
+    )
+    @ApiResponse(
+        responseCode = NOT_FOUND_REQUEST_CODE,
+        description = NOT_FOUND_REQUEST_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
+    )
+    @GetMapping(value = "/vote/receipt/{id}")
+    public VoteReceiptResponseDto findVoteReceipt(@NotBlank @PathVariable(ID) final String id) {
+        log.info("Searching vote receipt by id {}", id);
+        final VoteReceiptResponseDto voteReceiptResponseDto = voteReceiptService.findById(id);
+        log.info("Vote receipt response data transfer object {}", voteReceiptResponseDto);
+        return voteReceiptResponseDto;
+    }
+}
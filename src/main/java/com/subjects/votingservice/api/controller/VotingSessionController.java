@@ -6,6 +6,7 @@ import com.subjects.votingservice.api.dto.RestErrorResponseDto;
 import com.subjects.votingservice.api.dto.session.VotingSessionRequestDto;
 import com.subjects.votingservice.api.dto.session.VotingSessionResponseDto;
 import com.subjects.votingservice.api.dto.session.VotingSessionResultDto;
+import com.subjects.votingservice.infrastructure.cache.VotingSessionResultCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -16,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,6 +31,9 @@ import org.springframework.web.bind.annotation.RestController;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.subjects.votingservice.api.constants.HttpConstants.*;
 import static org.springdoc.core.Constants.GET_METHOD;
@@ -49,6 +54,10 @@ public class VotingSessionController {
 
     private final VotingSessionService votingSessionService;
     private final VoteService voteService;
+    private final VotingSessionResultCache votingSessionResultCache;
+
+    @Qualifier("ioExecutor")
+    private final Executor ioExecutor;
 
     /**
      * Searches voting session by subject code.
@@ -85,8 +94,10 @@ public class VotingSessionController {
     /**
      * Searches voting session result by subject code.
      *
+     * Results of closed voting sessions are written from {@link VotingSessionResultCache} once cached.
+     *
      * @param subjectCode to be used to search voting session
-     * @return {@link VotingSessionResultDto} voting session result data transfer object
+     * @return {@link CompletableFuture} of encoded {@link VotingSessionResultDto} voting session result data transfer object
      */
     @ResponseStatus(HttpStatus.OK)
     @Operation(method = GET_METHOD, summary = "Searches voting session result by subject code")
@@ -106,12 +117,24 @@ public class VotingSessionController {
         description = NOT_FOUND_REQUEST_DESCRIPTION,
         content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
     )
+    @ApiResponse(
+        responseCode = SERVICE_UNAVAILABLE_CODE,
+        description = SERVICE_UNAVAILABLE_DESCRIPTION,
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RestErrorResponseDto.class))
+    )
     @GetMapping(value = "/session/result/{subjectCode}")
-    public VotingSessionResultDto findVotingSessionResults(@NotBlank @PathVariable(SUBJECT_CODE) final String subjectCode) {
+    public CompletableFuture<byte[]> findVotingSessionResults(@NotBlank @PathVariable(SUBJECT_CODE) final String subjectCode) {
         log.info("Searching voting session result by subject code {}", subjectCode);
-        final VotingSessionResultDto votingSessionResultDto = voteService.findVotingSessionResultsBySubjectCode(subjectCode);
-        log.info("Voting session result data transfer object {}", votingSessionResultDto);
-        return votingSessionResultDto;
+        final Optional<byte[]> cachedResult = votingSessionResultCache.find(subjectCode);
+        if (cachedResult.isPresent()) {
+            log.info("Voting session result of subject code {} was found in cache", subjectCode);
+            return CompletableFuture.completedFuture(cachedResult.get());
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            final VotingSessionResultDto votingSessionResultDto = voteService.findVotingSessionResultsBySubjectCode(subjectCode);
+            log.info("Voting session result data transfer object {}", votingSessionResultDto);
+            return votingSessionResultCache.encode(votingSessionResultDto);
+        }, ioExecutor);
     }
 
     /**
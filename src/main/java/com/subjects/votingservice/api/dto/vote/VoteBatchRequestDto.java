@@ -0,0 +1,30 @@
+package com.subjects.votingservice.api.dto.vote;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Vote batch request data transfer object.
+ */
+@Schema(description = "Vote batch request data transfer object.")
+@Data
+@Validated
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VoteBatchRequestDto {
+
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    @Valid
+    @NotEmpty(message = "Votes are required.")
+    @Size(max = MAX_BATCH_SIZE, message = "Votes must not exceed " + MAX_BATCH_SIZE + " items.")
+    @ArraySchema(schema = @Schema(implementation = VoteRequestDto.class), maxItems = MAX_BATCH_SIZE)
+    private List<VoteRequestDto> votes;
+}
@@ -0,0 +1,37 @@
+package com.subjects.votingservice.api.dto.vote;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteOutcome;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Vote batch result data transfer object.
+ */
+@Schema(description = "Vote batch result data transfer object.")
+@Builder
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VoteBatchResultDto {
+
+    @NotBlank(message = "CPF is required.")
+    @Schema(required = true, description = "CPF")
+    private String cpf;
+
+    @NotBlank(message = "Subject code is required.")
+    @Schema(required = true, description = "Subject code")
+    private String subjectCode;
+
+    @NotNull(message = "Outcome is required.")
+    @Schema(required = true, description = "Outcome")
+    private VoteOutcome outcome;
+
+    @Valid
+    @Schema(description = "Registered vote, only present when the vote is accepted")
+    private VoteResponseDto vote;
+}
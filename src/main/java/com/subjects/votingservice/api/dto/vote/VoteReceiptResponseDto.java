@@ -0,0 +1,38 @@
+package com.subjects.votingservice.api.dto.vote;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteOutcome;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteReceiptStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Vote receipt response data transfer object.
+ */
+@Schema(description = "Vote receipt response data transfer object.")
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VoteReceiptResponseDto {
+
+    @NotBlank(message = "Id is required.")
+    @Schema(required = true, description = "Receipt id")
+    private String id;
+
+    @NotBlank(message = "CPF is required.")
+    @Schema(required = true, description = "CPF")
+    private String cpf;
+
+    @NotBlank(message = "Subject code is required.")
+    @Schema(required = true, description = "Subject code")
+    private String subjectCode;
+
+    @NotNull(message = "Status is required.")
+    @Schema(required = true, description = "Status")
+    private VoteReceiptStatus status;
+
+    @Schema(description = "Outcome, only present when the vote is processed")
+    private VoteOutcome outcome;
+}
@@ -0,0 +1,42 @@
+package com.subjects.votingservice.api.endpoint;
+
+import com.subjects.votingservice.api.dto.session.VotingSessionResultDto;
+import com.subjects.votingservice.domain.service.VoteService;
+import com.subjects.votingservice.infrastructure.cache.VotingSessionResultCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Vote tally actuator endpoint, recovering the vote tally of a voting session whose counters drifted from its votes.
+ * <p>
+ * The actuator is not authenticated, so this write operation is not exposed over HTTP by default. Operators expose it
+ * by adding {@code votetallies} to {@code management.endpoints.web.exposure.include}, only on a management port that
+ * is not reachable from clients.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "votetallies")
+public class VoteTallyEndpoint {
+
+    private final VoteService voteService;
+    private final VotingSessionResultCache votingSessionResultCache;
+
+    /**
+     * Recounts the votes of a voting session, resetting its vote tally and evicting its cached result.
+     *
+     * @param subjectCode voting session subject code
+     * @return {@link VotingSessionResultDto} recounted voting session result data transfer object
+     */
+    @WriteOperation
+    public VotingSessionResultDto recount(@Selector String subjectCode) {
+        log.info("Vote tally recount requested for voting session {}", subjectCode);
+        final VotingSessionResultDto votingSessionResultDto = voteService.recountVotingSessionResultsBySubjectCode(subjectCode);
+        votingSessionResultCache.evict(subjectCode);
+        return votingSessionResultDto;
+    }
+}
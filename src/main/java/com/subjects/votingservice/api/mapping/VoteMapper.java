@@ -1,20 +1,25 @@
 package com.subjects.votingservice.api.mapping;
 
-import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.Associate;
+import com.subjects.votingservice.infrastructure.entities.VotingSession;
 import com.subjects.votingservice.api.dto.vote.VoteResponseDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * Vote mapper.
  */
-@Mapper
+@Mapper(uses = VotingSessionMapper.class)
 public interface VoteMapper {
 
     /**
-     * Maps vote response data transfer object from vote entity.
+     * Maps vote response data transfer object from the associate and the voting session of a vote.
      *
-     * @param vote vote entity
+     * @param associate     associate entity
+     * @param votingSession voting session entity
      * @return {@link VoteResponseDto} vote response data transfer object
      */
-    VoteResponseDto voteToVoteResponseDto(Vote vote);
+    @Mapping(source = "associate", target = "associate")
+    @Mapping(source = "votingSession", target = "session")
+    VoteResponseDto toVoteResponseDto(Associate associate, VotingSession votingSession);
 }
@@ -0,0 +1,39 @@
+package com.subjects.votingservice.api.mapping;
+
+import com.subjects.votingservice.api.dto.vote.VoteReceiptResponseDto;
+import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
+import com.subjects.votingservice.infrastructure.entities.VoteReceipt;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Vote receipt mapper.
+ */
+@Mapper
+public interface VoteReceiptMapper {
+
+    /**
+     * Maps pending vote receipt entity from vote request data transfer object.
+     *
+     * @param voteRequestDto vote request data transfer object
+     * @return {@link VoteReceipt} vote receipt entity
+     */
+    @Mapping(target = "status", constant = "PENDING")
+    VoteReceipt voteRequestDtoToVoteReceipt(VoteRequestDto voteRequestDto);
+
+    /**
+     * Maps vote request data transfer object from vote receipt entity.
+     *
+     * @param voteReceipt vote receipt entity
+     * @return {@link VoteRequestDto} vote request data transfer object
+     */
+    VoteRequestDto voteReceiptToVoteRequestDto(VoteReceipt voteReceipt);
+
+    /**
+     * Maps vote receipt response data transfer object from vote receipt entity.
+     *
+     * @param voteReceipt vote receipt entity
+     * @return {@link VoteReceiptResponseDto} vote receipt response data transfer object
+     */
+    VoteReceiptResponseDto voteReceiptToVoteReceiptResponseDto(VoteReceipt voteReceipt);
+}
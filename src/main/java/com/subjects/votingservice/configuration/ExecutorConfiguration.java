@@ -0,0 +1,90 @@
+package com.subjects.votingservice.configuration;
+
+import com.subjects.votingservice.configuration.properties.ExecutorConfigurationProperties;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuration class for executors.
+ * <p>
+ * Tasks run with the request deadline of the thread submitting them.
+ */
+@RequiredArgsConstructor
+@Configuration
+public class ExecutorConfiguration {
+
+    private final ExecutorConfigurationProperties executorConfigurationProperties;
+
+    /**
+     * Vote validation executor bean definition.
+     * <p>
+     * Bounded, once the pool and the queue are full validation steps run on the caller thread.
+     *
+     * @return new instance of {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor voteValidationExecutor() {
+        return buildExecutor(executorConfigurationProperties.getValidation(), "vote-validation-",
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * I/O executor bean definition, running the blocking work of asynchronous endpoints off the servlet threads.
+     * <p>
+     * Bounded, once the pool and the queue are full requests are rejected instead of falling back to servlet threads.
+     *
+     * @return new instance of {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor ioExecutor() {
+        return buildExecutor(executorConfigurationProperties.getIo(), "io-", new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * User info client executor bean definition, completing the requests of the non-blocking user info client.
+     * <p>
+     * Small since no thread waits on the remote service, once the pool and the queue are full the caller completes them.
+     *
+     * @return new instance of {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor userInfoClientExecutor() {
+        return buildExecutor(executorConfigurationProperties.getUserInfoClient(), "user-info-client-",
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * User info remote executor bean definition, sending the requests of the blocking user info client so that they can
+     * be timed out and hedged.
+     * <p>
+     * Separate from the I/O executor so that slow remote calls cannot starve request handling, and sized for two
+     * requests per bulkhead permit to leave room for hedges. It does not queue, once the pool is full requests are
+     * rejected and the user info fallback policy applies.
+     *
+     * @return new instance of {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor userInfoRemoteExecutor() {
+        return buildExecutor(executorConfigurationProperties.getUserInfoRemote(), "user-info-remote-",
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(ExecutorConfigurationProperties.Pool pool,
+                                                 String threadNamePrefix,
+                                                 RejectedExecutionHandler rejectedExecutionHandler) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setTaskDecorator(RequestDeadline::propagate);
+        return executor;
+    }
+}
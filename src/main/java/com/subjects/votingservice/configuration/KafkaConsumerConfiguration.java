@@ -0,0 +1,125 @@
+package com.subjects.votingservice.configuration;
+
+import com.subjects.votingservice.configuration.properties.VoteIngestionConfigurationProperties;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.RetryingBatchErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for the kafka vote ingestion consumer.
+ */
+@EnableKafka
+@RequiredArgsConstructor
+@Configuration
+@ConditionalOnProperty(prefix = "vote.ingestion", name = "enabled", havingValue = "true")
+public class KafkaConsumerConfiguration {
+
+    private final VoteIngestionConfigurationProperties voteIngestionConfigurationProperties;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    @Value(value = "${spring.kafka.bootstrapAddress}")
+    private transient String bootstrapAddress;
+
+    /**
+     * Vote ingestion consumer factory.
+     *
+     * @return {@link ConsumerFactory}
+     */
+    @Bean
+    public ConsumerFactory<String, String> voteIngestionConsumerFactory() {
+        final Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, voteIngestionConfigurationProperties.getGroupId());
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, voteIngestionConfigurationProperties.getMaxPollRecords());
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    /**
+     * Vote ingestion listener container factory, delivering each poll as a batch.
+     * <p>
+     * A failed batch is retried in place up to the configured max attempts, then every record of it is published to
+     * the dead letter topic on the same partition and its offsets are committed, so a poison batch cannot stall the
+     * partition.
+     *
+     * @return {@link ConcurrentKafkaListenerContainerFactory}
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> voteIngestionListenerContainerFactory() {
+        final ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(voteIngestionConsumerFactory());
+        factory.setConcurrency(voteIngestionConfigurationProperties.getConcurrency());
+        factory.setBatchListener(true);
+        factory.setBatchErrorHandler(voteIngestionBatchErrorHandler());
+        return factory;
+    }
+
+    /**
+     * Vote ingestion batch error handler, retrying a failed batch with a fixed back-off before dead lettering it.
+     *
+     * @return {@link RetryingBatchErrorHandler}
+     */
+    public RetryingBatchErrorHandler voteIngestionBatchErrorHandler() {
+        final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+            (record, exception) -> new TopicPartition(voteIngestionConfigurationProperties.getDeadLetterTopic(), record.partition()));
+        final FixedBackOff backOff = new FixedBackOff(voteIngestionConfigurationProperties.getRetryIntervalMilliseconds(),
+            voteIngestionConfigurationProperties.getMaxAttempts() - 1L);
+        return new RetryingBatchErrorHandler(backOff, deadLetterPublishingRecoverer);
+    }
+
+    /**
+     * Vote ingestion topic, keyed by subject code.
+     *
+     * @return {@link NewTopic}
+     */
+    @Bean
+    public NewTopic voteIngestionTopic() {
+        return TopicBuilder.name(voteIngestionConfigurationProperties.getTopic())
+            .partitions(voteIngestionConfigurationProperties.getPartitions())
+            .build();
+    }
+
+    /**
+     * Vote ingestion reply topic, keyed by subject code.
+     *
+     * @return {@link NewTopic}
+     */
+    @Bean
+    public NewTopic voteIngestionReplyTopic() {
+        return TopicBuilder.name(voteIngestionConfigurationProperties.getReplyTopic())
+            .partitions(voteIngestionConfigurationProperties.getPartitions())
+            .build();
+    }
+
+    /**
+     * Vote ingestion dead letter topic, partitioned like the ingestion topic so records keep their partition.
+     *
+     * @return {@link NewTopic}
+     */
+    @Bean
+    public NewTopic voteIngestionDeadLetterTopic() {
+        return TopicBuilder.name(voteIngestionConfigurationProperties.getDeadLetterTopic())
+            .partitions(voteIngestionConfigurationProperties.getPartitions())
+            .build();
+    }
+}
@@ -1,34 +1,134 @@
 package com.subjects.votingservice.configuration;
 
 import com.subjects.votingservice.configuration.handler.RestTemplateResponseErrorHandler;
+import com.subjects.votingservice.configuration.properties.UserInfoHttpClientConfigurationProperties;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
 import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
 import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration class for Rest Template.
  */
+@RequiredArgsConstructor
 @Configuration
 public class RestTemplateConfiguration extends RestTemplateAutoConfiguration {
 
-    private static final int TIME_OUT_MILLISECONDS = 5000;
+    private static final String CONNECTION_POOL_NAME = "userInfoService";
+
+    private final UserInfoHttpClientConfigurationProperties userInfoHttpClientConfigurationProperties;
+
+    /**
+     * Pooled connection manager bean definition, keeping connections to the user info service alive across requests.
+     * Pool usage is published as {@code httpcomponents.httpclient.pool.*} metrics.
+     *
+     * @param meterRegistry meter registry the pool metrics are published to
+     * @return new instance of {@link PoolingHttpClientConnectionManager}
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager connectionManager(MeterRegistry meterRegistry) {
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(userInfoHttpClientConfigurationProperties.getMaxConnectionsTotal());
+        connectionManager.setDefaultMaxPerRoute(userInfoHttpClientConfigurationProperties.getMaxConnectionsPerRoute());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, CONNECTION_POOL_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    /**
+     * HTTP client bean definition.
+     * <p>
+     * Connections are kept alive for as long as the server allows, capped at the configured keep alive, and idle ones
+     * are evicted in the background. Waiting for a pooled connection has its own timeout, separate from the read one.
+     *
+     * @param connectionManager pooled connection manager
+     * @return new instance of {@link CloseableHttpClient}
+     */
+    @Bean
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager) {
+        final long keepAliveMilliseconds = userInfoHttpClientConfigurationProperties.getKeepAliveMilliseconds();
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(userInfoHttpClientConfigurationProperties.getConnectionRequestTimeoutMilliseconds())
+                .build())
+            .setKeepAliveStrategy((response, context) -> {
+                final long serverKeepAliveMilliseconds = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return serverKeepAliveMilliseconds > 0
+                    ? Math.min(serverKeepAliveMilliseconds, keepAliveMilliseconds)
+                    : keepAliveMilliseconds;
+            })
+            .evictExpiredConnections()
+            .evictIdleConnections(userInfoHttpClientConfigurationProperties.getIdleEvictionMilliseconds(), TimeUnit.MILLISECONDS)
+            .build();
+    }
 
     /**
      * Rest template bean definition.
+     * <p>
+     * Requests sent while handling a request are bounded by its deadline, on top of the configured timeouts.
      *
-     * @param builder builder
+     * @param builder    builder
+     * @param httpClient pooled HTTP client
      * @return new instance of {@link RestTemplate}
      */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
         return builder
-            .setConnectTimeout(Duration.ofMillis(TIME_OUT_MILLISECONDS))
-            .setReadTimeout(Duration.ofMillis(TIME_OUT_MILLISECONDS))
+            .requestFactory(() -> new DeadlineHttpComponentsClientHttpRequestFactory(httpClient))
+            .setConnectTimeout(Duration.ofMillis(userInfoHttpClientConfigurationProperties.getConnectTimeoutMilliseconds()))
+            .setReadTimeout(Duration.ofMillis(userInfoHttpClientConfigurationProperties.getReadTimeoutMilliseconds()))
             .errorHandler(new RestTemplateResponseErrorHandler())
             .build();
     }
+
+    /**
+     * Request factory bounding the connect, connection request and read timeouts of each request by the time left
+     * before the request deadline of the current thread.
+     */
+    private static final class DeadlineHttpComponentsClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        DeadlineHttpComponentsClientHttpRequestFactory(CloseableHttpClient httpClient) {
+            super(httpClient);
+        }
+
+        @Override
+        protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+            final OptionalLong remainingMilliseconds = RequestDeadline.remainingMilliseconds();
+            if (remainingMilliseconds.isEmpty()) {
+                return null;
+            }
+            final RequestConfig requestConfig = Optional.ofNullable(createRequestConfig(getHttpClient())).orElse(RequestConfig.DEFAULT);
+            final HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.copy(requestConfig)
+                .setConnectTimeout(bound(requestConfig.getConnectTimeout()))
+                .setConnectionRequestTimeout(bound(requestConfig.getConnectionRequestTimeout()))
+                .setSocketTimeout(bound(requestConfig.getSocketTimeout()))
+                .build());
+            return context;
+        }
+
+        private static int bound(int timeoutMilliseconds) {
+            return (int) RequestDeadline.boundMilliseconds(timeoutMilliseconds > 0 ? timeoutMilliseconds : Integer.MAX_VALUE);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.subjects.votingservice.configuration;
+
+import com.subjects.votingservice.configuration.properties.UserInfoStubConfigurationProperties;
+import com.subjects.votingservice.infrastructure.integration.stub.UserInfoStubServer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuration class for the local user info stub server, started with the {@code user-info-stub} profile so that the
+ * vote path can be load tested without reaching the public user info service.
+ */
+@Configuration
+@Profile("user-info-stub")
+public class UserInfoStubConfiguration {
+
+    /**
+     * User info stub server bean definition.
+     *
+     * @param userInfoStubConfigurationProperties user info stub configuration properties
+     * @return new instance of {@link UserInfoStubServer}
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public UserInfoStubServer userInfoStubServer(UserInfoStubConfigurationProperties userInfoStubConfigurationProperties) {
+        return new UserInfoStubServer(userInfoStubConfigurationProperties);
+    }
+}
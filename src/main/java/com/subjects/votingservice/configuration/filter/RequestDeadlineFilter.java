@@ -0,0 +1,88 @@
+package com.subjects.votingservice.configuration.filter;
+
+import com.subjects.votingservice.configuration.properties.RequestDeadlineConfigurationProperties;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static com.subjects.votingservice.api.constants.HttpConstants.REQUEST_TIMEOUT_HEADER;
+
+/**
+ * Request deadline filter.
+ * <p>
+ * Starts the deadline of each request from its {@code Request-Timeout-Milliseconds} header, or from the configured
+ * default timeout when the header is missing or invalid. Requested timeouts are capped at the configured maximum.
+ * Routes such as batch votes configure their own default and maximum, and requests to excluded paths, such as the
+ * actuator, run without a deadline.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final RequestDeadlineConfigurationProperties requestDeadlineConfigurationProperties;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        final String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        return requestDeadlineConfigurationProperties.getExcludedPaths().stream()
+            .anyMatch(excludedPath -> PATH_MATCHER.match(excludedPath, path));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        RequestDeadline.start(resolveTimeoutMilliseconds(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private long resolveTimeoutMilliseconds(HttpServletRequest request) {
+        final String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        long defaultTimeoutMilliseconds = requestDeadlineConfigurationProperties.getDefaultTimeoutMilliseconds();
+        long maxTimeoutMilliseconds = requestDeadlineConfigurationProperties.getMaxTimeoutMilliseconds();
+        for (RequestDeadlineConfigurationProperties.Route route : requestDeadlineConfigurationProperties.getRoutes()) {
+            if (PATH_MATCHER.match(route.getPath(), path)) {
+                defaultTimeoutMilliseconds = route.getDefaultTimeoutMilliseconds();
+                maxTimeoutMilliseconds = route.getMaxTimeoutMilliseconds();
+                break;
+            }
+        }
+
+        final String requestTimeout = request.getHeader(REQUEST_TIMEOUT_HEADER);
+        if (requestTimeout != null) {
+            try {
+                final long timeoutMilliseconds = Long.parseLong(requestTimeout.trim());
+                if (timeoutMilliseconds > 0) {
+                    return Math.min(timeoutMilliseconds, maxTimeoutMilliseconds);
+                }
+            } catch (NumberFormatException exception) {
+                log.warn("Invalid {} header {}, using the default timeout.", REQUEST_TIMEOUT_HEADER, requestTimeout);
+            }
+        }
+        return defaultTimeoutMilliseconds;
+    }
+}
@@ -3,6 +3,8 @@ package com.subjects.votingservice.configuration.handler;
 import com.subjects.votingservice.domain.exception.AssociateAlreadyRegisteredException;
 import com.subjects.votingservice.domain.exception.AssociateAlreadyVotedException;
 import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.domain.exception.IdempotencyKeyReusedException;
 import com.subjects.votingservice.domain.exception.InvalidDateTimeException;
 import com.subjects.votingservice.domain.exception.NotFoundException;
 import com.subjects.votingservice.domain.exception.SessionAlreadyOpenException;
@@ -25,6 +27,7 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Global exception handler.
@@ -148,6 +151,17 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildRestErrorResponseEntity(HttpStatus.BAD_REQUEST, "Associate unable to vote");
     }
 
+    /**
+     * Handles idempotency key reused exception.
+     *
+     * @return response entity containing error response
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<RestErrorResponseDto> handleIdempotencyKeyReused() {
+        return buildRestErrorResponseEntity(HttpStatus.BAD_REQUEST, "Idempotency key already used with a different request");
+    }
+
     /**
      * Handles invalid date time exception.
      *
@@ -193,6 +207,28 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildRestErrorResponseEntity(HttpStatus.NOT_FOUND, exception.getMessage());
     }
 
+    /**
+     * Handles rejected execution exception, raised when the I/O executor is saturated.
+     *
+     * @return response entity containing error response
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<RestErrorResponseDto> handleRejectedExecution() {
+        return buildRestErrorResponseEntity(HttpStatus.SERVICE_UNAVAILABLE, "Too many requests in progress, try again later");
+    }
+
+    /**
+     * Handles deadline exceeded exception, raised when the request time budget runs out.
+     *
+     * @return response entity containing error response
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public ResponseEntity<RestErrorResponseDto> handleDeadlineExceeded() {
+        return buildRestErrorResponseEntity(HttpStatus.GATEWAY_TIMEOUT, "Request deadline exceeded, the request was abandoned");
+    }
+
     private ResponseEntity<RestErrorResponseDto> buildRestErrorResponseEntity(HttpStatus httpStatus, String errorMessage) {
         log.error(STANDARD_LOG_ERROR, httpStatus, errorMessage);
         final RestErrorResponseDto restErrorResponseDto = new RestErrorResponseDto(httpStatus, errorMessage);
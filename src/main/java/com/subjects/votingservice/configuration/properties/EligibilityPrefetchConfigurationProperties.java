@@ -0,0 +1,32 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for eligibility prefetch properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.prefetch")
+public class EligibilityPrefetchConfigurationProperties {
+
+    private boolean enabled;
+
+    @Positive(message = "Concurrency must be positive")
+    private int concurrency;
+
+    @Positive(message = "Rate per second must be positive")
+    private int ratePerSecond;
+
+    @Positive(message = "Queue capacity must be positive")
+    private int queueCapacity;
+
+    @Positive(message = "Page size must be positive")
+    private int pageSize;
+}
@@ -0,0 +1,53 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+/**
+ * Configuration class for executor properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "executor")
+public class ExecutorConfigurationProperties {
+
+    @Valid
+    @NotNull(message = "Validation executor is required")
+    private Pool validation = new Pool();
+
+    @Valid
+    @NotNull(message = "I/O executor is required")
+    private Pool io = new Pool();
+
+    @Valid
+    @NotNull(message = "User info client executor is required")
+    private Pool userInfoClient = new Pool();
+
+    @Valid
+    @NotNull(message = "User info remote executor is required")
+    private Pool userInfoRemote = new Pool();
+
+    /**
+     * Thread pool properties.
+     */
+    @Data
+    public static class Pool {
+
+        @Positive(message = "Core pool size must be positive")
+        private int corePoolSize;
+
+        @Positive(message = "Max pool size must be positive")
+        private int maxPoolSize;
+
+        @PositiveOrZero(message = "Queue capacity must not be negative")
+        private int queueCapacity;
+    }
+}
@@ -0,0 +1,24 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for vote idempotency properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.idempotency")
+public class IdempotencyConfigurationProperties {
+
+    @Positive(message = "TTL seconds must be positive")
+    private long ttlSeconds;
+
+    @Positive(message = "Maximum size must be positive")
+    private long maximumSize;
+}
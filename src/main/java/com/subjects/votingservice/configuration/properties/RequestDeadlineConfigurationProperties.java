@@ -0,0 +1,55 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration class for request deadline properties.
+ * <p>
+ * Paths are ant patterns matched against the request path within the application. Routes override the default and max
+ * timeouts of the requests they match, the first matching route applies, and requests to excluded paths get no deadline.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "request-deadline")
+public class RequestDeadlineConfigurationProperties {
+
+    @Positive(message = "Default timeout milliseconds must be positive")
+    private long defaultTimeoutMilliseconds;
+
+    @Positive(message = "Max timeout milliseconds must be positive")
+    private long maxTimeoutMilliseconds;
+
+    @NotNull(message = "Excluded paths are required")
+    private List<String> excludedPaths = new ArrayList<>();
+
+    @Valid
+    @NotNull(message = "Routes are required")
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * Route timeout properties.
+     */
+    @Data
+    public static class Route {
+
+        @NotBlank(message = "Route path is required")
+        private String path;
+
+        @Positive(message = "Default timeout milliseconds must be positive")
+        private long defaultTimeoutMilliseconds;
+
+        @Positive(message = "Max timeout milliseconds must be positive")
+        private long maxTimeoutMilliseconds;
+    }
+}
@@ -0,0 +1,30 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for user info cache properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "user-info-service.cache")
+public class UserInfoCacheConfigurationProperties {
+
+    @Positive(message = "Able to vote TTL seconds must be positive")
+    private long ableToVoteTtlSeconds;
+
+    @Positive(message = "Unable to vote TTL seconds must be positive")
+    private long unableToVoteTtlSeconds;
+
+    @Positive(message = "Not found TTL seconds must be positive")
+    private long notFoundTtlSeconds;
+
+    @Positive(message = "Maximum size must be positive")
+    private long maximumSize;
+}
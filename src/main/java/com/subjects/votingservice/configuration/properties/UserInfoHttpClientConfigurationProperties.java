@@ -0,0 +1,39 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for user info HTTP client properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "user-info-service.http-client")
+public class UserInfoHttpClientConfigurationProperties {
+
+    @Positive(message = "Max connections total must be positive")
+    private int maxConnectionsTotal;
+
+    @Positive(message = "Max connections per route must be positive")
+    private int maxConnectionsPerRoute;
+
+    @Positive(message = "Keep alive milliseconds must be positive")
+    private long keepAliveMilliseconds;
+
+    @Positive(message = "Idle eviction milliseconds must be positive")
+    private long idleEvictionMilliseconds;
+
+    @Positive(message = "Connect timeout milliseconds must be positive")
+    private int connectTimeoutMilliseconds;
+
+    @Positive(message = "Connection request timeout milliseconds must be positive")
+    private int connectionRequestTimeoutMilliseconds;
+
+    @Positive(message = "Read timeout milliseconds must be positive")
+    private int readTimeoutMilliseconds;
+}
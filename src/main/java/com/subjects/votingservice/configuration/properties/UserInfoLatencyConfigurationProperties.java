@@ -0,0 +1,41 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for user info latency properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "user-info-service.latency")
+public class UserInfoLatencyConfigurationProperties {
+
+    @Positive(message = "Window seconds must be positive")
+    private long windowSeconds;
+
+    @Positive(message = "Minimum samples must be positive")
+    private long minimumSamples;
+
+    @Positive(message = "Timeout percentile must be positive")
+    @DecimalMax(value = "1.0", message = "Timeout percentile must not be greater than 1")
+    private double timeoutPercentile;
+
+    @Positive(message = "Min timeout milliseconds must be positive")
+    private long minTimeoutMilliseconds;
+
+    @Positive(message = "Max timeout milliseconds must be positive")
+    private long maxTimeoutMilliseconds;
+
+    private boolean hedgingEnabled;
+
+    @Positive(message = "Hedge percentile must be positive")
+    @DecimalMax(value = "1.0", message = "Hedge percentile must not be greater than 1")
+    private double hedgePercentile;
+}
@@ -0,0 +1,31 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Configuration class for user info resilience properties.
+ * <p>
+ * Circuit breaker and bulkhead thresholds are configured under {@code resilience4j.circuitbreaker.instances.userInfoService}
+ * and {@code resilience4j.bulkhead.instances.userInfoService}.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "user-info-service.resilience")
+public class UserInfoResilienceConfigurationProperties {
+
+    @NotNull(message = "Fallback policy is required")
+    private FallbackPolicy fallbackPolicy;
+
+    /**
+     * Fallback policy enumerator, deciding whether associates may vote while the user info service is unavailable.
+     */
+    public enum FallbackPolicy {
+        ALLOW, DENY
+    }
+}
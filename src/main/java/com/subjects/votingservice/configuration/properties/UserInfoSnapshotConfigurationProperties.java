@@ -0,0 +1,25 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for user info eligibility snapshot properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "user-info-service.snapshot")
+public class UserInfoSnapshotConfigurationProperties {
+
+    private String path;
+
+    @Positive(message = "Reload interval seconds must be positive")
+    private long reloadIntervalSeconds;
+
+    private boolean fallbackToRemote;
+}
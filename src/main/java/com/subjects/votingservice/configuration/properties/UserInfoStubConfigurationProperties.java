@@ -0,0 +1,64 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+/**
+ * Configuration class for the local user info stub server properties, used by the {@code user-info-stub} profile.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "user-info-service.stub")
+public class UserInfoStubConfigurationProperties {
+
+    @PositiveOrZero(message = "Port must not be negative")
+    private int port;
+
+    @Positive(message = "Threads must be positive")
+    private int threads;
+
+    @NotNull(message = "Latency distribution is required")
+    private LatencyDistribution latencyDistribution;
+
+    @PositiveOrZero(message = "Min latency milliseconds must not be negative")
+    private long minLatencyMilliseconds;
+
+    @PositiveOrZero(message = "Median latency milliseconds must not be negative")
+    private long medianLatencyMilliseconds;
+
+    @PositiveOrZero(message = "P99 latency milliseconds must not be negative")
+    private long p99LatencyMilliseconds;
+
+    @PositiveOrZero(message = "Error rate must not be negative")
+    @DecimalMax(value = "1.0", message = "Error rate must not be greater than 1")
+    private double errorRate;
+
+    @PositiveOrZero(message = "Not found ratio must not be negative")
+    @DecimalMax(value = "1.0", message = "Not found ratio must not be greater than 1")
+    private double notFoundRatio;
+
+    @PositiveOrZero(message = "Able to vote ratio must not be negative")
+    @DecimalMax(value = "1.0", message = "Able to vote ratio must not be greater than 1")
+    private double ableToVoteRatio;
+
+    private long seed;
+
+    /**
+     * Latency distribution enumerator.
+     * <p>
+     * {@code CONSTANT} always waits the median latency, {@code UNIFORM} waits between the min latency and twice the
+     * median minus the min latency, and {@code LOG_NORMAL} waits the min latency plus a log-normal delay fitted to the
+     * median and p99 latencies.
+     */
+    public enum LatencyDistribution {
+        CONSTANT, UNIFORM, LOG_NORMAL
+    }
+}
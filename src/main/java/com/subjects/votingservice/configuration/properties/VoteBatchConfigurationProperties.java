@@ -0,0 +1,21 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for vote batch properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.batch")
+public class VoteBatchConfigurationProperties {
+
+    @Positive(message = "Eligibility concurrency must be positive")
+    private int eligibilityConcurrency;
+}
@@ -0,0 +1,32 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for vote group commit properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.group-commit")
+public class VoteGroupCommitConfigurationProperties {
+
+    private boolean enabled;
+
+    @Positive(message = "Batch size must be positive")
+    private int batchSize;
+
+    @Positive(message = "Max delay milliseconds must be positive")
+    private long maxDelayMilliseconds;
+
+    @Positive(message = "Queue capacity must be positive")
+    private int queueCapacity;
+
+    @Positive(message = "Commit timeout milliseconds must be positive")
+    private long commitTimeoutMilliseconds;
+}
@@ -0,0 +1,48 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for kafka vote ingestion properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.ingestion")
+public class VoteIngestionConfigurationProperties {
+
+    private boolean enabled;
+
+    @NotBlank(message = "Topic is required")
+    private String topic;
+
+    @NotBlank(message = "Reply topic is required")
+    private String replyTopic;
+
+    @NotBlank(message = "Dead letter topic is required")
+    private String deadLetterTopic;
+
+    @NotBlank(message = "Group id is required")
+    private String groupId;
+
+    @Positive(message = "Partitions must be positive")
+    private int partitions;
+
+    @Positive(message = "Concurrency must be positive")
+    private int concurrency;
+
+    @Positive(message = "Max poll records must be positive")
+    private int maxPollRecords;
+
+    @Positive(message = "Max attempts must be positive")
+    private int maxAttempts;
+
+    @Positive(message = "Retry interval milliseconds must be positive")
+    private long retryIntervalMilliseconds;
+}
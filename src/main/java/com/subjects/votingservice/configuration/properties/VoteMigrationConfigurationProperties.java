@@ -0,0 +1,23 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for vote schema migration properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.migration")
+public class VoteMigrationConfigurationProperties {
+
+    private boolean enabled;
+
+    @Positive(message = "Batch size must be positive")
+    private int batchSize;
+}
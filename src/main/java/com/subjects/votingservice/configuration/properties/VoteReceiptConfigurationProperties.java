@@ -0,0 +1,32 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for vote receipt properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.receipt")
+public class VoteReceiptConfigurationProperties {
+
+    private boolean enabled;
+
+    @Positive(message = "Workers must be positive")
+    private int workers;
+
+    @Positive(message = "Poll delay milliseconds must be positive")
+    private long pollDelayMilliseconds;
+
+    @Positive(message = "Lease seconds must be positive")
+    private long leaseSeconds;
+
+    @Positive(message = "Max attempts must be positive")
+    private int maxAttempts;
+}
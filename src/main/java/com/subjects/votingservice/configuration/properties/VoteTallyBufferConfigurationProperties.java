@@ -0,0 +1,23 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for vote tally buffer properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.tally-buffer")
+public class VoteTallyBufferConfigurationProperties {
+
+    private boolean enabled;
+
+    @Positive(message = "Flush interval milliseconds must be positive")
+    private long flushIntervalMilliseconds;
+}
@@ -0,0 +1,35 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * Configuration class for optimistic vote verification properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.optimistic")
+public class VoteVerificationConfigurationProperties {
+
+    private boolean enabled;
+
+    @Positive(message = "Batch size must be positive")
+    private int batchSize;
+
+    @Positive(message = "Poll delay milliseconds must be positive")
+    private long pollDelayMilliseconds;
+
+    @Positive(message = "Max attempts must be positive")
+    private int maxAttempts;
+
+    @Positive(message = "Retry delay milliseconds must be positive")
+    private long retryDelayMilliseconds;
+
+    @Positive(message = "Max retry delay milliseconds must be positive")
+    private long maxRetryDelayMilliseconds;
+}
@@ -0,0 +1,25 @@
+package com.subjects.votingservice.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+/**
+ * Configuration class for closed voting session result cache properties.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "vote.result-cache")
+public class VotingSessionResultCacheConfigurationProperties {
+
+    @Positive(message = "Maximum bytes must be positive")
+    private long maximumBytes;
+
+    @PositiveOrZero(message = "Grace period milliseconds must not be negative")
+    private long gracePeriodMilliseconds;
+}
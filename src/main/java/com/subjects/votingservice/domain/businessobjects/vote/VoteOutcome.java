@@ -0,0 +1,41 @@
+package com.subjects.votingservice.domain.businessobjects.vote;
+
+import com.subjects.votingservice.domain.exception.AssociateAlreadyVotedException;
+import com.subjects.votingservice.domain.exception.AssociateNotFoundException;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.domain.exception.SessionExpiredException;
+import com.subjects.votingservice.domain.exception.VotingSessionNotFoundException;
+
+import java.util.Optional;
+
+/**
+ * Vote outcome enumerator.
+ */
+public enum VoteOutcome {
+    ACCEPTED, ALREADY_VOTED, UNABLE_TO_VOTE, SESSION_EXPIRED, ASSOCIATE_NOT_FOUND, SESSION_NOT_FOUND, INVALID_REQUEST;
+
+    /**
+     * Gets the outcome of a vote rejected with the given exception.
+     *
+     * @param exception exception thrown while saving the vote
+     * @return {@link Optional} of {@link VoteOutcome}, empty if the exception is not a vote rejection
+     */
+    public static Optional<VoteOutcome> fromRejection(RuntimeException exception) {
+        if (exception instanceof AssociateAlreadyVotedException) {
+            return Optional.of(ALREADY_VOTED);
+        }
+        if (exception instanceof AssociateUnableToVoteException) {
+            return Optional.of(UNABLE_TO_VOTE);
+        }
+        if (exception instanceof SessionExpiredException) {
+            return Optional.of(SESSION_EXPIRED);
+        }
+        if (exception instanceof AssociateNotFoundException) {
+            return Optional.of(ASSOCIATE_NOT_FOUND);
+        }
+        if (exception instanceof VotingSessionNotFoundException) {
+            return Optional.of(SESSION_NOT_FOUND);
+        }
+        return Optional.empty();
+    }
+}
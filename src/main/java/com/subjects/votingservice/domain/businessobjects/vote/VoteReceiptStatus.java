@@ -0,0 +1,8 @@
+package com.subjects.votingservice.domain.businessobjects.vote;
+
+/**
+ * Vote receipt status enumerator.
+ */
+public enum VoteReceiptStatus {
+    PENDING, PROCESSING, COMPLETED, FAILED
+}
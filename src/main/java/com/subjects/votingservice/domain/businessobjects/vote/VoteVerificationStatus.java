@@ -0,0 +1,11 @@
+package com.subjects.votingservice.domain.businessobjects.vote;
+
+/**
+ * Vote verification status enumerator.
+ * <p>
+ * Votes without verification status were verified before being saved. Votes whose eligibility still could not be
+ * determined after the configured max attempts end up unverified, and like revoked ones they do not count.
+ */
+public enum VoteVerificationStatus {
+    PENDING, VERIFIED, REVOKED, UNVERIFIED
+}
@@ -0,0 +1,9 @@
+package com.subjects.votingservice.domain.exception;
+
+/**
+ * Deadline exceeded exception, abandoning a request whose time budget has run out.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    static final long serialVersionUID = -7034897190745766939L;
+}
@@ -0,0 +1,9 @@
+package com.subjects.votingservice.domain.exception;
+
+/**
+ * Idempotency key reused exception.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    static final long serialVersionUID = -7034897190745766939L;
+}
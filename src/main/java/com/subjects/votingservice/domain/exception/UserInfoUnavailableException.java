@@ -0,0 +1,9 @@
+package com.subjects.votingservice.domain.exception;
+
+/**
+ * User info unavailable exception, rejecting the associate while the user info service is unavailable.
+ */
+public class UserInfoUnavailableException extends AssociateUnableToVoteException {
+
+    static final long serialVersionUID = -7034897190745766939L;
+}
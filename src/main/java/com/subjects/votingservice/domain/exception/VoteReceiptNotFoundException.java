@@ -0,0 +1,16 @@
+package com.subjects.votingservice.domain.exception;
+
+/**
+ * Vote receipt not found exception.
+ */
+public class VoteReceiptNotFoundException extends NotFoundException {
+
+    static final long serialVersionUID = -7034897190745766939L;
+
+    /**
+     * Class constructor.
+     */
+    public VoteReceiptNotFoundException() {
+        super("Vote receipt not found");
+    }
+}
@@ -0,0 +1,26 @@
+package com.subjects.votingservice.domain.service;
+
+import com.subjects.votingservice.api.dto.vote.VoteReceiptResponseDto;
+import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
+
+/**
+ * Vote receipt service interface.
+ */
+public interface VoteReceiptService {
+
+    /**
+     * Stores a vote to be validated and saved later.
+     *
+     * @param voteRequestDto {@link VoteRequestDto} vote request data transfer object
+     * @return {@link VoteReceiptResponseDto} pending vote receipt
+     */
+    VoteReceiptResponseDto submit(VoteRequestDto voteRequestDto);
+
+    /**
+     * Searches vote receipt by id.
+     *
+     * @param id vote receipt id
+     * @return {@link VoteReceiptResponseDto} vote receipt response data transfer object
+     */
+    VoteReceiptResponseDto findById(String id);
+}
@@ -1,9 +1,12 @@
 package com.subjects.votingservice.domain.service;
 
 import com.subjects.votingservice.api.dto.session.VotingSessionResultDto;
+import com.subjects.votingservice.api.dto.vote.VoteBatchResultDto;
 import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
 import com.subjects.votingservice.api.dto.vote.VoteResponseDto;
 
+import java.util.List;
+
 /**
  * Vote service interface.
  */
@@ -17,6 +20,15 @@ public interface VoteService {
      */
     VoteResponseDto save(VoteRequestDto voteRequestDto);
 
+    /**
+     * Saves a batch of votes, validating associates, sessions and duplicates with set based queries.
+     * Rejected votes do not prevent the accepted ones from being saved.
+     *
+     * @param voteRequestDtos {@link List} of {@link VoteRequestDto} vote request data transfer object
+     * @return {@link List} of {@link VoteBatchResultDto} vote batch result, one per request and in the same order
+     */
+    List<VoteBatchResultDto> saveAll(List<VoteRequestDto> voteRequestDtos);
+
     /**
      * Searches voting session result by subject code.
      *
@@ -24,4 +36,12 @@ public interface VoteService {
      * @return {@link VotingSessionResultDto} voting session result data transfer object
      */
     VotingSessionResultDto findVotingSessionResultsBySubjectCode(String subjectCode);
+
+    /**
+     * Recounts voting session result by subject code from its votes, resetting the vote tally it is read from.
+     *
+     * @param subjectCode to be used to search voting session
+     * @return {@link VotingSessionResultDto} recounted voting session result data transfer object
+     */
+    VotingSessionResultDto recountVotingSessionResultsBySubjectCode(String subjectCode);
 }
@@ -0,0 +1,197 @@
+package com.subjects.votingservice.domain.service.impl;
+
+import com.subjects.votingservice.configuration.properties.EligibilityPrefetchConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoCacheConfigurationProperties;
+import com.subjects.votingservice.infrastructure.entities.Associate;
+import com.subjects.votingservice.infrastructure.event.VotingSessionOpenedEvent;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
+import com.subjects.votingservice.infrastructure.repository.AssociateRepository;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Eligibility prefetcher.
+ * <p>
+ * Once a voting session is opened, pages through every associate and looks its eligibility up through the user info
+ * service, warming the eligibility cache before the first wave of votes. Lookups are bounded by {@code concurrency} in
+ * flight and {@code ratePerSecond}, and sessions opened while a prefetch is running are prefetched in turn by a single
+ * thread.
+ * <p>
+ * Associates are read by {@code pageSize} pages ranged by id rather than through a single cursor, which the rate limit
+ * would keep idle long enough for the server to time it out on large associate collections. A prefetch pass that would
+ * last longer than the eligibility cache keeps its entries, or that looks up more associates than the cache holds, is
+ * reported when it starts, since its first lookups would be gone before the voting peak.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vote.prefetch", name = "enabled", havingValue = "true")
+public class EligibilityPrefetcher {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 10_000L;
+    private static final long POLL_TIMEOUT_MILLISECONDS = 500L;
+    private static final String ID = "id";
+
+    private final AssociateRepository associateRepository;
+    private final AsyncUserInfoService userInfoService;
+    private final EligibilityPrefetchConfigurationProperties eligibilityPrefetchConfigurationProperties;
+    private final UserInfoCacheConfigurationProperties userInfoCacheConfigurationProperties;
+    private final RateLimiter rateLimiter;
+    private final BlockingQueue<String> pendingSubjectCodes;
+
+    private Thread prefetcher;
+    private volatile boolean running;
+
+    /**
+     * Class constructor.
+     *
+     * @param associateRepository                        associate repository
+     * @param userInfoService                            user info service, the caching one being primary
+     * @param eligibilityPrefetchConfigurationProperties eligibility prefetch configuration properties
+     * @param userInfoCacheConfigurationProperties       user info cache configuration properties
+     */
+    public EligibilityPrefetcher(AssociateRepository associateRepository,
+                                 AsyncUserInfoService userInfoService,
+                                 EligibilityPrefetchConfigurationProperties eligibilityPrefetchConfigurationProperties,
+                                 UserInfoCacheConfigurationProperties userInfoCacheConfigurationProperties) {
+        this.associateRepository = associateRepository;
+        this.userInfoService = userInfoService;
+        this.eligibilityPrefetchConfigurationProperties = eligibilityPrefetchConfigurationProperties;
+        this.userInfoCacheConfigurationProperties = userInfoCacheConfigurationProperties;
+        this.rateLimiter = RateLimiter.of("eligibilityPrefetch", RateLimiterConfig.custom()
+            .limitForPeriod(eligibilityPrefetchConfigurationProperties.getRatePerSecond())
+            .limitRefreshPeriod(Duration.ofSeconds(1))
+            .timeoutDuration(Duration.ofSeconds(1))
+            .build());
+        this.pendingSubjectCodes = new ArrayBlockingQueue<>(eligibilityPrefetchConfigurationProperties.getQueueCapacity());
+    }
+
+    /**
+     * Starts the prefetcher thread.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        prefetcher = new Thread(this::prefetchContinuously, "eligibility-prefetcher");
+        prefetcher.setDaemon(true);
+        prefetcher.start();
+        log.info("Eligibility prefetcher started with {}", eligibilityPrefetchConfigurationProperties);
+    }
+
+    /**
+     * Stops the prefetcher thread, abandoning the pending prefetches.
+     *
+     * @throws InterruptedException if interrupted while waiting for the prefetcher thread
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        prefetcher.interrupt();
+        prefetcher.join(SHUTDOWN_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * Schedules the eligibility prefetch of an opened voting session.
+     *
+     * @param votingSessionOpenedEvent {@link VotingSessionOpenedEvent} voting session opened event
+     */
+    @EventListener
+    public void onVotingSessionOpened(VotingSessionOpenedEvent votingSessionOpenedEvent) {
+        if (!pendingSubjectCodes.offer(votingSessionOpenedEvent.getSubjectCode())) {
+            log.warn("Eligibility prefetch queue is full, skipping session {}", votingSessionOpenedEvent.getSubjectCode());
+        }
+    }
+
+    /**
+     * Looks the eligibility of every associate up, returning once every lookup has completed.
+     *
+     * @param subjectCode subject code of the voting session the prefetch is for
+     * @return number of associates whose eligibility was looked up
+     * @throws InterruptedException if interrupted while waiting for a lookup permit
+     */
+    public long prefetch(String subjectCode) throws InterruptedException {
+        log.info("Prefetching eligibility for voting session {}", subjectCode);
+        checkCacheOutlastsPrefetch(subjectCode);
+        final int concurrency = eligibilityPrefetchConfigurationProperties.getConcurrency();
+        final Pageable pageable = PageRequest.of(0, eligibilityPrefetchConfigurationProperties.getPageSize(), Sort.by(Sort.Direction.ASC, ID));
+        final Semaphore inFlightLookups = new Semaphore(concurrency);
+        final AtomicLong failedLookups = new AtomicLong();
+        long lookups = 0;
+        List<Associate> associates = associateRepository.findAllCpfs(pageable);
+        while (!associates.isEmpty()) {
+            for (Associate associate : associates) {
+                while (!rateLimiter.acquirePermission()) {
+                    log.debug("Waiting for eligibility prefetch rate limit");
+                }
+                inFlightLookups.acquire();
+                lookups++;
+                try {
+                    userInfoService.getUserInfoAsync(associate.getCpf()).whenComplete((userInfoResponseDto, exception) -> {
+                        if (exception != null) {
+                            failedLookups.incrementAndGet();
+                        }
+                        inFlightLookups.release();
+                    });
+                } catch (RuntimeException exception) {
+                    failedLookups.incrementAndGet();
+                    inFlightLookups.release();
+                }
+            }
+            if (associates.size() < pageable.getPageSize()) {
+                break;
+            }
+            associates = associateRepository.findCpfsByIdGreaterThan(associates.get(associates.size() - 1).getId(), pageable);
+        }
+        inFlightLookups.acquire(concurrency);
+        log.info("Prefetched eligibility of {} associates for voting session {}, {} lookups failed", lookups, subjectCode, failedLookups.get());
+        return lookups;
+    }
+
+    private void checkCacheOutlastsPrefetch(String subjectCode) {
+        final long associates = associateRepository.count();
+        final long prefetchSeconds = associates / eligibilityPrefetchConfigurationProperties.getRatePerSecond();
+        // Not found results are kept briefly on purpose, so only the eligibility statuses are expected to last
+        final long shortestTtlSeconds = Math.min(userInfoCacheConfigurationProperties.getAbleToVoteTtlSeconds(),
+            userInfoCacheConfigurationProperties.getUnableToVoteTtlSeconds());
+        if (prefetchSeconds >= shortestTtlSeconds) {
+            log.warn("Eligibility prefetch of {} associates for voting session {} lasts about {} seconds, its first lookups expire from the cache after {} seconds",
+                associates, subjectCode, prefetchSeconds, shortestTtlSeconds);
+        }
+        if (associates > userInfoCacheConfigurationProperties.getMaximumSize()) {
+            log.warn("Eligibility prefetch of {} associates for voting session {} exceeds the cache maximum size of {}",
+                associates, subjectCode, userInfoCacheConfigurationProperties.getMaximumSize());
+        }
+    }
+
+    private void prefetchContinuously() {
+        while (running) {
+            try {
+                final String subjectCode = pendingSubjectCodes.poll(POLL_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+                if (subjectCode != null) {
+                    prefetch(subjectCode);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                log.error("Eligibility prefetch failed", exception);
+            }
+        }
+    }
+}
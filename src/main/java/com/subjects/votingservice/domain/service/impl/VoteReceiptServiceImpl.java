@@ -0,0 +1,46 @@
+package com.subjects.votingservice.domain.service.impl;
+
+import com.subjects.votingservice.api.dto.vote.VoteReceiptResponseDto;
+import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
+import com.subjects.votingservice.api.mapping.VoteReceiptMapper;
+import com.subjects.votingservice.domain.exception.VoteReceiptNotFoundException;
+import com.subjects.votingservice.domain.service.VoteReceiptService;
+import com.subjects.votingservice.infrastructure.entities.VoteReceipt;
+import com.subjects.votingservice.infrastructure.repository.VoteReceiptRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of vote receipt service.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteReceiptServiceImpl implements VoteReceiptService {
+
+    private final VoteReceiptRepository voteReceiptRepository;
+    private final VoteReceiptMapper voteReceiptMapper;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VoteReceiptResponseDto submit(VoteRequestDto voteRequestDto) {
+        log.info("Saving vote receipt from vote request data transfer object {}", voteRequestDto);
+        final VoteReceipt voteReceipt = voteReceiptRepository.insert(voteReceiptMapper.voteRequestDtoToVoteReceipt(voteRequestDto));
+        log.info("Vote receipt {} was saved.", voteReceipt);
+        return voteReceiptMapper.voteReceiptToVoteReceiptResponseDto(voteReceipt);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VoteReceiptResponseDto findById(String id) {
+        log.info("Searching vote receipt by id {}", id);
+        final VoteReceipt voteReceipt = voteReceiptRepository.findById(id).orElseThrow(VoteReceiptNotFoundException::new);
+        log.info("Vote receipt {} was found.", voteReceipt);
+        return voteReceiptMapper.voteReceiptToVoteReceiptResponseDto(voteReceipt);
+    }
+}
@@ -0,0 +1,178 @@
+package com.subjects.votingservice.domain.service.impl;
+
+import com.subjects.votingservice.api.mapping.VoteReceiptMapper;
+import com.subjects.votingservice.configuration.properties.VoteReceiptConfigurationProperties;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteOutcome;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteReceiptStatus;
+import com.subjects.votingservice.domain.service.VoteService;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.VoteReceipt;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Vote receipt worker.
+ * <p>
+ * Worker threads claim pending vote receipts, oldest first, and run them through {@link VoteService}. A claim is a
+ * lease: receipts left processing by a worker that died are claimed again once the lease expires. Rejected votes
+ * complete the receipt with their outcome, other failures are retried up to {@code maxAttempts} times. A receipt
+ * claimed again after its vote was saved is rejected as already voted, so it is completed as accepted when the vote
+ * stored for its associate and voting session has its option and was saved after it was submitted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "vote.receipt", name = "enabled", havingValue = "true")
+public class VoteReceiptWorker {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 10_000L;
+    private static final String ID = "id";
+    private static final String STATUS = "status";
+    private static final String OUTCOME = "outcome";
+    private static final String ATTEMPTS = "attempts";
+    private static final String CLAIM_DATE_TIME = "claimDateTime";
+    private static final String CREATION_DATE_TIME = "creationDateTime";
+    private static final String COMPLETION_DATE_TIME = "completionDateTime";
+
+    private final MongoTemplate mongoTemplate;
+    private final VoteService voteService;
+    private final VoteReceiptMapper voteReceiptMapper;
+    private final VoteReceiptConfigurationProperties voteReceiptConfigurationProperties;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * Starts the worker threads.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int index = 0; index < voteReceiptConfigurationProperties.getWorkers(); index++) {
+            final Thread worker = new Thread(this::work, "vote-receipt-worker-" + index);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Vote receipt workers started with {}", voteReceiptConfigurationProperties);
+    }
+
+    /**
+     * Stops the worker threads, waiting for the receipts being processed.
+     *
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(SHUTDOWN_TIMEOUT_MILLISECONDS);
+        }
+    }
+
+    /**
+     * Claims the oldest pending vote receipt, or one whose claim lease has expired.
+     *
+     * @return claimed {@link VoteReceipt}, {@code null} if there is none
+     */
+    public VoteReceipt claimNext() {
+        final LocalDateTime now = LocalDateTime.now();
+        final Query query = new Query(new Criteria().orOperator(
+            Criteria.where(STATUS).is(VoteReceiptStatus.PENDING),
+            Criteria.where(STATUS).is(VoteReceiptStatus.PROCESSING)
+                .and(CLAIM_DATE_TIME).lt(now.minusSeconds(voteReceiptConfigurationProperties.getLeaseSeconds()))))
+            .with(Sort.by(Sort.Direction.ASC, CREATION_DATE_TIME));
+        final Update update = new Update()
+            .set(STATUS, VoteReceiptStatus.PROCESSING)
+            .set(CLAIM_DATE_TIME, now)
+            .inc(ATTEMPTS, 1);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), VoteReceipt.class);
+    }
+
+    /**
+     * Validates and saves the vote of a claimed receipt, recording its outcome.
+     *
+     * @param voteReceipt claimed vote receipt
+     */
+    public void process(VoteReceipt voteReceipt) {
+        try {
+            voteService.save(voteReceiptMapper.voteReceiptToVoteRequestDto(voteReceipt));
+            complete(voteReceipt, VoteReceiptStatus.COMPLETED, VoteOutcome.ACCEPTED);
+        } catch (RuntimeException exception) {
+            final Optional<VoteOutcome> outcome = VoteOutcome.fromRejection(exception);
+            if (outcome.filter(VoteOutcome.ALREADY_VOTED::equals).isPresent() && isVoteSaved(voteReceipt)) {
+                log.info("Vote of receipt {} was saved by a previous claim.", voteReceipt.getId());
+                complete(voteReceipt, VoteReceiptStatus.COMPLETED, VoteOutcome.ACCEPTED);
+            } else if (outcome.isPresent()) {
+                complete(voteReceipt, VoteReceiptStatus.COMPLETED, outcome.get());
+            } else if (voteReceipt.getAttempts() < voteReceiptConfigurationProperties.getMaxAttempts()) {
+                log.warn("Vote receipt {} failed on attempt {}, it will be retried.", voteReceipt.getId(), voteReceipt.getAttempts(), exception);
+                complete(voteReceipt, VoteReceiptStatus.PENDING, null);
+            } else {
+                log.error("Vote receipt {} failed after {} attempts.", voteReceipt.getId(), voteReceipt.getAttempts(), exception);
+                complete(voteReceipt, VoteReceiptStatus.FAILED, null);
+            }
+        }
+    }
+
+    private void complete(VoteReceipt voteReceipt, VoteReceiptStatus status, VoteOutcome outcome) {
+        final Query ownedClaim = new Query(Criteria.where(ID).is(voteReceipt.getId())
+            .and(CLAIM_DATE_TIME).is(voteReceipt.getClaimDateTime()));
+        final Update update = new Update().set(STATUS, status).set(OUTCOME, outcome);
+        if (VoteReceiptStatus.PENDING != status) {
+            update.set(COMPLETION_DATE_TIME, LocalDateTime.now());
+        }
+        if (mongoTemplate.updateFirst(ownedClaim, update, VoteReceipt.class).getModifiedCount() == 0) {
+            log.warn("Claim of vote receipt {} was lost before it was completed.", voteReceipt.getId());
+        }
+    }
+
+    private boolean isVoteSaved(VoteReceipt voteReceipt) {
+        return mongoTemplate.exists(new Query(Criteria.where("subjectCode").is(voteReceipt.getSubjectCode())
+            .and("cpf").is(voteReceipt.getCpf())
+            .and("option").is(voteReceipt.getOption())
+            .and(CREATION_DATE_TIME).gte(voteReceipt.getCreationDateTime())), Vote.class);
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                final VoteReceipt voteReceipt = claimNext();
+                if (voteReceipt == null) {
+                    Thread.sleep(voteReceiptConfigurationProperties.getPollDelayMilliseconds());
+                } else {
+                    process(voteReceipt);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                log.error("Unable to claim vote receipts.", exception);
+                sleep();
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(voteReceiptConfigurationProperties.getPollDelayMilliseconds());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,44 +1,89 @@
 package com.subjects.votingservice.domain.service.impl;
 
 import com.subjects.votingservice.configuration.properties.KafkaConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VoteBatchConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VoteVerificationConfigurationProperties;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteOutcome;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteVerificationStatus;
 import com.subjects.votingservice.domain.exception.AssociateAlreadyVotedException;
 import com.subjects.votingservice.domain.exception.AssociateNotFoundException;
 import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
 import com.subjects.votingservice.domain.exception.SessionExpiredException;
 import com.subjects.votingservice.domain.exception.VotingSessionNotFoundException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
 import com.subjects.votingservice.infrastructure.integration.UserInfoService;
 import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
 import com.subjects.votingservice.api.mapping.VoteMapper;
 import com.subjects.votingservice.api.mapping.VotingSessionMapper;
 import com.subjects.votingservice.infrastructure.entities.Associate;
 import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.VoteTally;
 import com.subjects.votingservice.infrastructure.entities.VotingSession;
+import com.subjects.votingservice.infrastructure.persistence.VoteSchemaMigration;
+import com.subjects.votingservice.infrastructure.persistence.VoteTallyBuffer;
+import com.subjects.votingservice.infrastructure.persistence.VoteTallyStore;
+import com.subjects.votingservice.infrastructure.persistence.VoteWriter;
 import com.subjects.votingservice.infrastructure.repository.AssociateRepository;
 import com.subjects.votingservice.infrastructure.repository.VoteRepository;
+import com.subjects.votingservice.infrastructure.repository.VoteTallyRepository;
 import com.subjects.votingservice.infrastructure.repository.VotingSessionRepository;
 import com.subjects.votingservice.domain.service.VoteService;
 import com.subjects.votingservice.api.dto.session.VotingSessionResultDto;
+import com.subjects.votingservice.api.dto.vote.VoteBatchResultDto;
 import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
 import com.subjects.votingservice.api.dto.vote.VoteResponseDto;
 import com.subjects.votingservice.infrastructure.event.VotingSessionResultEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.ResourceAccessException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
 import static com.subjects.votingservice.api.dto.session.VotingSessionResponseDto.Status.CLOSED;
 
 /**
  * Implementation of vote service.
+ * <p>
+ * With optimistic voting enabled votes are saved after the local checks only, pending the eligibility check of
+ * {@link VoteVerifier}. Results only count verified votes. Votes are not written once the request deadline has passed.
+ * Until the vote schema migration is completed, votes of associates with a legacy vote in the session are rejected too,
+ * since the unique index on the slim schema does not cover legacy votes.
+ * <p>
+ * The associate lookup, the eligibility check and the voting session lookup of a vote run concurrently, and the first
+ * of them to fail rejects the vote without waiting for the others. The rejection reported is the one of highest
+ * precedence among the checks failed by then: associate not found, then unable to vote, then session not found or
+ * expired. Checks still queued are skipped, while calls already running are left to finish in the background.
+ * <p>
+ * Results are read from the vote tally of the session, into which saved votes are counted through
+ * {@link VoteTallyBuffer}. Votes are saved uncounted and {@link VoteTallyStore} claims each of them for the tally once,
+ * so that a count overlapping a recount never adds a vote twice. Sessions without a complete tally have their votes
+ * recounted on the first read, and reads of expired sessions count the votes left uncounted by abandoned writes or a
+ * crash first.
  */
 @Slf4j
 @Service
@@ -46,29 +91,137 @@ import static com.subjects.votingservice.api.dto.session.VotingSessionResponseDt
 @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
 public class VoteServiceImpl implements VoteService {
 
+    private static final int MAX_RECOUNT_ATTEMPTS = 3;
+
     private final UserInfoService userInfoService;
     private final VoteRepository voteRepository;
+    private final VoteWriter voteWriter;
+    private final VoteSchemaMigration voteSchemaMigration;
+    private final VoteTallyRepository voteTallyRepository;
+    private final VoteTallyStore voteTallyStore;
+    private final VoteTallyBuffer voteTallyBuffer;
     private final VotingSessionRepository votingSessionRepository;
     private final AssociateRepository associateRepository;
 
+    @Qualifier("voteValidationExecutor")
+    private final Executor voteValidationExecutor;
+
     private final VoteMapper voteMapper;
     private final VotingSessionMapper votingSessionMapper;
 
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final VoteVerificationConfigurationProperties voteVerificationConfigurationProperties;
+    private final VoteBatchConfigurationProperties voteBatchConfigurationProperties;
 
     /**
      * {@inheritDoc}
      */
     @Override
     public VoteResponseDto save(VoteRequestDto voteRequestDto) {
-        final Associate associate = getValidatedAssociate(voteRequestDto);
-        final VotingSession votingSession = getValidatedVotingSession(voteRequestDto);
-        final Vote vote = new Vote(associate, votingSession, voteRequestDto.getOption());
+        final CompletableFuture<Associate> associateFuture = CompletableFuture.supplyAsync(
+            () -> associateRepository.findOneByCpf(voteRequestDto.getCpf()).orElseThrow(AssociateNotFoundException::new), voteValidationExecutor);
+        final CompletableFuture<VotingSession> votingSessionFuture = CompletableFuture.supplyAsync(
+            () -> getValidatedVotingSession(voteRequestDto), voteValidationExecutor);
+        final CompletableFuture<Boolean> associateAbleToVoteFuture = voteVerificationConfigurationProperties.isEnabled()
+            ? CompletableFuture.completedFuture(true)
+            : isAssociateAbleToVoteAsync(voteRequestDto.getCpf());
+
+        final CompletableFuture<Void> eligibilityFuture = associateAbleToVoteFuture.thenAccept(associateAbleToVote -> {
+            if (!associateAbleToVote) {
+                log.error("Associate with cpf {} is unable to vote", voteRequestDto.getCpf());
+                throw new AssociateUnableToVoteException();
+            }
+        });
+        final List<CompletableFuture<?>> validationFutures = Arrays.asList(associateFuture, eligibilityFuture, votingSessionFuture);
+        try {
+            join(firstFailureOf(validationFutures));
+        } catch (RuntimeException exception) {
+            final RuntimeException rejection = failureByPrecedence(validationFutures, exception);
+            Stream.of(associateFuture, associateAbleToVoteFuture, votingSessionFuture).forEach(future -> future.cancel(false));
+            throw rejection;
+        }
+        final Associate associate = associateFuture.join();
+        final VotingSession votingSession = votingSessionFuture.join();
+
+        RequestDeadline.check();
+        final Vote vote = buildVote(voteRequestDto);
         log.info("Saving vote from vote request data transfer object {}", voteRequestDto);
-        final VoteResponseDto savedVoteResponseDto = voteMapper.voteToVoteResponseDto(voteRepository.save(vote));
+        saveUniqueVote(vote);
         log.info("Vote {} was saved.", vote);
-        return savedVoteResponseDto;
+        countVotes(Collections.singletonList(vote));
+        return voteMapper.toVoteResponseDto(associate, votingSession);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<VoteBatchResultDto> saveAll(List<VoteRequestDto> voteRequestDtos) {
+        log.info("Saving batch of {} votes", voteRequestDtos.size());
+        final Set<String> cpfs = voteRequestDtos.stream().map(VoteRequestDto::getCpf).collect(Collectors.toSet());
+        final Set<String> subjectCodes = voteRequestDtos.stream().map(VoteRequestDto::getSubjectCode).collect(Collectors.toSet());
+
+        final Map<String, Associate> associates = associateRepository.findByCpfIn(cpfs).stream()
+            .collect(Collectors.toMap(Associate::getCpf, Function.identity(), (first, second) -> first));
+        final Map<String, VotingSession> votingSessions = votingSessionRepository.findBySubjectCodeIn(subjectCodes).stream()
+            .collect(Collectors.toMap(votingSession -> votingSession.getSubject().getCode(), Function.identity(), (first, second) -> first));
+        final Set<List<String>> castVotes = Stream.concat(
+            voteRepository.findByCpfInAndSubjectCodeIn(cpfs, subjectCodes).stream(),
+            findLegacyVotes(cpfs, subjectCodes).stream())
+            .map(vote -> buildVoteKey(vote.getCpf(), vote.getSubjectCode()))
+            .collect(Collectors.toCollection(HashSet::new));
+
+        final List<VoteOutcome> localOutcomes = voteRequestDtos.stream()
+            .map(voteRequestDto -> validateBatchVote(voteRequestDto, associates, votingSessions, castVotes))
+            .collect(Collectors.toList());
+        final Map<String, Boolean> eligibility = voteVerificationConfigurationProperties.isEnabled()
+            ? Collections.emptyMap()
+            : findEligibility(IntStream.range(0, voteRequestDtos.size())
+                .filter(index -> VoteOutcome.ACCEPTED == localOutcomes.get(index))
+                .mapToObj(index -> voteRequestDtos.get(index).getCpf())
+                .collect(Collectors.toSet()));
+
+        final List<VoteOutcome> outcomes = new ArrayList<>(voteRequestDtos.size());
+        final List<Vote> acceptedVotes = new ArrayList<>();
+        for (int index = 0; index < voteRequestDtos.size(); index++) {
+            final VoteRequestDto voteRequestDto = voteRequestDtos.get(index);
+            final VoteOutcome outcome = VoteOutcome.ACCEPTED == localOutcomes.get(index)
+                ? validateBatchVoteEligibility(voteRequestDto, castVotes, eligibility)
+                : localOutcomes.get(index);
+            if (VoteOutcome.ACCEPTED == outcome) {
+                castVotes.add(buildVoteKey(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode()));
+                acceptedVotes.add(buildVote(voteRequestDto));
+            }
+            outcomes.add(outcome);
+        }
+
+        RequestDeadline.check();
+        final List<Vote> savedVotes = acceptedVotes.isEmpty() ? Collections.emptyList() : voteWriter.saveAll(acceptedVotes);
+        countVotes(savedVotes);
+        final Set<String> savedVoteIds = savedVotes.stream().map(Vote::getId).collect(Collectors.toSet());
+        log.info("{} of {} votes were saved.", savedVoteIds.size(), voteRequestDtos.size());
+
+        final Iterator<Vote> acceptedVoteIterator = acceptedVotes.iterator();
+        final List<VoteBatchResultDto> voteBatchResultDtos = new ArrayList<>(voteRequestDtos.size());
+        for (int index = 0; index < voteRequestDtos.size(); index++) {
+            final VoteRequestDto voteRequestDto = voteRequestDtos.get(index);
+            final VoteBatchResultDto.VoteBatchResultDtoBuilder voteBatchResultDtoBuilder = VoteBatchResultDto.builder()
+                .cpf(voteRequestDto.getCpf())
+                .subjectCode(voteRequestDto.getSubjectCode())
+                .outcome(outcomes.get(index));
+            if (VoteOutcome.ACCEPTED == outcomes.get(index)) {
+                final Vote acceptedVote = acceptedVoteIterator.next();
+                if (savedVoteIds.contains(acceptedVote.getId())) {
+                    voteBatchResultDtoBuilder.vote(voteMapper.toVoteResponseDto(associates.get(acceptedVote.getCpf()),
+                        votingSessions.get(acceptedVote.getSubjectCode())));
+                } else {
+                    voteBatchResultDtoBuilder.outcome(VoteOutcome.ALREADY_VOTED);
+                }
+            }
+            voteBatchResultDtos.add(voteBatchResultDtoBuilder.build());
+        }
+        return voteBatchResultDtos;
     }
 
     /**
@@ -78,8 +231,13 @@ public class VoteServiceImpl implements VoteService {
     public VotingSessionResultDto findVotingSessionResultsBySubjectCode(String subjectCode) {
         log.info("Searching voting session result by subject code {}", subjectCode);
         final VotingSession votingSession = votingSessionRepository.findOneBySubjectCode(subjectCode).orElseThrow(VotingSessionNotFoundException::new);
-        final List<Vote> votes = voteRepository.findBySessionSubjectCode(subjectCode);
-        final VotingSessionResultDto votingSessionResultDto = buildVotingSessionResultDto(votingSession, votes);
+        if (isVotingSessionActive(votingSession.getExpirationDate())) {
+            voteTallyStore.count(subjectCode);
+        }
+        final VoteTally voteTally = voteTallyRepository.findOneBySubjectCode(subjectCode)
+            .filter(VoteTally::isComplete)
+            .orElseGet(() -> recountVotes(subjectCode));
+        final VotingSessionResultDto votingSessionResultDto = buildVotingSessionResultDto(votingSession, voteTally);
 
         if (kafkaConfigurationProperties.isEnabled()
             && !votingSession.isNotified() && CLOSED.equals(votingSessionResultDto.getSession().getStatus())) {
@@ -92,34 +250,95 @@ public class VoteServiceImpl implements VoteService {
         return votingSessionResultDto;
     }
 
-    private VotingSessionResultDto buildVotingSessionResultDto(VotingSession votingSession, List<Vote> votes) {
-        final Map<Boolean, Long> countingVotesMap = votes.stream()
-            .map(Vote::getOption)
-            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VotingSessionResultDto recountVotingSessionResultsBySubjectCode(String subjectCode) {
+        log.info("Recounting voting session result by subject code {}", subjectCode);
+        final VotingSession votingSession = votingSessionRepository.findOneBySubjectCode(subjectCode).orElseThrow(VotingSessionNotFoundException::new);
+        final VotingSessionResultDto votingSessionResultDto = buildVotingSessionResultDto(votingSession, recountVotes(subjectCode));
+        log.info("Voting session result {} was recounted.", votingSessionResultDto);
+        return votingSessionResultDto;
+    }
+
+    private VoteTally recountVotes(String subjectCode) {
+        Map<Boolean, Long> legacyVotesMap = Collections.emptyMap();
+        for (int attempt = 0; attempt < MAX_RECOUNT_ATTEMPTS; attempt++) {
+            legacyVotesMap = countLegacyVotesByOption(subjectCode);
+            final Optional<VoteTally> voteTally = voteTallyStore.recount(subjectCode,
+                legacyVotesMap.getOrDefault(Boolean.TRUE, 0L),
+                legacyVotesMap.getOrDefault(Boolean.FALSE, 0L));
+            if (voteTally.isPresent()) {
+                return voteTally.get();
+            }
+        }
+        log.warn("Vote tally of voting session {} kept being recounted concurrently, it was left incomplete.", subjectCode);
+        return voteTallyRepository.findOneBySubjectCode(subjectCode).orElseGet(() -> {
+            final VoteTally voteTally = new VoteTally();
+            voteTally.setSubjectCode(subjectCode);
+            return voteTally;
+        });
+    }
+
+    private Map<Boolean, Long> countLegacyVotesByOption(String subjectCode) {
+        if (voteSchemaMigration.isCompleted()) {
+            return Collections.emptyMap();
+        }
+        return voteRepository.countLegacyBySessionSubjectCodeGroupByOption(subjectCode);
+    }
+
+    private void countVotes(List<Vote> votes) {
+        votes.stream()
+            .filter(vote -> vote.getVerification() == null)
+            .map(Vote::getSubjectCode)
+            .distinct()
+            .forEach(voteTallyBuffer::count);
+    }
+
+    private VotingSessionResultDto buildVotingSessionResultDto(VotingSession votingSession, VoteTally voteTally) {
         return VotingSessionResultDto.builder()
             .session(votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSession))
             .resultDto(VotingSessionResultDto.ResultDto.builder()
-                .yes(Optional.ofNullable(countingVotesMap.get(Boolean.TRUE)).orElse(0L))
-                .no(Optional.ofNullable(countingVotesMap.get(Boolean.FALSE)).orElse(0L))
+                .yes(voteTally.getYes())
+                .no(voteTally.getNo())
                 .build())
             .build();
     }
 
-    private Associate getValidatedAssociate(VoteRequestDto voteRequestDto) {
-
-        final Associate associate = associateRepository.findOneByCpf(voteRequestDto.getCpf()).orElseThrow(AssociateNotFoundException::new);
-
-        if (hasAssociateAlreadyVoted(voteRequestDto)) {
-            log.error("Associate already voted");
-            throw new AssociateAlreadyVotedException();
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
         }
+    }
 
-        if (!isAssociateAbleToVote(voteRequestDto.getCpf())) {
-            log.error("Associate with cpf {} is unable to vote", voteRequestDto.getCpf());
-            throw new AssociateUnableToVoteException();
-        }
+    private static CompletableFuture<Void> firstFailureOf(List<CompletableFuture<?>> futures) {
+        final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        futures.forEach(future -> future.whenComplete((result, exception) -> {
+            if (exception != null) {
+                firstFailure.completeExceptionally(exception);
+            }
+        }));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenRun(() -> firstFailure.complete(null));
+        return firstFailure;
+    }
 
-        return associate;
+    private static RuntimeException failureByPrecedence(List<CompletableFuture<?>> futures, RuntimeException firstFailure) {
+        for (CompletableFuture<?> future : futures) {
+            if (future.isCompletedExceptionally()) {
+                try {
+                    join(future);
+                } catch (RuntimeException exception) {
+                    return exception;
+                }
+            }
+        }
+        return firstFailure;
     }
 
     private VotingSession getValidatedVotingSession(VoteRequestDto voteRequestDto) {
@@ -131,6 +350,21 @@ public class VoteServiceImpl implements VoteService {
         return votingSession;
     }
 
+    private CompletableFuture<Boolean> isAssociateAbleToVoteAsync(String cpf) {
+        if (!(userInfoService instanceof AsyncUserInfoService)) {
+            return CompletableFuture.supplyAsync(() -> isAssociateAbleToVote(cpf), voteValidationExecutor);
+        }
+        return ((AsyncUserInfoService) userInfoService).getUserInfoAsync(cpf)
+            .thenApply(userInfoResponseDto -> ABLE_TO_VOTE.equals(userInfoResponseDto.getStatus()))
+            .exceptionally(exception -> {
+                if (exception.getCause() instanceof ResourceAccessException) {
+                    log.error("Get User Info service is taking too long to respond. Enabling associate to vote.");
+                    return true;
+                }
+                throw exception instanceof CompletionException ? (CompletionException) exception : new CompletionException(exception);
+            });
+    }
+
     private boolean isAssociateAbleToVote(String cpf) {
         try {
             final UserInfoResponseDto userInfoResponseDto = userInfoService.getUserInfo(cpf);
@@ -141,8 +375,110 @@ public class VoteServiceImpl implements VoteService {
         }
     }
 
-    private boolean hasAssociateAlreadyVoted(VoteRequestDto voteRequestDto) {
-        return voteRepository.existsByAssociateCpfAndSessionSubjectCode(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode());
+    private VoteOutcome validateBatchVote(VoteRequestDto voteRequestDto,
+                                          Map<String, Associate> associates,
+                                          Map<String, VotingSession> votingSessions,
+                                          Set<List<String>> castVotes) {
+        if (!associates.containsKey(voteRequestDto.getCpf())) {
+            return VoteOutcome.ASSOCIATE_NOT_FOUND;
+        }
+        if (castVotes.contains(buildVoteKey(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode()))) {
+            return VoteOutcome.ALREADY_VOTED;
+        }
+        final VotingSession votingSession = votingSessions.get(voteRequestDto.getSubjectCode());
+        if (votingSession == null) {
+            return VoteOutcome.SESSION_NOT_FOUND;
+        }
+        if (isVotingSessionActive(votingSession.getExpirationDate())) {
+            return VoteOutcome.SESSION_EXPIRED;
+        }
+        return VoteOutcome.ACCEPTED;
+    }
+
+    private VoteOutcome validateBatchVoteEligibility(VoteRequestDto voteRequestDto,
+                                                     Set<List<String>> castVotes,
+                                                     Map<String, Boolean> eligibility) {
+        if (castVotes.contains(buildVoteKey(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode()))) {
+            return VoteOutcome.ALREADY_VOTED;
+        }
+        if (!eligibility.getOrDefault(voteRequestDto.getCpf(), true)) {
+            return VoteOutcome.UNABLE_TO_VOTE;
+        }
+        return VoteOutcome.ACCEPTED;
+    }
+
+    private Map<String, Boolean> findEligibility(Set<String> cpfs) {
+        final Semaphore inFlightLookups = new Semaphore(voteBatchConfigurationProperties.getEligibilityConcurrency());
+        final Map<String, CompletableFuture<Boolean>> lookups = new HashMap<>();
+        try {
+            for (String cpf : cpfs) {
+                inFlightLookups.acquire();
+                CompletableFuture<Boolean> lookup;
+                try {
+                    lookup = isAssociateEligibleAsync(cpf);
+                } catch (RuntimeException exception) {
+                    lookup = CompletableFuture.failedFuture(exception);
+                }
+                lookup.whenComplete((eligible, exception) -> inFlightLookups.release());
+                lookups.put(cpf, lookup);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            lookups.values().forEach(lookup -> lookup.cancel(false));
+            throw new IllegalStateException("Interrupted while checking vote batch eligibility", exception);
+        }
+
+        final Map<String, Boolean> eligibility = new HashMap<>();
+        try {
+            lookups.forEach((cpf, lookup) -> eligibility.put(cpf, join(lookup)));
+        } catch (RuntimeException exception) {
+            lookups.values().forEach(lookup -> lookup.cancel(false));
+            throw exception;
+        }
+        return eligibility;
+    }
+
+    private CompletableFuture<Boolean> isAssociateEligibleAsync(String cpf) {
+        return isAssociateAbleToVoteAsync(cpf).exceptionally(exception -> {
+            final Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            if (cause instanceof AssociateUnableToVoteException) {
+                return false;
+            }
+            throw exception instanceof CompletionException ? (CompletionException) exception : new CompletionException(exception);
+        });
+    }
+
+    private Vote buildVote(VoteRequestDto voteRequestDto) {
+        final Vote vote = new Vote(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode(), voteRequestDto.getOption());
+        vote.setTallyGeneration(0L);
+        if (voteVerificationConfigurationProperties.isEnabled()) {
+            vote.setVerification(VoteVerificationStatus.PENDING);
+        }
+        return vote;
+    }
+
+    private List<String> buildVoteKey(String cpf, String subjectCode) {
+        return Arrays.asList(cpf, subjectCode);
+    }
+
+    private List<Vote> findLegacyVotes(Collection<String> cpfs, Collection<String> subjectCodes) {
+        return voteSchemaMigration.isCompleted()
+            ? Collections.emptyList()
+            : voteRepository.findLegacyByCpfInAndSessionSubjectCodeIn(cpfs, subjectCodes);
+    }
+
+    private void saveUniqueVote(Vote vote) {
+        // legacy votes are never written again, so one migrated since this check is rejected by the unique index instead
+        if (!findLegacyVotes(Collections.singleton(vote.getCpf()), Collections.singleton(vote.getSubjectCode())).isEmpty()) {
+            log.error("Associate already voted");
+            throw new AssociateAlreadyVotedException();
+        }
+        try {
+            voteWriter.save(vote);
+        } catch (DuplicateKeyException exception) {
+            log.error("Associate already voted");
+            throw new AssociateAlreadyVotedException();
+        }
     }
 
     private boolean isVotingSessionActive(LocalDateTime expirationDate) {
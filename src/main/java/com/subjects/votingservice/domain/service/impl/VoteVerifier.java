@@ -0,0 +1,221 @@
+package com.subjects.votingservice.domain.service.impl;
+
+import com.subjects.votingservice.configuration.properties.VoteVerificationConfigurationProperties;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteVerificationStatus;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.domain.exception.UserInfoUnavailableException;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
+import com.subjects.votingservice.infrastructure.integration.UserInfoService;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import com.subjects.votingservice.infrastructure.persistence.VoteTallyStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+
+/**
+ * Vote verifier.
+ * <p>
+ * Re-checks the eligibility of votes saved pending verification in batches, looking each associate up once per batch.
+ * Votes never checked come first, then votes whose next verification date time has passed. Votes of associates able to
+ * vote are verified and the others are revoked. Votes whose eligibility could not be determined, because the user info
+ * service timed out, is unavailable or failed, stay pending and are checked again after an exponentially growing
+ * delay, so that they do not hold back newer votes and an unavailable user info service never lets a vote count. Once
+ * the configured max attempts are used up they are left unverified for good. Verified votes are counted into the vote
+ * tally of their session, and are counted by its next count if the verifier stops before.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "vote.optimistic", name = "enabled", havingValue = "true")
+public class VoteVerifier {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 10_000L;
+    private static final String ID = "id";
+    private static final String VERIFICATION = "verification";
+    private static final String VERIFICATION_ATTEMPTS = "verificationAttempts";
+    private static final String NEXT_VERIFICATION_DATE_TIME = "nextVerificationDateTime";
+    private static final int MAX_RETRY_DELAY_SHIFT = 20;
+
+    private final MongoTemplate mongoTemplate;
+    private final UserInfoService userInfoService;
+    private final VoteTallyStore voteTallyStore;
+    private final VoteVerificationConfigurationProperties voteVerificationConfigurationProperties;
+
+    private Thread verifier;
+    private volatile boolean running;
+
+    /**
+     * Starts the verifier thread.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        verifier = new Thread(this::work, "vote-verifier");
+        verifier.setDaemon(true);
+        verifier.start();
+        log.info("Vote verifier started with {}", voteVerificationConfigurationProperties);
+    }
+
+    /**
+     * Stops the verifier thread, waiting for the batch being verified.
+     *
+     * @throws InterruptedException if interrupted while waiting for the verifier thread
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        verifier.join(SHUTDOWN_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * Verifies the next batch of votes pending verification that are due.
+     *
+     * @return number of votes verified, revoked or left unverified
+     */
+    public int verifyNext() {
+        final LocalDateTime now = LocalDateTime.now();
+        final Query pendingQuery = new Query(Criteria.where(VERIFICATION).is(VoteVerificationStatus.PENDING)
+            .and(NEXT_VERIFICATION_DATE_TIME).not().gt(now))
+            .with(Sort.by(Sort.Direction.ASC, NEXT_VERIFICATION_DATE_TIME))
+            .limit(voteVerificationConfigurationProperties.getBatchSize());
+        pendingQuery.fields().include(ID).include("cpf").include("subjectCode").include("option").include(VERIFICATION_ATTEMPTS);
+        final List<Vote> pendingVotes = mongoTemplate.find(pendingQuery, Vote.class);
+
+        final Map<String, CompletableFuture<UserInfoResponseDto>> userInfos = new HashMap<>();
+        pendingVotes.forEach(vote -> userInfos.computeIfAbsent(vote.getCpf(), this::getUserInfo));
+
+        final List<Vote> verifiedVotes = new ArrayList<>();
+        final List<String> revokedVoteIds = new ArrayList<>();
+        final Map<Integer, List<String>> unresolvedVoteIds = new HashMap<>();
+        for (Vote vote : pendingVotes) {
+            final VoteVerificationStatus verification = toVerification(vote.getCpf(), userInfos.get(vote.getCpf()));
+            if (VoteVerificationStatus.VERIFIED == verification) {
+                verifiedVotes.add(vote);
+            } else if (VoteVerificationStatus.REVOKED == verification) {
+                revokedVoteIds.add(vote.getId());
+            } else {
+                final int attempts = Optional.ofNullable(vote.getVerificationAttempts()).orElse(0) + 1;
+                unresolvedVoteIds.computeIfAbsent(attempts, key -> new ArrayList<>()).add(vote.getId());
+            }
+        }
+
+        long resolved = 0;
+        final Map<String, List<String>> verifiedVoteIds = verifiedVotes.stream()
+            .collect(Collectors.groupingBy(Vote::getSubjectCode, Collectors.mapping(Vote::getId, Collectors.toList())));
+        for (Map.Entry<String, List<String>> sessionVoteIds : verifiedVoteIds.entrySet()) {
+            resolved += complete(sessionVoteIds.getValue(), VoteVerificationStatus.VERIFIED);
+            voteTallyStore.count(sessionVoteIds.getKey());
+        }
+        if (!revokedVoteIds.isEmpty()) {
+            resolved += complete(revokedVoteIds, VoteVerificationStatus.REVOKED);
+            log.warn("Votes {} were revoked, their associates are unable to vote.", revokedVoteIds);
+        }
+        for (Map.Entry<Integer, List<String>> attemptsVoteIds : unresolvedVoteIds.entrySet()) {
+            resolved += retry(attemptsVoteIds.getValue(), attemptsVoteIds.getKey(), now);
+        }
+        return (int) resolved;
+    }
+
+    private long complete(List<String> voteIds, VoteVerificationStatus verification) {
+        return mongoTemplate.updateMulti(stillPending(voteIds), new Update().set(VERIFICATION, verification), Vote.class).getModifiedCount();
+    }
+
+    private long retry(List<String> voteIds, int attempts, LocalDateTime now) {
+        if (attempts >= voteVerificationConfigurationProperties.getMaxAttempts()) {
+            log.error("Votes {} could not be verified after {} attempts, they are left unverified.", voteIds, attempts);
+            return mongoTemplate.updateMulti(stillPending(voteIds), new Update()
+                .set(VERIFICATION, VoteVerificationStatus.UNVERIFIED)
+                .set(VERIFICATION_ATTEMPTS, attempts)
+                .unset(NEXT_VERIFICATION_DATE_TIME), Vote.class).getModifiedCount();
+        }
+        mongoTemplate.updateMulti(stillPending(voteIds), new Update()
+            .set(VERIFICATION_ATTEMPTS, attempts)
+            .set(NEXT_VERIFICATION_DATE_TIME, now.plus(retryDelayMilliseconds(attempts), ChronoUnit.MILLIS)), Vote.class);
+        return 0L;
+    }
+
+    private long retryDelayMilliseconds(int attempts) {
+        final long retryDelayMilliseconds = voteVerificationConfigurationProperties.getRetryDelayMilliseconds()
+            << Math.min(attempts - 1, MAX_RETRY_DELAY_SHIFT);
+        return Math.min(retryDelayMilliseconds, voteVerificationConfigurationProperties.getMaxRetryDelayMilliseconds());
+    }
+
+    private Query stillPending(List<String> voteIds) {
+        return new Query(Criteria.where(ID).in(voteIds).and(VERIFICATION).is(VoteVerificationStatus.PENDING));
+    }
+
+    private CompletableFuture<UserInfoResponseDto> getUserInfo(String cpf) {
+        if (userInfoService instanceof AsyncUserInfoService) {
+            return ((AsyncUserInfoService) userInfoService).getUserInfoAsync(cpf);
+        }
+        try {
+            return CompletableFuture.completedFuture(userInfoService.getUserInfo(cpf));
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    private VoteVerificationStatus toVerification(String cpf, CompletableFuture<UserInfoResponseDto> userInfo) {
+        try {
+            return ABLE_TO_VOTE.equals(userInfo.join().getStatus()) ? VoteVerificationStatus.VERIFIED : VoteVerificationStatus.REVOKED;
+        } catch (CompletionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof ResourceAccessException || cause instanceof UserInfoUnavailableException) {
+                log.warn("Eligibility of associate with cpf {} could not be verified.", cpf);
+                return null;
+            }
+            if (cause instanceof AssociateUnableToVoteException) {
+                return VoteVerificationStatus.REVOKED;
+            }
+            log.error("Unable to verify eligibility of associate with cpf {}.", cpf, cause);
+            return null;
+        }
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                if (verifyNext() < voteVerificationConfigurationProperties.getBatchSize()) {
+                    Thread.sleep(voteVerificationConfigurationProperties.getPollDelayMilliseconds());
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                log.error("Unable to verify pending votes.", exception);
+                sleep();
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(voteVerificationConfigurationProperties.getPollDelayMilliseconds());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
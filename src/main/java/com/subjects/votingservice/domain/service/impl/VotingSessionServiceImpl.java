@@ -11,8 +11,10 @@ import com.subjects.votingservice.infrastructure.repository.VotingSessionReposit
 import com.subjects.votingservice.domain.service.VotingSessionService;
 import com.subjects.votingservice.api.dto.session.VotingSessionRequestDto;
 import com.subjects.votingservice.api.dto.session.VotingSessionResponseDto;
+import com.subjects.votingservice.infrastructure.event.VotingSessionOpenedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
@@ -29,6 +31,7 @@ public class VotingSessionServiceImpl implements VotingSessionService {
     private final VotingSessionRepository votingSessionRepository;
     private final SubjectRepository subjectRepository;
     private final VotingSessionMapper votingSessionMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * {@inheritDoc}
@@ -46,6 +49,7 @@ public class VotingSessionServiceImpl implements VotingSessionService {
         votingSession.setSubject(subject);
         final VotingSessionResponseDto savedVotingSessionResponseDto = votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSessionRepository.save(votingSession));
         log.info("Voting session {} was saved.", votingSession);
+        applicationEventPublisher.publishEvent(new VotingSessionOpenedEvent(subject.getCode(), votingSession.getExpirationDate()));
         return savedVotingSessionResponseDto;
     }
 
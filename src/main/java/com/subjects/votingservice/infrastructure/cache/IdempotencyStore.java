@@ -0,0 +1,98 @@
+package com.subjects.votingservice.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.subjects.votingservice.configuration.properties.IdempotencyConfigurationProperties;
+import com.subjects.votingservice.domain.exception.IdempotencyKeyReusedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency store.
+ * <p>
+ * Keeps the response of each execution by idempotency key for a short time. A request retried with the same key gets
+ * the original response without being executed again, and concurrent requests with the same key wait on the first
+ * in-flight execution. Failed executions are forgotten so that they can be retried.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final Cache<String, IdempotentExecution> executions;
+
+    /**
+     * Class constructor.
+     *
+     * @param idempotencyConfigurationProperties idempotency configuration properties
+     */
+    public IdempotencyStore(IdempotencyConfigurationProperties idempotencyConfigurationProperties) {
+        this.executions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(idempotencyConfigurationProperties.getTtlSeconds()))
+            .maximumSize(idempotencyConfigurationProperties.getMaximumSize())
+            .build();
+    }
+
+    /**
+     * Executes a request once per idempotency key.
+     *
+     * @param idempotencyKey idempotency key
+     * @param request        request, a key reused with a different request is rejected
+     * @param execution      request execution
+     * @param <T>            response type
+     * @return {@link CompletableFuture} of the response of the first execution with the given key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String idempotencyKey, Object request, Supplier<CompletableFuture<T>> execution) {
+        final IdempotentExecution idempotentExecution = new IdempotentExecution(request);
+        final IdempotentExecution existingExecution = executions.asMap().putIfAbsent(idempotencyKey, idempotentExecution);
+        if (existingExecution != null) {
+            if (!existingExecution.getRequest().equals(request)) {
+                log.error("Idempotency key {} was already used with a different request", idempotencyKey);
+                throw new IdempotencyKeyReusedException();
+            }
+            log.info("Replaying execution of idempotency key {}", idempotencyKey);
+            return (CompletableFuture<T>) existingExecution.getResponse();
+        }
+
+        try {
+            execution.get().whenComplete((response, exception) -> complete(idempotencyKey, idempotentExecution, response, exception));
+        } catch (RuntimeException exception) {
+            complete(idempotencyKey, idempotentExecution, null, exception);
+        }
+        return (CompletableFuture<T>) idempotentExecution.getResponse();
+    }
+
+    private void complete(String idempotencyKey, IdempotentExecution idempotentExecution, Object response, Throwable exception) {
+        if (exception == null) {
+            idempotentExecution.getResponse().complete(response);
+        } else {
+            executions.asMap().remove(idempotencyKey, idempotentExecution);
+            idempotentExecution.getResponse().completeExceptionally(exception);
+        }
+    }
+
+    /**
+     * Execution of a request by idempotency key.
+     */
+    private static final class IdempotentExecution {
+
+        private final Object request;
+        private final CompletableFuture<Object> response = new CompletableFuture<>();
+
+        IdempotentExecution(Object request) {
+            this.request = request;
+        }
+
+        Object getRequest() {
+            return request;
+        }
+
+        CompletableFuture<Object> getResponse() {
+            return response;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.subjects.votingservice.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.subjects.votingservice.api.dto.session.VotingSessionResultDto;
+import com.subjects.votingservice.configuration.properties.VoteGroupCommitConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VoteTallyBufferConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VoteVerificationConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VotingSessionResultCacheConfigurationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.subjects.votingservice.api.dto.session.VotingSessionResponseDto.Status.CLOSED;
+
+/**
+ * Closed voting session result cache.
+ * <p>
+ * Results of closed voting sessions no longer change, so they are kept as encoded JSON, without expiration, up to
+ * {@code maximumBytes} of results. Results are not cached while optimistic voting is enabled, since votes still pending
+ * verification may be counted or revoked after the session closes.
+ * <p>
+ * Votes accepted right before the expiration date may still be written, or be counted by a tally flush, after
+ * it. Results are therefore only cached once the expiration date is older than {@code gracePeriodMilliseconds}, extended
+ * by the vote tally buffer flush interval and the vote group commit delay and timeout when these are enabled.
+ */
+@Slf4j
+@Component
+public class VotingSessionResultCache {
+
+    private final Cache<String, byte[]> results;
+    private final ObjectMapper objectMapper;
+    private final VoteVerificationConfigurationProperties voteVerificationConfigurationProperties;
+    private final Duration gracePeriod;
+
+    /**
+     * Class constructor.
+     *
+     * @param votingSessionResultCacheConfigurationProperties closed voting session result cache configuration properties
+     * @param voteVerificationConfigurationProperties         vote verification configuration properties
+     * @param voteTallyBufferConfigurationProperties          vote tally buffer configuration properties
+     * @param voteGroupCommitConfigurationProperties          vote group commit configuration properties
+     * @param objectMapper                                    object mapper
+     */
+    public VotingSessionResultCache(VotingSessionResultCacheConfigurationProperties votingSessionResultCacheConfigurationProperties,
+                                    VoteVerificationConfigurationProperties voteVerificationConfigurationProperties,
+                                    VoteTallyBufferConfigurationProperties voteTallyBufferConfigurationProperties,
+                                    VoteGroupCommitConfigurationProperties voteGroupCommitConfigurationProperties,
+                                    ObjectMapper objectMapper) {
+        this.results = Caffeine.newBuilder()
+            .maximumWeight(votingSessionResultCacheConfigurationProperties.getMaximumBytes())
+            .weigher((String subjectCode, byte[] result) -> result.length)
+            .build();
+        this.objectMapper = objectMapper;
+        this.voteVerificationConfigurationProperties = voteVerificationConfigurationProperties;
+        this.gracePeriod = gracePeriod(votingSessionResultCacheConfigurationProperties,
+            voteTallyBufferConfigurationProperties, voteGroupCommitConfigurationProperties);
+    }
+
+    /**
+     * Finds the encoded result of a closed voting session.
+     *
+     * @param subjectCode voting session subject code
+     * @return {@link Optional} of the encoded {@link VotingSessionResultDto}, empty if not cached
+     */
+    public Optional<byte[]> find(String subjectCode) {
+        return Optional.ofNullable(results.getIfPresent(subjectCode));
+    }
+
+    /**
+     * Encodes a voting session result, caching it when the voting session has been closed for longer than the grace
+     * period.
+     *
+     * @param votingSessionResultDto {@link VotingSessionResultDto} voting session result data transfer object
+     * @return encoded voting session result
+     */
+    public byte[] encode(VotingSessionResultDto votingSessionResultDto) {
+        final byte[] result;
+        try {
+            result = objectMapper.writeValueAsBytes(votingSessionResultDto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!voteVerificationConfigurationProperties.isEnabled() && CLOSED.equals(votingSessionResultDto.getSession().getStatus())
+            && isPastGracePeriod(votingSessionResultDto.getSession().getExpirationDate())) {
+            final String subjectCode = votingSessionResultDto.getSession().getSubject().getCode();
+            log.debug("Caching closed voting session result {}", subjectCode);
+            results.put(subjectCode, result);
+        }
+        return result;
+    }
+
+    /**
+     * Evicts the cached result of a voting session, once its votes have been recounted.
+     *
+     * @param subjectCode voting session subject code
+     */
+    public void evict(String subjectCode) {
+        results.invalidate(subjectCode);
+    }
+
+    private boolean isPastGracePeriod(LocalDateTime expirationDate) {
+        return expirationDate != null && expirationDate.plus(gracePeriod).isBefore(LocalDateTime.now());
+    }
+
+    private static Duration gracePeriod(VotingSessionResultCacheConfigurationProperties votingSessionResultCacheConfigurationProperties,
+                                        VoteTallyBufferConfigurationProperties voteTallyBufferConfigurationProperties,
+                                        VoteGroupCommitConfigurationProperties voteGroupCommitConfigurationProperties) {
+        long gracePeriodMilliseconds = votingSessionResultCacheConfigurationProperties.getGracePeriodMilliseconds();
+        // Saved votes may wait to be counted for a whole flush interval
+        if (voteTallyBufferConfigurationProperties.isEnabled()) {
+            gracePeriodMilliseconds += voteTallyBufferConfigurationProperties.getFlushIntervalMilliseconds();
+        }
+        // Queued votes are written up to the commit timeout, plus the batch delay, after being accepted
+        if (voteGroupCommitConfigurationProperties.isEnabled()) {
+            gracePeriodMilliseconds += voteGroupCommitConfigurationProperties.getCommitTimeoutMilliseconds()
+                + voteGroupCommitConfigurationProperties.getMaxDelayMilliseconds();
+        }
+        return Duration.ofMillis(gracePeriodMilliseconds);
+    }
+}
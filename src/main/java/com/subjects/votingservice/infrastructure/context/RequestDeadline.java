@@ -0,0 +1,127 @@
+package com.subjects.votingservice.infrastructure.context;
+
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Request deadline holder.
+ * <p>
+ * Keeps the deadline of the request being handled by the current thread. Executors carry it over to the tasks they run
+ * through {@link #propagate(Runnable)}, and calls to remote services and Mongo queries are bounded by the time left.
+ * Threads not handling a request, such as background workers, have no deadline.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Starts the deadline of the request handled by the current thread.
+     *
+     * @param timeoutMilliseconds time budget of the request
+     */
+    public static void start(long timeoutMilliseconds) {
+        DEADLINE_NANOS.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds));
+    }
+
+    /**
+     * Clears the deadline of the current thread.
+     */
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * Gets the time left before the deadline of the current thread.
+     *
+     * @return remaining milliseconds, negative once the deadline has passed, empty if there is no deadline
+     */
+    public static OptionalLong remainingMilliseconds() {
+        final Long deadlineNanos = DEADLINE_NANOS.get();
+        return deadlineNanos == null
+            ? OptionalLong.empty()
+            : OptionalLong.of(TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Bounds a timeout by the time left before the deadline of the current thread.
+     *
+     * @param timeoutMilliseconds timeout
+     * @return the smaller of the timeout and the remaining milliseconds
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public static long boundMilliseconds(long timeoutMilliseconds) {
+        final OptionalLong remainingMilliseconds = remainingMilliseconds();
+        if (remainingMilliseconds.isEmpty()) {
+            return timeoutMilliseconds;
+        }
+        if (remainingMilliseconds.getAsLong() <= 0) {
+            throw new DeadlineExceededException();
+        }
+        return Math.min(timeoutMilliseconds, remainingMilliseconds.getAsLong());
+    }
+
+    /**
+     * Abandons the request handled by the current thread if its deadline has passed.
+     *
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public static void check() {
+        boundMilliseconds(Long.MAX_VALUE);
+    }
+
+    /**
+     * Decorates a task so that it runs with the deadline of the thread submitting it.
+     *
+     * @param task task
+     * @return decorated task
+     */
+    public static Runnable propagate(Runnable task) {
+        final Long deadlineNanos = DEADLINE_NANOS.get();
+        if (deadlineNanos == null) {
+            return task;
+        }
+        return () -> {
+            final Long previousDeadlineNanos = DEADLINE_NANOS.get();
+            DEADLINE_NANOS.set(deadlineNanos);
+            try {
+                task.run();
+            } finally {
+                restore(previousDeadlineNanos);
+            }
+        };
+    }
+
+    /**
+     * Runs a task with the deadline of the current thread tightened to the given timeout, so that blocking calls it
+     * makes give up once the caller stops waiting for them.
+     *
+     * @param timeoutMilliseconds time budget of the task
+     * @param task                task
+     * @param <T>                 type of the task result
+     * @return task result
+     */
+    public static <T> T callWithin(long timeoutMilliseconds, Supplier<T> task) {
+        final Long previousDeadlineNanos = DEADLINE_NANOS.get();
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+        DEADLINE_NANOS.set(previousDeadlineNanos == null || deadlineNanos - previousDeadlineNanos < 0 ? deadlineNanos : previousDeadlineNanos);
+        try {
+            return task.get();
+        } finally {
+            restore(previousDeadlineNanos);
+        }
+    }
+
+    private static void restore(Long previousDeadlineNanos) {
+        if (previousDeadlineNanos == null) {
+            DEADLINE_NANOS.remove();
+        } else {
+            DEADLINE_NANOS.set(previousDeadlineNanos);
+        }
+    }
+}
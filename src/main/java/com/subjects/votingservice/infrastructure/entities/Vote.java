@@ -1,34 +1,57 @@
 package com.subjects.votingservice.infrastructure.entities;
 
-import lombok.AllArgsConstructor;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteVerificationStatus;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.validation.annotation.Validated;
 
-import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 
 /**
  * Vote entity.
+ * <p>
+ * Only references the associate and the voting session by their natural keys, the vote response is rebuilt from the
+ * associate and the voting session the vote was validated against. Optimistic votes are saved pending verification
+ * and only count once verified. Failed verification attempts are counted, and the vote is not checked again before its
+ * next verification date time. The tally generation is the generation of the voting session tally the vote was last
+ * counted into, zero until counted and missing on votes saved before tallies were counted by claim.
  */
 @Data
 @Document
-@AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@CompoundIndex(name = "associate_session_index", def = "{'associate.id' : 1, 'session.id': 1}", unique = true)
 @Validated
 public class Vote extends BaseEntity {
 
-    @Valid
-    @NotNull(message = "Associate is required.")
-    private Associate associate;
+    @NotBlank(message = "CPF is required.")
+    private String cpf;
 
-    @Valid
-    @NotNull(message = "Voting session is required.")
-    private VotingSession session;
+    @NotBlank(message = "Subject code is required.")
+    private String subjectCode;
 
     @NotNull(message = "Option is required.")
     private Boolean option;
+
+    private VoteVerificationStatus verification;
+
+    private Integer verificationAttempts;
+
+    private LocalDateTime nextVerificationDateTime;
+
+    private Long tallyGeneration;
+
+    /**
+     * Class constructor.
+     *
+     * @param cpf         associate cpf
+     * @param subjectCode voting session subject code
+     * @param option      option
+     */
+    public Vote(String cpf, String subjectCode, Boolean option) {
+        this.cpf = cpf;
+        this.subjectCode = subjectCode;
+        this.option = option;
+    }
 }
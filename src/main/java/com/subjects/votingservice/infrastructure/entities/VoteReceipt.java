@@ -0,0 +1,45 @@
+package com.subjects.votingservice.infrastructure.entities;
+
+import com.subjects.votingservice.domain.businessobjects.vote.VoteOutcome;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteReceiptStatus;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * Vote receipt entity, a vote accepted for later processing.
+ * <p>
+ * The completion date time is set once the receipt is completed or failed, and expires the receipt after the retention
+ * declared by its index.
+ */
+@Data
+@Document
+@EqualsAndHashCode(callSuper = true)
+@Validated
+public class VoteReceipt extends BaseEntity {
+
+    @NotBlank(message = "CPF is required.")
+    private String cpf;
+
+    @NotBlank(message = "Subject code is required.")
+    private String subjectCode;
+
+    @NotNull(message = "Option is required.")
+    private Boolean option;
+
+    @NotNull(message = "Status is required.")
+    private VoteReceiptStatus status;
+
+    private VoteOutcome outcome;
+
+    private int attempts;
+
+    private LocalDateTime claimDateTime;
+
+    private LocalDateTime completionDateTime;
+}
@@ -0,0 +1,32 @@
+package com.subjects.votingservice.infrastructure.entities;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotBlank;
+
+/**
+ * Vote tally entity, the yes and no counters of a voting session kept up to date as votes are counted.
+ * <p>
+ * Votes are only added to the generation they were claimed for, and every recount starts a new generation. Tallies
+ * created by counts alone, such as those of sessions opened before tallies existed, are not complete until recounted.
+ */
+@Data
+@Document
+@EqualsAndHashCode(callSuper = true)
+@Validated
+public class VoteTally extends BaseEntity {
+
+    @NotBlank(message = "Subject code is required.")
+    private String subjectCode;
+
+    private long yes;
+
+    private long no;
+
+    private long generation;
+
+    private boolean complete;
+}
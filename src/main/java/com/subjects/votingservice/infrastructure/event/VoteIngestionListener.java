@@ -0,0 +1,103 @@
+package com.subjects.votingservice.infrastructure.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subjects.votingservice.api.dto.vote.VoteBatchResultDto;
+import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
+import com.subjects.votingservice.configuration.properties.VoteIngestionConfigurationProperties;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteOutcome;
+import com.subjects.votingservice.domain.service.VoteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.validation.Validator;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Vote ingestion listener.
+ * <p>
+ * Consumes vote requests keyed by subject code, so all votes of a session land on the same partition and are processed
+ * in order. Each poll is saved as a single batch through {@link VoteService#saveAll(List)} and one outcome per record is
+ * published to the reply topic, keyed by subject code. Offsets are only committed once every reply is acknowledged, so
+ * a failed batch is retried and votes already saved are then reported as {@link VoteOutcome#ALREADY_VOTED}. A batch that
+ * still fails after the configured max attempts is published to the dead letter topic.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "vote.ingestion", name = "enabled", havingValue = "true")
+public class VoteIngestionListener {
+
+    private final VoteService voteService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final VoteIngestionConfigurationProperties voteIngestionConfigurationProperties;
+
+    /**
+     * Ingests a batch of vote requests.
+     *
+     * @param records {@link List} of {@link ConsumerRecord} holding vote requests as json
+     */
+    @KafkaListener(topics = "${vote.ingestion.topic}", containerFactory = "voteIngestionListenerContainerFactory")
+    public void ingest(List<ConsumerRecord<String, String>> records) {
+        final List<Optional<VoteRequestDto>> voteRequestDtos = records.stream().map(this::parse).collect(Collectors.toList());
+        final List<VoteRequestDto> validVoteRequestDtos = voteRequestDtos.stream()
+            .flatMap(Optional::stream)
+            .collect(Collectors.toList());
+        final Iterator<VoteBatchResultDto> voteBatchResultDtos = validVoteRequestDtos.isEmpty()
+            ? List.<VoteBatchResultDto>of().iterator()
+            : voteService.saveAll(validVoteRequestDtos).iterator();
+
+        final List<CompletableFuture<?>> replies = new ArrayList<>(records.size());
+        for (int index = 0; index < records.size(); index++) {
+            if (voteRequestDtos.get(index).isPresent()) {
+                final VoteBatchResultDto voteBatchResultDto = voteBatchResultDtos.next();
+                replies.add(reply(voteBatchResultDto.getSubjectCode(), voteBatchResultDto));
+            } else {
+                replies.add(reply(records.get(index).key(), VoteBatchResultDto.builder()
+                    .subjectCode(records.get(index).key())
+                    .outcome(VoteOutcome.INVALID_REQUEST)
+                    .build()));
+            }
+        }
+        CompletableFuture.allOf(replies.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    private Optional<VoteRequestDto> parse(ConsumerRecord<String, String> record) {
+        if (record.value() == null) {
+            return Optional.empty();
+        }
+        try {
+            final VoteRequestDto voteRequestDto = objectMapper.readValue(record.value(), VoteRequestDto.class);
+            if (!validator.validate(voteRequestDto).isEmpty()) {
+                log.warn("Invalid vote request at {}-{}@{}", record.topic(), record.partition(), record.offset());
+                return Optional.empty();
+            }
+            return Optional.of(voteRequestDto);
+        } catch (JsonProcessingException e) {
+            log.warn("Malformed vote request at {}-{}@{}", record.topic(), record.partition(), record.offset());
+            return Optional.empty();
+        }
+    }
+
+    private CompletableFuture<?> reply(String subjectCode, VoteBatchResultDto voteBatchResultDto) {
+        try {
+            final String value = objectMapper.writeValueAsString(voteBatchResultDto);
+            return kafkaTemplate.send(voteIngestionConfigurationProperties.getReplyTopic(), subjectCode, value).completable();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.subjects.votingservice.infrastructure.event;
+
+import lombok.Data;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * Voting session opened event, published in process once a voting session is saved.
+ */
+@Data
+public class VotingSessionOpenedEvent {
+
+    @NotBlank(message = "Subject code is required.")
+    private final String subjectCode;
+
+    @NotNull(message = "Expiration date is required.")
+    private final LocalDateTime expirationDate;
+}
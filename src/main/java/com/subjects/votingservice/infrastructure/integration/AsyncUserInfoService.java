@@ -0,0 +1,35 @@
+package com.subjects.votingservice.infrastructure.integration;
+
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Interface for non-blocking user info service.
+ */
+public interface AsyncUserInfoService extends UserInfoService {
+
+    /**
+     * Gets user information to check its status to vote without blocking the calling thread.
+     *
+     * @param cpf to be used to search user info
+     * @return {@link CompletableFuture} of {@link UserInfoResponseDto} user info response data transfer object
+     */
+    CompletableFuture<UserInfoResponseDto> getUserInfoAsync(String cpf);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default UserInfoResponseDto getUserInfo(String cpf) {
+        try {
+            return getUserInfoAsync(cpf).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+}
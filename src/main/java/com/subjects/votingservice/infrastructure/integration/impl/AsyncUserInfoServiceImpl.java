@@ -0,0 +1,108 @@
+package com.subjects.votingservice.infrastructure.integration.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subjects.votingservice.configuration.properties.UserInfoHttpClientConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoServiceConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking implementation class for user info service, selected with {@code user-info-service.client: async}.
+ * <p>
+ * Requests are multiplexed by the JDK {@link HttpClient} on a handful of threads, so in-flight lookups do not pin a
+ * thread each. Errors are mapped as the blocking implementation does: a not found user info means the associate is
+ * unable to vote and I/O failures, timeouts included, are raised as {@link ResourceAccessException}. Requests time out
+ * at the read timeout or at the request deadline, whichever comes first.
+ */
+@Slf4j
+@Service
+@Qualifier("remoteUserInfoService")
+@ConditionalOnProperty(prefix = "user-info-service", name = "client", havingValue = "async")
+public class AsyncUserInfoServiceImpl implements AsyncUserInfoService {
+
+    private final UserInfoServiceConfigurationProperties userInfoServiceConfigurationProperties;
+    private final UserInfoHttpClientConfigurationProperties userInfoHttpClientConfigurationProperties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    /**
+     * Class constructor.
+     *
+     * @param userInfoServiceConfigurationProperties    user info service configuration properties
+     * @param userInfoHttpClientConfigurationProperties user info HTTP client configuration properties
+     * @param objectMapper                              object mapper
+     * @param userInfoClientExecutor                    executor the HTTP client completes requests on
+     */
+    public AsyncUserInfoServiceImpl(UserInfoServiceConfigurationProperties userInfoServiceConfigurationProperties,
+                                    UserInfoHttpClientConfigurationProperties userInfoHttpClientConfigurationProperties,
+                                    ObjectMapper objectMapper,
+                                    @Qualifier("userInfoClientExecutor") Executor userInfoClientExecutor) {
+        this.userInfoServiceConfigurationProperties = userInfoServiceConfigurationProperties;
+        this.userInfoHttpClientConfigurationProperties = userInfoHttpClientConfigurationProperties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(userInfoHttpClientConfigurationProperties.getConnectTimeoutMilliseconds()))
+            .executor(userInfoClientExecutor)
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<UserInfoResponseDto> getUserInfoAsync(String cpf) {
+        final String url = userInfoServiceConfigurationProperties.getUrl().concat("/").concat(cpf);
+        log.info("User info service request {}", url);
+        final long timeoutMilliseconds = Math.max(1L, Math.min(userInfoHttpClientConfigurationProperties.getReadTimeoutMilliseconds(),
+            RequestDeadline.remainingMilliseconds().orElse(Long.MAX_VALUE)));
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofMillis(timeoutMilliseconds))
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .GET()
+            .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).handle(this::toUserInfoResponseDto);
+    }
+
+    private UserInfoResponseDto toUserInfoResponseDto(HttpResponse<String> response, Throwable exception) {
+        if (exception != null) {
+            final Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            if (cause instanceof IOException) {
+                throw new ResourceAccessException("User info service I/O error: " + cause.getMessage(), (IOException) cause);
+            }
+            throw new CompletionException(cause);
+        }
+        if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+            log.error("User info was not found or CPF is invalid.");
+            throw new AssociateUnableToVoteException();
+        }
+        try {
+            final UserInfoResponseDto userInfoResponseDto = objectMapper.readValue(response.body(), UserInfoResponseDto.class);
+            log.info("User info service response {}", userInfoResponseDto);
+            return userInfoResponseDto;
+        } catch (JsonProcessingException e) {
+            throw new RestClientException("Could not read user info service response with status " + response.statusCode(), e);
+        }
+    }
+}
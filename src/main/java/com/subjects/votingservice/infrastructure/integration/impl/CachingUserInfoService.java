@@ -0,0 +1,148 @@
+package com.subjects.votingservice.infrastructure.integration.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.subjects.votingservice.configuration.properties.UserInfoCacheConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.domain.exception.UserInfoUnavailableException;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+
+/**
+ * Caching implementation class for user info service.
+ * <p>
+ * Keeps the eligibility of each CPF for a while, with separate TTLs for associates able to vote, unable to vote and
+ * not found, so that most votes do not reach the remote user info service. Remote failures are never cached. Hit,
+ * miss and eviction statistics are published as {@code cache.*} metrics tagged with {@code cache=userInfo}.
+ */
+@Slf4j
+@Primary
+@Service
+public class CachingUserInfoService implements AsyncUserInfoService {
+
+    private static final String CACHE_NAME = "userInfo";
+
+    private final AsyncUserInfoService userInfoService;
+    private final Cache<String, CachedUserInfo> userInfos;
+
+    /**
+     * Class constructor.
+     *
+     * @param userInfoService                      single flight user info service
+     * @param userInfoCacheConfigurationProperties user info cache configuration properties
+     * @param meterRegistry                        meter registry the cache statistics are published to
+     */
+    public CachingUserInfoService(@Qualifier("singleFlightUserInfoService") AsyncUserInfoService userInfoService,
+                                  UserInfoCacheConfigurationProperties userInfoCacheConfigurationProperties,
+                                  MeterRegistry meterRegistry) {
+        this.userInfoService = userInfoService;
+        this.userInfos = Caffeine.newBuilder()
+            .maximumSize(userInfoCacheConfigurationProperties.getMaximumSize())
+            .expireAfter(new UserInfoExpiry(userInfoCacheConfigurationProperties))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userInfos, CACHE_NAME);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<UserInfoResponseDto> getUserInfoAsync(String cpf) {
+        final CachedUserInfo cachedUserInfo = userInfos.getIfPresent(cpf);
+        if (cachedUserInfo != null) {
+            return cachedUserInfo.toUserInfoResponse();
+        }
+
+        return userInfoService.getUserInfoAsync(cpf).whenComplete((userInfoResponseDto, exception) -> {
+            final Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            if (cause instanceof AssociateUnableToVoteException && !(cause instanceof UserInfoUnavailableException)) {
+                userInfos.put(cpf, new CachedUserInfo(null));
+            } else if (exception == null && userInfoResponseDto != null && userInfoResponseDto.getStatus() != null) {
+                userInfos.put(cpf, new CachedUserInfo(userInfoResponseDto.getStatus()));
+            }
+        });
+    }
+
+    /**
+     * Gets the user info cache statistics.
+     *
+     * @return {@link CacheStats} hit, miss and eviction statistics
+     */
+    public CacheStats stats() {
+        return userInfos.stats();
+    }
+
+    /**
+     * Cached user info, a missing status meaning the user info was not found.
+     */
+    private static final class CachedUserInfo {
+
+        private final UserInfoResponseDto.StatusEnum status;
+
+        CachedUserInfo(UserInfoResponseDto.StatusEnum status) {
+            this.status = status;
+        }
+
+        UserInfoResponseDto.StatusEnum getStatus() {
+            return status;
+        }
+
+        CompletableFuture<UserInfoResponseDto> toUserInfoResponse() {
+            if (status == null) {
+                return CompletableFuture.failedFuture(new AssociateUnableToVoteException());
+            }
+            final UserInfoResponseDto userInfoResponseDto = new UserInfoResponseDto();
+            userInfoResponseDto.setStatus(status);
+            return CompletableFuture.completedFuture(userInfoResponseDto);
+        }
+    }
+
+    /**
+     * Expires cached user info after the TTL of its status.
+     */
+    private static final class UserInfoExpiry implements Expiry<String, CachedUserInfo> {
+
+        private final long ableToVoteTtlNanoseconds;
+        private final long unableToVoteTtlNanoseconds;
+        private final long notFoundTtlNanoseconds;
+
+        UserInfoExpiry(UserInfoCacheConfigurationProperties userInfoCacheConfigurationProperties) {
+            this.ableToVoteTtlNanoseconds = Duration.ofSeconds(userInfoCacheConfigurationProperties.getAbleToVoteTtlSeconds()).toNanos();
+            this.unableToVoteTtlNanoseconds = Duration.ofSeconds(userInfoCacheConfigurationProperties.getUnableToVoteTtlSeconds()).toNanos();
+            this.notFoundTtlNanoseconds = Duration.ofSeconds(userInfoCacheConfigurationProperties.getNotFoundTtlSeconds()).toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String cpf, CachedUserInfo cachedUserInfo, long currentTime) {
+            if (cachedUserInfo.getStatus() == null) {
+                return notFoundTtlNanoseconds;
+            }
+            return ABLE_TO_VOTE.equals(cachedUserInfo.getStatus()) ? ableToVoteTtlNanoseconds : unableToVoteTtlNanoseconds;
+        }
+
+        @Override
+        public long expireAfterUpdate(String cpf, CachedUserInfo cachedUserInfo, long currentTime, long currentDuration) {
+            return expireAfterCreate(cpf, cachedUserInfo, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String cpf, CachedUserInfo cachedUserInfo, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.subjects.votingservice.infrastructure.integration.impl;
+
+import com.subjects.votingservice.configuration.properties.UserInfoLatencyConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
+import com.subjects.votingservice.infrastructure.integration.UserInfoService;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValuePercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hedging implementation class for user info service.
+ * <p>
+ * Tracks the latency of the remote user info service over a rolling window and times requests out at the configured
+ * percentile, bounded by the configured minimum and maximum, instead of the fixed read timeout. When hedging is enabled
+ * and a request has not been answered by the hedge percentile, a duplicate request is sent and whichever answer arrives
+ * first is taken. Until enough samples are collected within the window the maximum timeout applies and no request is
+ * hedged, so that a window left empty or stale by a quiet period is not trusted. Failed requests are tracked like
+ * answered ones, and requests timed out are tracked at their timeout, so that the percentiles grow when the remote
+ * service degrades instead of only reflecting the requests it still answers in time. Answers
+ * available as soon as the request is sent, such as eligibility snapshot hits, are not remote requests and are not
+ * tracked, so that they do not drag the percentiles down and make every remote request hedged at once. Blocking
+ * remote requests are sent on the dedicated user info remote executor so that they can be timed out and hedged, and
+ * run with their deadline tightened to the timeout so that an abandoned request frees its thread when the caller stops
+ * waiting. A request rejected by the full executor fails like a rejected bulkhead call, while a rejected hedge is simply
+ * not sent. Requests are never waited on past the request deadline, and running out of it abandons the request
+ * instead of falling back.
+ */
+@Slf4j
+@Service
+public class HedgingUserInfoService implements AsyncUserInfoService {
+
+    private static final String LATENCY_METRIC_NAME = "user.info.latency";
+    private static final String HEDGED_REQUESTS_METRIC_NAME = "user.info.hedged.requests";
+
+    private final UserInfoService userInfoService;
+    private final UserInfoLatencyConfigurationProperties userInfoLatencyConfigurationProperties;
+    private final Executor userInfoRemoteExecutor;
+    private final Timer latency;
+    private final AtomicLongArray sampleNanos;
+    private final AtomicLong samples = new AtomicLong();
+    private final Counter hedgedRequests;
+
+    /**
+     * Class constructor.
+     *
+     * @param userInfoService                        remote user info service
+     * @param userInfoLatencyConfigurationProperties user info latency configuration properties
+     * @param userInfoRemoteExecutor                 executor blocking remote requests are sent on
+     * @param meterRegistry                          meter registry the latency distribution is published to
+     */
+    public HedgingUserInfoService(@Qualifier("remoteUserInfoService") UserInfoService userInfoService,
+                                  UserInfoLatencyConfigurationProperties userInfoLatencyConfigurationProperties,
+                                  @Qualifier("userInfoRemoteExecutor") Executor userInfoRemoteExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.userInfoService = userInfoService;
+        this.userInfoLatencyConfigurationProperties = userInfoLatencyConfigurationProperties;
+        this.userInfoRemoteExecutor = userInfoRemoteExecutor;
+        this.latency = Timer.builder(LATENCY_METRIC_NAME)
+            .publishPercentiles(userInfoLatencyConfigurationProperties.getHedgePercentile(),
+                userInfoLatencyConfigurationProperties.getTimeoutPercentile())
+            .distributionStatisticExpiry(Duration.ofSeconds(userInfoLatencyConfigurationProperties.getWindowSeconds()))
+            .register(meterRegistry);
+        this.sampleNanos = new AtomicLongArray((int) userInfoLatencyConfigurationProperties.getMinimumSamples());
+        this.hedgedRequests = Counter.builder(HEDGED_REQUESTS_METRIC_NAME).register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<UserInfoResponseDto> getUserInfoAsync(String cpf) {
+        final HistogramSnapshot snapshot = latency.takeSnapshot();
+        final boolean enoughSamples = hasEnoughSamples();
+        final long latencyTimeoutMilliseconds = enoughSamples
+            ? Math.max(userInfoLatencyConfigurationProperties.getMinTimeoutMilliseconds(),
+                percentileMilliseconds(snapshot, userInfoLatencyConfigurationProperties.getTimeoutPercentile()))
+            : userInfoLatencyConfigurationProperties.getMaxTimeoutMilliseconds();
+        final OptionalLong remainingMilliseconds = RequestDeadline.remainingMilliseconds();
+        if (remainingMilliseconds.isPresent() && remainingMilliseconds.getAsLong() <= 0) {
+            return CompletableFuture.failedFuture(new DeadlineExceededException());
+        }
+        final boolean deadlineBound = remainingMilliseconds.isPresent() && remainingMilliseconds.getAsLong() < latencyTimeoutMilliseconds;
+        final long timeoutMilliseconds = deadlineBound ? remainingMilliseconds.getAsLong() : latencyTimeoutMilliseconds;
+
+        final CompletableFuture<UserInfoResponseDto> answer = new CompletableFuture<>();
+        final AtomicInteger pendingRequests = new AtomicInteger(1);
+        final CompletableFuture<UserInfoResponseDto> request = send(cpf, timeoutMilliseconds, answer, pendingRequests);
+        if (enoughSamples && userInfoLatencyConfigurationProperties.isHedgingEnabled()) {
+            final long hedgeDelayMilliseconds = percentileMilliseconds(snapshot, userInfoLatencyConfigurationProperties.getHedgePercentile());
+            if (hedgeDelayMilliseconds < timeoutMilliseconds) {
+                CompletableFuture.runAsync(RequestDeadline.propagate(() -> {
+                    if (!answer.isDone()) {
+                        pendingRequests.incrementAndGet();
+                        log.debug("Hedging user info request after {} ms", hedgeDelayMilliseconds);
+                        hedgedRequests.increment();
+                        final CompletableFuture<UserInfoResponseDto> hedgedRequest = send(cpf, timeoutMilliseconds - hedgeDelayMilliseconds,
+                            answer, pendingRequests);
+                        answer.whenComplete((userInfoResponseDto, exception) -> hedgedRequest.cancel(false));
+                    }
+                }), CompletableFuture.delayedExecutor(hedgeDelayMilliseconds, TimeUnit.MILLISECONDS));
+            }
+        }
+        answer.whenComplete((userInfoResponseDto, exception) -> request.cancel(false));
+
+        return answer.orTimeout(timeoutMilliseconds, TimeUnit.MILLISECONDS).exceptionally(exception -> {
+            final Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            final boolean timedOut = cause instanceof TimeoutException || cause instanceof DeadlineExceededException;
+            if (timedOut && deadlineBound) {
+                throw new DeadlineExceededException();
+            }
+            if (timedOut) {
+                record(TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds));
+                throw new ResourceAccessException("User info service did not answer within " + timeoutMilliseconds + " ms");
+            }
+            throw exception instanceof CompletionException ? (CompletionException) exception : new CompletionException(exception);
+        });
+    }
+
+    private CompletableFuture<UserInfoResponseDto> send(String cpf,
+                                                        long timeoutMilliseconds,
+                                                        CompletableFuture<UserInfoResponseDto> answer,
+                                                        AtomicInteger pendingRequests) {
+        final long start = System.nanoTime();
+        CompletableFuture<UserInfoResponseDto> request;
+        try {
+            request = userInfoService instanceof AsyncUserInfoService
+                ? ((AsyncUserInfoService) userInfoService).getUserInfoAsync(cpf)
+                : CompletableFuture.supplyAsync(() -> RequestDeadline.callWithin(timeoutMilliseconds, () -> userInfoService.getUserInfo(cpf)),
+                    userInfoRemoteExecutor);
+        } catch (RejectedExecutionException exception) {
+            log.warn("User info remote executor is full: {}", exception.getMessage());
+            request = CompletableFuture.failedFuture(exception);
+        }
+        final boolean remote = !request.isDone();
+        request.whenComplete((userInfoResponseDto, exception) -> {
+            final Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            final boolean answered = cause == null || cause instanceof AssociateUnableToVoteException;
+            if (remote && !(cause instanceof CancellationException || cause instanceof DeadlineExceededException)) {
+                record(System.nanoTime() - start);
+            }
+            if (cause == null) {
+                answer.complete(userInfoResponseDto);
+            } else if (answered || pendingRequests.decrementAndGet() == 0) {
+                answer.completeExceptionally(cause);
+            }
+        });
+        return request;
+    }
+
+    private void record(long nanos) {
+        sampleNanos.set((int) (samples.getAndIncrement() % sampleNanos.length()), System.nanoTime());
+        latency.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private boolean hasEnoughSamples() {
+        final long count = samples.get();
+        if (count < sampleNanos.length()) {
+            return false;
+        }
+        final long oldestSampleNanos = sampleNanos.get((int) (count % sampleNanos.length()));
+        return System.nanoTime() - oldestSampleNanos <= TimeUnit.SECONDS.toNanos(userInfoLatencyConfigurationProperties.getWindowSeconds());
+    }
+
+    private long percentileMilliseconds(HistogramSnapshot snapshot, double percentile) {
+        long milliseconds = userInfoLatencyConfigurationProperties.getMaxTimeoutMilliseconds();
+        for (ValuePercentile valuePercentile : snapshot.percentileValues()) {
+            if (valuePercentile.percentile() == percentile) {
+                milliseconds = (long) Math.ceil(valuePercentile.value(TimeUnit.MILLISECONDS));
+            }
+        }
+        return Math.max(1L, Math.min(milliseconds, userInfoLatencyConfigurationProperties.getMaxTimeoutMilliseconds()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.subjects.votingservice.infrastructure.integration.impl;
+
+import com.subjects.votingservice.configuration.properties.UserInfoResilienceConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.domain.exception.UserInfoUnavailableException;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
+import com.subjects.votingservice.infrastructure.integration.UserInfoService;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resilient implementation class for user info service.
+ * <p>
+ * Guards the remote user info service with a circuit breaker and a concurrency bulkhead, both named
+ * {@code userInfoService}. Failed and slow calls open the circuit, and while it is open or the bulkhead is full the
+ * remote service is not called at all. The configured fallback policy then applies immediately, as it does when the
+ * remote service times out: {@code ALLOW} lets the associate vote and {@code DENY} rejects the vote. Calls rejected
+ * locally because no thread was left to send them are handled like a full bulkhead, they fall back without being
+ * recorded by the circuit breaker. Calls abandoned because the request deadline ran out are neither recorded by the
+ * circuit breaker nor fall back.
+ */
+@Slf4j
+@Service
+public class ResilientUserInfoService implements AsyncUserInfoService {
+
+    private static final String INSTANCE_NAME = "userInfoService";
+
+    private final UserInfoService userInfoService;
+    private final UserInfoResilienceConfigurationProperties userInfoResilienceConfigurationProperties;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    /**
+     * Class constructor.
+     *
+     * @param userInfoService                           hedging user info service
+     * @param userInfoResilienceConfigurationProperties user info resilience configuration properties
+     * @param circuitBreakerRegistry                    circuit breaker registry
+     * @param bulkheadRegistry                          bulkhead registry
+     */
+    public ResilientUserInfoService(@Qualifier("hedgingUserInfoService") UserInfoService userInfoService,
+                                    UserInfoResilienceConfigurationProperties userInfoResilienceConfigurationProperties,
+                                    CircuitBreakerRegistry circuitBreakerRegistry,
+                                    BulkheadRegistry bulkheadRegistry) {
+        this.userInfoService = userInfoService;
+        this.userInfoResilienceConfigurationProperties = userInfoResilienceConfigurationProperties;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<UserInfoResponseDto> getUserInfoAsync(String cpf) {
+        if (!bulkhead.tryAcquirePermission()) {
+            return fallback(BulkheadFullException.createBulkheadFullException(bulkhead));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.onComplete();
+            return fallback(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+        }
+
+        final long start = System.nanoTime();
+        CompletableFuture<UserInfoResponseDto> response;
+        try {
+            response = userInfoService instanceof AsyncUserInfoService
+                ? ((AsyncUserInfoService) userInfoService).getUserInfoAsync(cpf)
+                : CompletableFuture.completedFuture(userInfoService.getUserInfo(cpf));
+        } catch (RuntimeException exception) {
+            response = CompletableFuture.failedFuture(exception);
+        }
+        return response.handle((userInfoResponseDto, exception) -> {
+            bulkhead.onComplete();
+            final long duration = System.nanoTime() - start;
+            final Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            if (cause == null || cause instanceof AssociateUnableToVoteException) {
+                circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+            } else if (cause instanceof DeadlineExceededException || cause instanceof RejectedExecutionException) {
+                circuitBreaker.releasePermission();
+            } else {
+                circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, cause);
+            }
+            if (cause instanceof RejectedExecutionException) {
+                throw new CompletionException(fallbackException((RejectedExecutionException) cause));
+            }
+            if (cause instanceof ResourceAccessException) {
+                throw new CompletionException(toFallbackException((ResourceAccessException) cause));
+            }
+            if (cause != null) {
+                throw new CompletionException(cause);
+            }
+            return userInfoResponseDto;
+        });
+    }
+
+    private CompletableFuture<UserInfoResponseDto> fallback(RuntimeException reason) {
+        return CompletableFuture.failedFuture(fallbackException(reason));
+    }
+
+    private RuntimeException fallbackException(RuntimeException reason) {
+        log.warn("User info service call not permitted: {}", reason.getMessage());
+        return toFallbackException(new ResourceAccessException("User info service is unavailable: " + reason.getMessage()));
+    }
+
+    private RuntimeException toFallbackException(ResourceAccessException exception) {
+        if (UserInfoResilienceConfigurationProperties.FallbackPolicy.DENY == userInfoResilienceConfigurationProperties.getFallbackPolicy()) {
+            log.error("User info service is unavailable. Denying associate to vote.");
+            return new UserInfoUnavailableException();
+        }
+        return exception;
+    }
+}
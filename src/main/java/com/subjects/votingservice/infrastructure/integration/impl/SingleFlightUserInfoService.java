@@ -0,0 +1,67 @@
+package com.subjects.votingservice.infrastructure.integration.impl;
+
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
+import com.subjects.votingservice.infrastructure.integration.UserInfoService;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single flight implementation class for user info service.
+ * <p>
+ * Coalesces concurrent lookups of the same CPF into a single remote request. The first caller performs the request and
+ * the ones arriving while it is in flight wait for it and get the same response or exception. When the remote service
+ * is blocking the first caller performs the request on its own thread.
+ */
+@Slf4j
+@Service
+public class SingleFlightUserInfoService implements AsyncUserInfoService {
+
+    private final UserInfoService userInfoService;
+    private final ConcurrentMap<String, CompletableFuture<UserInfoResponseDto>> inFlightLookups = new ConcurrentHashMap<>();
+
+    /**
+     * Class constructor.
+     *
+     * @param userInfoService resilient user info service
+     */
+    public SingleFlightUserInfoService(@Qualifier("resilientUserInfoService") UserInfoService userInfoService) {
+        this.userInfoService = userInfoService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<UserInfoResponseDto> getUserInfoAsync(String cpf) {
+        final CompletableFuture<UserInfoResponseDto> lookup = new CompletableFuture<>();
+        final CompletableFuture<UserInfoResponseDto> inFlightLookup = inFlightLookups.putIfAbsent(cpf, lookup);
+        if (inFlightLookup != null) {
+            log.debug("Joining in-flight user info lookup");
+            return inFlightLookup;
+        }
+
+        lookup.whenComplete((userInfoResponseDto, exception) -> inFlightLookups.remove(cpf, lookup));
+        try {
+            if (userInfoService instanceof AsyncUserInfoService) {
+                ((AsyncUserInfoService) userInfoService).getUserInfoAsync(cpf).whenComplete((userInfoResponseDto, exception) -> {
+                    if (exception == null) {
+                        lookup.complete(userInfoResponseDto);
+                    } else {
+                        lookup.completeExceptionally(exception);
+                    }
+                });
+            } else {
+                lookup.complete(userInfoService.getUserInfo(cpf));
+            }
+        } catch (RuntimeException | Error exception) {
+            lookup.completeExceptionally(exception);
+        }
+        return lookup;
+    }
+}
@@ -0,0 +1,262 @@
+package com.subjects.votingservice.infrastructure.integration.impl;
+
+import com.subjects.votingservice.configuration.properties.UserInfoHttpClientConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoServiceConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoSnapshotConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
+import com.subjects.votingservice.infrastructure.integration.UserInfoService;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Eligibility snapshot implementation class for user info service, selected with {@code user-info-service.client: snapshot}.
+ * <p>
+ * Looks eligibility up in the eligibility list published by the cooperative, without any network call. The list is a
+ * binary file memory-mapped off heap: a header made of the {@code ELIG} magic number, the format version and the number
+ * of records as a long, followed by one long per associate holding its CPF shifted left by one bit and the able to vote
+ * status in the lowest bit, sorted by CPF. Lookups binary search the mapped records.
+ * <p>
+ * The file is checked for changes every {@code reloadIntervalSeconds} and, once replaced, the new one is mapped and
+ * swapped in atomically; a file that cannot be loaded leaves the current snapshot in place. Publishers should replace it
+ * with an atomic rename. CPFs missing from the list are unable to vote unless {@code fallbackToRemote} is set, in which
+ * case they are looked up in the remote user info service on the user info remote executor, with the deadline of the
+ * caller tightened to the read timeout, so that the caller thread is never blocked and callers can time the lookup out
+ * and hedge it like any other remote request.
+ */
+@Slf4j
+@Service
+@Qualifier("remoteUserInfoService")
+@ConditionalOnProperty(prefix = "user-info-service", name = "client", havingValue = "snapshot")
+public class SnapshotUserInfoService implements AsyncUserInfoService {
+
+    /**
+     * Snapshot file magic number, {@code ELIG} in ASCII.
+     */
+    public static final int MAGIC = 0x454C4947;
+
+    /**
+     * Snapshot file format version.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Snapshot file header size in bytes.
+     */
+    public static final int HEADER_BYTES = 16;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 10_000L;
+    private static final int MAX_CPF_DIGITS = 11;
+
+    private final UserInfoSnapshotConfigurationProperties userInfoSnapshotConfigurationProperties;
+    private final UserInfoService remoteUserInfoService;
+    private final UserInfoHttpClientConfigurationProperties userInfoHttpClientConfigurationProperties;
+    private final Executor userInfoRemoteExecutor;
+    private final AtomicReference<EligibilitySnapshot> snapshot = new AtomicReference<>();
+
+    private Thread reloader;
+    private volatile boolean running;
+
+    /**
+     * Class constructor.
+     *
+     * @param userInfoSnapshotConfigurationProperties user info eligibility snapshot configuration properties
+     * @param userInfoServiceConfigurationProperties    user info service configuration properties, used on fallback
+     * @param userInfoHttpClientConfigurationProperties user info HTTP client configuration properties, used on fallback
+     * @param restTemplate                              rest template, used on fallback
+     * @param userInfoRemoteExecutor                    executor fallback requests are sent on
+     */
+    public SnapshotUserInfoService(UserInfoSnapshotConfigurationProperties userInfoSnapshotConfigurationProperties,
+                                   UserInfoServiceConfigurationProperties userInfoServiceConfigurationProperties,
+                                   UserInfoHttpClientConfigurationProperties userInfoHttpClientConfigurationProperties,
+                                   RestTemplate restTemplate,
+                                   @Qualifier("userInfoRemoteExecutor") Executor userInfoRemoteExecutor) {
+        this.userInfoSnapshotConfigurationProperties = userInfoSnapshotConfigurationProperties;
+        this.remoteUserInfoService = userInfoSnapshotConfigurationProperties.isFallbackToRemote()
+            ? new UserInfoServiceImpl(userInfoServiceConfigurationProperties, restTemplate)
+            : null;
+        this.userInfoHttpClientConfigurationProperties = userInfoHttpClientConfigurationProperties;
+        this.userInfoRemoteExecutor = userInfoRemoteExecutor;
+    }
+
+    /**
+     * Loads the snapshot and starts the reloader thread.
+     */
+    @PostConstruct
+    public void start() {
+        snapshot.set(load(Paths.get(userInfoSnapshotConfigurationProperties.getPath())));
+        running = true;
+        reloader = new Thread(this::reloadContinuously, "eligibility-snapshot-reloader");
+        reloader.setDaemon(true);
+        reloader.start();
+        log.info("Eligibility snapshot loaded with {} associates", snapshot.get().size());
+    }
+
+    /**
+     * Stops the reloader thread.
+     *
+     * @throws InterruptedException if interrupted while waiting for the reloader thread
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (reloader == null) {
+            return;
+        }
+        running = false;
+        reloader.interrupt();
+        reloader.join(SHUTDOWN_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<UserInfoResponseDto> getUserInfoAsync(String cpf) {
+        final Optional<UserInfoResponseDto.StatusEnum> status = snapshot.get().find(cpf);
+        if (status.isPresent()) {
+            final UserInfoResponseDto userInfoResponseDto = new UserInfoResponseDto();
+            userInfoResponseDto.setStatus(status.get());
+            return CompletableFuture.completedFuture(userInfoResponseDto);
+        }
+        if (remoteUserInfoService == null) {
+            log.error("CPF is not in the eligibility snapshot.");
+            return CompletableFuture.failedFuture(new AssociateUnableToVoteException());
+        }
+        final long timeoutMilliseconds;
+        try {
+            timeoutMilliseconds = RequestDeadline.boundMilliseconds(userInfoHttpClientConfigurationProperties.getReadTimeoutMilliseconds());
+        } catch (DeadlineExceededException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        return CompletableFuture.supplyAsync(
+            () -> RequestDeadline.callWithin(timeoutMilliseconds, () -> remoteUserInfoService.getUserInfo(cpf)), userInfoRemoteExecutor);
+    }
+
+    /**
+     * Reloads the snapshot when its file was replaced since it was loaded.
+     *
+     * @return {@code true} if a new snapshot was loaded, {@code false} otherwise
+     */
+    public boolean reload() {
+        final Path path = Paths.get(userInfoSnapshotConfigurationProperties.getPath());
+        try {
+            if (snapshot.get().isLoadedFrom(Files.readAttributes(path, BasicFileAttributes.class))) {
+                return false;
+            }
+            final EligibilitySnapshot reloadedSnapshot = load(path);
+            snapshot.set(reloadedSnapshot);
+            log.info("Eligibility snapshot reloaded with {} associates", reloadedSnapshot.size());
+            return true;
+        } catch (IOException | UncheckedIOException | IllegalStateException exception) {
+            log.error("Eligibility snapshot could not be reloaded, keeping the current one", exception);
+            return false;
+        }
+    }
+
+    private void reloadContinuously() {
+        while (running) {
+            try {
+                TimeUnit.SECONDS.sleep(userInfoSnapshotConfigurationProperties.getReloadIntervalSeconds());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            reload();
+        }
+    }
+
+    private static EligibilitySnapshot load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+                throw new IllegalStateException("Not an eligibility snapshot: " + path);
+            }
+            final long size = buffer.getLong(Integer.BYTES * 2);
+            if (HEADER_BYTES + size * Long.BYTES != buffer.capacity()) {
+                throw new IllegalStateException("Truncated eligibility snapshot: " + path);
+            }
+            return new EligibilitySnapshot(buffer.position(HEADER_BYTES).slice().asLongBuffer(), attributes);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static long toCpfNumber(String cpf) {
+        final String digits = cpf == null ? "" : cpf.replaceAll("\\D", "");
+        return digits.isEmpty() || digits.length() > MAX_CPF_DIGITS ? -1L : Long.parseLong(digits);
+    }
+
+    /**
+     * Memory-mapped eligibility snapshot.
+     */
+    private static final class EligibilitySnapshot {
+
+        private final LongBuffer records;
+        private final BasicFileAttributes attributes;
+
+        EligibilitySnapshot(LongBuffer records, BasicFileAttributes attributes) {
+            this.records = records;
+            this.attributes = attributes;
+        }
+
+        int size() {
+            return records.limit();
+        }
+
+        boolean isLoadedFrom(BasicFileAttributes currentAttributes) {
+            return attributes.lastModifiedTime().equals(currentAttributes.lastModifiedTime())
+                && attributes.size() == currentAttributes.size()
+                && Objects.equals(attributes.fileKey(), currentAttributes.fileKey());
+        }
+
+        Optional<UserInfoResponseDto.StatusEnum> find(String cpf) {
+            final long cpfNumber = toCpfNumber(cpf);
+            if (cpfNumber < 0) {
+                return Optional.empty();
+            }
+            int low = 0;
+            int high = records.limit() - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final long record = records.get(middle);
+                final long middleCpfNumber = record >>> 1;
+                if (middleCpfNumber < cpfNumber) {
+                    low = middle + 1;
+                } else if (middleCpfNumber > cpfNumber) {
+                    high = middle - 1;
+                } else {
+                    return Optional.of((record & 1L) == 1L
+                        ? UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE
+                        : UserInfoResponseDto.StatusEnum.UNABLE_TO_VOTE);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+}
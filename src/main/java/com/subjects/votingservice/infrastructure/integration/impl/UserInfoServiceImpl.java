@@ -5,6 +5,8 @@ import com.subjects.votingservice.infrastructure.integration.UserInfoService;
 import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -13,11 +15,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 /**
- * Implementation class for user info service.
+ * Implementation class for user info service, selected by default or with {@code user-info-service.client: blocking}.
  */
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Qualifier("remoteUserInfoService")
+@ConditionalOnProperty(prefix = "user-info-service", name = "client", havingValue = "blocking", matchIfMissing = true)
 public class UserInfoServiceImpl implements UserInfoService {
 
     private final UserInfoServiceConfigurationProperties userInfoServiceConfigurationProperties;
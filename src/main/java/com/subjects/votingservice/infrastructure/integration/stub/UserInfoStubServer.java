@@ -0,0 +1,152 @@
+package com.subjects.votingservice.infrastructure.integration.stub;
+
+import com.subjects.votingservice.configuration.properties.UserInfoStubConfigurationProperties;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for the user info service, serving {@code GET /users/{cpf}}.
+ * <p>
+ * Whether a cpf is found and able to vote is drawn from a random generator seeded with the configured seed and the
+ * cpf, so that a given cpf always gets the same answer and runs are reproducible. Latency and server errors are drawn
+ * on every request. Responses are delayed on a scheduler rather than on sleeping threads, so slow responses do not cap
+ * the number of concurrent requests.
+ */
+@Slf4j
+public class UserInfoStubServer {
+
+    private static final String PATH = "/users/";
+    private static final int OK = 200;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final int NO_BODY = -1;
+    private static final double P99_STANDARD_SCORE = 2.326;
+    private static final long SEED_MULTIPLIER = 31L;
+
+    private final UserInfoStubConfigurationProperties userInfoStubConfigurationProperties;
+
+    private HttpServer server;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Class constructor.
+     *
+     * @param userInfoStubConfigurationProperties user info stub configuration properties
+     */
+    public UserInfoStubServer(UserInfoStubConfigurationProperties userInfoStubConfigurationProperties) {
+        this.userInfoStubConfigurationProperties = userInfoStubConfigurationProperties;
+    }
+
+    /**
+     * Starts the stub server.
+     *
+     * @throws IOException if the stub server cannot bind its port
+     */
+    public void start() throws IOException {
+        scheduler = Executors.newScheduledThreadPool(userInfoStubConfigurationProperties.getThreads(), runnable -> {
+            final Thread thread = new Thread(runnable, "user-info-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress("localhost", userInfoStubConfigurationProperties.getPort()), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(scheduler);
+        server.start();
+        log.info("User info stub server started on port {} with {}", getPort(), userInfoStubConfigurationProperties);
+    }
+
+    /**
+     * Stops the stub server.
+     */
+    public void stop() {
+        server.stop(0);
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Gets the port the stub server is bound to.
+     *
+     * @return port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            respond(exchange, METHOD_NOT_ALLOWED, null);
+            return;
+        }
+        final String cpf = exchange.getRequestURI().getPath().substring(PATH.length());
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final boolean failed = random.nextDouble() < userInfoStubConfigurationProperties.getErrorRate();
+        final UserInfoResponseDto.StatusEnum status = failed ? null : resolveStatus(cpf);
+        scheduler.schedule(() -> {
+            if (failed) {
+                respond(exchange, SERVICE_UNAVAILABLE, null);
+            } else {
+                respond(exchange, status == null ? NOT_FOUND : OK, status);
+            }
+        }, sampleLatencyMilliseconds(random), TimeUnit.MILLISECONDS);
+    }
+
+    private UserInfoResponseDto.StatusEnum resolveStatus(String cpf) {
+        final SplittableRandom random = new SplittableRandom(userInfoStubConfigurationProperties.getSeed() * SEED_MULTIPLIER + cpf.hashCode());
+        if (random.nextDouble() < userInfoStubConfigurationProperties.getNotFoundRatio()) {
+            return null;
+        }
+        return random.nextDouble() < userInfoStubConfigurationProperties.getAbleToVoteRatio()
+            ? UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE
+            : UserInfoResponseDto.StatusEnum.UNABLE_TO_VOTE;
+    }
+
+    private long sampleLatencyMilliseconds(ThreadLocalRandom random) {
+        final long min = userInfoStubConfigurationProperties.getMinLatencyMilliseconds();
+        final long median = Math.max(min, userInfoStubConfigurationProperties.getMedianLatencyMilliseconds());
+        switch (userInfoStubConfigurationProperties.getLatencyDistribution()) {
+            case UNIFORM:
+                return min + (long) (random.nextDouble() * 2 * (median - min));
+            case LOG_NORMAL:
+                if (median == min) {
+                    return min;
+                }
+                final long p99 = Math.max(median, userInfoStubConfigurationProperties.getP99LatencyMilliseconds());
+                final double sigma = Math.log((double) (p99 - min) / (median - min)) / P99_STANDARD_SCORE;
+                return min + (long) ((median - min) * Math.exp(sigma * random.nextGaussian()));
+            default:
+                return median;
+        }
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, UserInfoResponseDto.StatusEnum status) {
+        try {
+            if (status == null) {
+                exchange.sendResponseHeaders(statusCode, NO_BODY);
+                return;
+            }
+            final byte[] body = ("{\"status\":\"" + status + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(statusCode, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        } catch (IOException exception) {
+            log.warn("Unable to respond to user info stub request {}", exchange.getRequestURI(), exception);
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor;
+import org.springframework.data.mongodb.repository.query.MongoQueryMethod;
+import org.springframework.data.mongodb.repository.query.PartTreeMongoQuery;
+import org.springframework.data.mongodb.repository.query.StringBasedMongoQuery;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * Mongo repository factory bean bounding repository queries by the request deadline.
+ * <p>
+ * Derived and {@code @Query} annotated queries run with the time left before the request deadline of the current
+ * thread as their {@code maxTimeMS}, and are not run at all once it has passed. Queries cut short by the server are
+ * raised as {@link DeadlineExceededException}. Queries run outside of a request are left unbounded.
+ *
+ * @param <T>  repository type
+ * @param <S>  domain type
+ * @param <ID> identifier type
+ */
+public class DeadlineMongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+    extends MongoRepositoryFactoryBean<T, S, ID> {
+
+    private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
+    /**
+     * Class constructor.
+     *
+     * @param repositoryInterface repository interface
+     */
+    public DeadlineMongoRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected RepositoryFactorySupport getFactoryInstance(MongoOperations operations) {
+        return new DeadlineMongoRepositoryFactory(operations);
+    }
+
+    private static Query withDeadline(Query query) {
+        final OptionalLong remainingMilliseconds = RequestDeadline.remainingMilliseconds();
+        if (remainingMilliseconds.isPresent()) {
+            query.maxTimeMsec(Math.max(1L, remainingMilliseconds.getAsLong()));
+        }
+        return query;
+    }
+
+    private static Object executeWithinDeadline(Supplier<Object> execution) {
+        RequestDeadline.check();
+        try {
+            return execution.get();
+        } catch (DataAccessException exception) {
+            if (exception.getCause() instanceof MongoExecutionTimeoutException) {
+                throw new DeadlineExceededException();
+            }
+            throw exception;
+        }
+    }
+
+    private static final class DeadlineMongoRepositoryFactory extends MongoRepositoryFactory {
+
+        private final MongoOperations operations;
+
+        DeadlineMongoRepositoryFactory(MongoOperations operations) {
+            super(operations);
+            this.operations = operations;
+        }
+
+        @Override
+        protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable QueryLookupStrategy.Key key,
+                                                                       QueryMethodEvaluationContextProvider evaluationContextProvider) {
+            return super.getQueryLookupStrategy(key, evaluationContextProvider).map(lookupStrategy ->
+                (method, metadata, projectionFactory, namedQueries) -> {
+                    final RepositoryQuery repositoryQuery = lookupStrategy.resolveQuery(method, metadata, projectionFactory, namedQueries);
+                    if (repositoryQuery instanceof PartTreeMongoQuery) {
+                        return new DeadlinePartTreeMongoQuery(((PartTreeMongoQuery) repositoryQuery).getQueryMethod(),
+                            operations, evaluationContextProvider);
+                    }
+                    if (repositoryQuery instanceof StringBasedMongoQuery
+                        && ((StringBasedMongoQuery) repositoryQuery).getQueryMethod().hasAnnotatedQuery()) {
+                        return new DeadlineStringBasedMongoQuery(((StringBasedMongoQuery) repositoryQuery).getQueryMethod(),
+                            operations, evaluationContextProvider);
+                    }
+                    return repositoryQuery;
+                });
+        }
+    }
+
+    private static final class DeadlinePartTreeMongoQuery extends PartTreeMongoQuery {
+
+        DeadlinePartTreeMongoQuery(MongoQueryMethod method, MongoOperations operations,
+                                   QueryMethodEvaluationContextProvider evaluationContextProvider) {
+            super(method, operations, EXPRESSION_PARSER, evaluationContextProvider);
+        }
+
+        @Override
+        public Object execute(Object[] parameters) {
+            return executeWithinDeadline(() -> super.execute(parameters));
+        }
+
+        @Override
+        protected Query createQuery(ConvertingParameterAccessor accessor) {
+            return withDeadline(super.createQuery(accessor));
+        }
+    }
+
+    private static final class DeadlineStringBasedMongoQuery extends StringBasedMongoQuery {
+
+        DeadlineStringBasedMongoQuery(MongoQueryMethod method, MongoOperations operations,
+                                      QueryMethodEvaluationContextProvider evaluationContextProvider) {
+            super(method, operations, EXPRESSION_PARSER, evaluationContextProvider);
+        }
+
+        @Override
+        public Object execute(Object[] parameters) {
+            return executeWithinDeadline(() -> super.execute(parameters));
+        }
+
+        @Override
+        protected Query createQuery(ConvertingParameterAccessor accessor) {
+            return withDeadline(super.createQuery(accessor));
+        }
+    }
+}
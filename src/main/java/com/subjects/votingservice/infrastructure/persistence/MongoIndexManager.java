@@ -0,0 +1,146 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.mongodb.MongoException;
+import com.subjects.votingservice.infrastructure.entities.Associate;
+import com.subjects.votingservice.infrastructure.entities.Subject;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.VoteReceipt;
+import com.subjects.votingservice.infrastructure.entities.VoteTally;
+import com.subjects.votingservice.infrastructure.entities.VotingSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Mongo index manager.
+ * <p>
+ * Declares the indexes backing every repository query method and sorted lookup, since automatic index creation is
+ * disabled. Before the application serves requests it creates the missing ones and reports declared indexes that could
+ * not be created, existing indexes that are not declared and indexes that have not been used since the server started.
+ * <p>
+ * Completed vote receipts expire through a TTL index on their completion date time, receipts still pending never do.
+ * <p>
+ * Unique indexes are the only guard against duplicate votes, associates and subjects, so startup fails when one of
+ * them cannot be created.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexManager {
+
+    private static final String DEFAULT_INDEX_NAME = "_id_";
+    private static final String INDEX_STATS = "$indexStats";
+    private static final long VOTE_RECEIPT_RETENTION_DAYS = 7L;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Creates the declared indexes and reports the differences with the existing ones.
+     *
+     * @throws IllegalStateException if a unique index is missing
+     */
+    @PostConstruct
+    public void bootstrap() {
+        declareIndexes().forEach(this::bootstrapCollection);
+    }
+
+    static Map<Class<?>, List<Index>> declareIndexes() {
+        final Map<Class<?>, List<Index>> indexes = new LinkedHashMap<>();
+        indexes.put(Associate.class, Arrays.asList(
+            new Index("cpf", Sort.Direction.ASC).unique().named("cpf_index"),
+            new Index("firstName", Sort.Direction.ASC).on("lastName", Sort.Direction.ASC).named("first_name_last_name_index")));
+        indexes.put(Subject.class, Arrays.asList(
+            new Index("code", Sort.Direction.ASC).unique().named("code_index"),
+            new Index("creationDateTime", Sort.Direction.DESC).named("creation_date_time_index")));
+        indexes.put(VotingSession.class, Arrays.asList(
+            new Index("subject.code", Sort.Direction.ASC).unique().named("subject_code_index"),
+            new Index("expirationDate", Sort.Direction.DESC).named("expiration_date_index")));
+        indexes.put(Vote.class, Arrays.asList(
+            new Index("subjectCode", Sort.Direction.ASC).on("cpf", Sort.Direction.ASC).unique().sparse().named("subject_code_cpf_index"),
+            new Index("verification", Sort.Direction.ASC).on("nextVerificationDateTime", Sort.Direction.ASC).sparse()
+                .named("verification_next_verification_date_time_index"),
+            new Index("subjectCode", Sort.Direction.ASC).on("option", Sort.Direction.ASC).on("tallyGeneration", Sort.Direction.ASC)
+                .named("subject_code_option_tally_generation_index"),
+            new Index("session.subject.code", Sort.Direction.ASC).on("associate.cpf", Sort.Direction.ASC).unique().sparse()
+                .named("legacy_session_subject_code_associate_cpf_index")));
+        indexes.put(VoteReceipt.class, Arrays.asList(
+            new Index("status", Sort.Direction.ASC).on("creationDateTime", Sort.Direction.ASC).named("status_creation_date_time_index"),
+            new Index("completionDateTime", Sort.Direction.ASC).expire(VOTE_RECEIPT_RETENTION_DAYS, TimeUnit.DAYS)
+                .named("completion_date_time_index")));
+        indexes.put(VoteTally.class, Collections.singletonList(
+            new Index("subjectCode", Sort.Direction.ASC).unique().named("subject_code_index")));
+        return indexes;
+    }
+
+    private void bootstrapCollection(Class<?> entity, List<Index> indexes) {
+        final String collectionName = mongoTemplate.getCollectionName(entity);
+        final IndexOperations indexOperations = mongoTemplate.indexOps(entity);
+        for (Index index : indexes) {
+            try {
+                indexOperations.ensureIndex(index);
+            } catch (DataAccessException exception) {
+                if (isUnique(index)) {
+                    throw new IllegalStateException("Unable to create unique index " + index.getIndexOptions() + " on collection " + collectionName, exception);
+                }
+                log.error("Unable to create index {} on collection {}", index.getIndexOptions(), collectionName, exception);
+            }
+        }
+
+        final Set<String> declaredIndexNames = indexes.stream()
+            .map(index -> index.getIndexOptions().getString("name"))
+            .collect(Collectors.toSet());
+        final Set<String> existingIndexNames = indexOperations.getIndexInfo().stream()
+            .map(IndexInfo::getName)
+            .collect(Collectors.toSet());
+        for (Index index : indexes) {
+            final String indexName = index.getIndexOptions().getString("name");
+            if (existingIndexNames.contains(indexName)) {
+                continue;
+            }
+            if (isUnique(index)) {
+                throw new IllegalStateException("Unique index " + indexName + " is missing on collection " + collectionName);
+            }
+            log.error("Index {} is missing on collection {}", indexName, collectionName);
+        }
+        existingIndexNames.stream()
+            .filter(indexName -> !DEFAULT_INDEX_NAME.equals(indexName) && !declaredIndexNames.contains(indexName))
+            .forEach(indexName -> log.warn("Index {} on collection {} is not declared", indexName, collectionName));
+        reportUnusedIndexes(collectionName);
+    }
+
+    private static boolean isUnique(Index index) {
+        return index.getIndexOptions().getBoolean("unique", false);
+    }
+
+    private void reportUnusedIndexes(String collectionName) {
+        try {
+            for (Document indexStats : mongoTemplate.getCollection(collectionName)
+                .aggregate(Collections.singletonList(new Document(INDEX_STATS, new Document())))) {
+                final Document accesses = indexStats.get("accesses", Document.class);
+                if (accesses.get("ops", Number.class).longValue() == 0L) {
+                    log.warn("Index {} on collection {} has not been used since {}",
+                        indexStats.getString("name"), collectionName, accesses.get("since"));
+                }
+            }
+        } catch (MongoException exception) {
+            log.warn("Unable to read index usage of collection {}", collectionName, exception);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.subjects.votingservice.configuration.properties.VoteMigrationConfigurationProperties;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Vote schema migration.
+ * <p>
+ * Rewrites votes that still embed the whole associate and voting session into the slim schema holding only cpf and
+ * subject code. Runs in the background once the application is ready, a batch at a time, so the service keeps serving
+ * requests while legacy votes are migrated. Until it completes, readers have to take legacy votes into account.
+ * <p>
+ * Legacy votes are told apart by their embedded session subject code, indexed with the associate cpf by the unique
+ * sparse {@code legacy_session_subject_code_associate_cpf_index} declared in {@link MongoIndexManager}. Until the
+ * migration is completed votes are rejected when their associate has a legacy vote in the session, and it is only
+ * completed once no legacy vote is left, even when it is disabled.
+ * <p>
+ * Slim votes cast again by associates with a legacy vote, before legacy votes were checked, are removed in favour of
+ * the original legacy vote, and the tally of their session is recounted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteSchemaMigration {
+
+    private static final String ID = "_id";
+    private static final String ASSOCIATE = "associate";
+    private static final String SESSION = "session";
+    private static final String LEGACY_CPF = "associate.cpf";
+    private static final String LEGACY_SUBJECT_CODE = "session.subject.code";
+    private static final String CPF = "cpf";
+    private static final String SUBJECT_CODE = "subjectCode";
+    private static final String LEGACY_INDEX_NAME = "associate_cpf_session_subject_code_index";
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final VoteMigrationConfigurationProperties voteMigrationConfigurationProperties;
+    private final VoteTallyStore voteTallyStore;
+
+    private volatile boolean completed;
+
+    /**
+     * Drops the legacy unique index, which would reject slim votes, before the application serves requests. Legacy votes
+     * are still kept unique by the sparse index declared in {@link MongoIndexManager}.
+     */
+    @PostConstruct
+    public void dropLegacyIndex() {
+        final IndexOperations indexOperations = mongoTemplate.indexOps(Vote.class);
+        if (indexOperations.getIndexInfo().stream().anyMatch(indexInfo -> LEGACY_INDEX_NAME.equals(indexInfo.getName()))) {
+            log.info("Dropping legacy vote index {}", LEGACY_INDEX_NAME);
+            indexOperations.dropIndex(LEGACY_INDEX_NAME);
+        }
+    }
+
+    /**
+     * Starts migrating legacy votes when enabled, otherwise checks whether any is left.
+     *
+     * @param applicationReadyEvent application ready event
+     */
+    @EventListener
+    public void start(ApplicationReadyEvent applicationReadyEvent) {
+        if (!voteMigrationConfigurationProperties.isEnabled()) {
+            final long legacyVotes = countLegacy();
+            completed = legacyVotes == 0;
+            if (!completed) {
+                log.warn("Vote migration is disabled with {} legacy votes left, legacy votes are still read.", legacyVotes);
+            }
+            return;
+        }
+        final Thread migration = new Thread(this::migrate, "vote-schema-migration");
+        migration.setDaemon(true);
+        migration.start();
+    }
+
+    /**
+     * Checks if there are no legacy votes left.
+     *
+     * @return {@code true} if every vote has the slim schema, {@code false} otherwise
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Counts the votes that still have the legacy schema.
+     *
+     * @return number of legacy votes
+     */
+    public long countLegacy() {
+        return mongoTemplate.count(legacyQuery(), mongoTemplate.getCollectionName(Vote.class));
+    }
+
+    /**
+     * Migrates legacy votes batch by batch until none is left.
+     */
+    public void migrate() {
+        log.info("Migrating legacy votes with {}", voteMigrationConfigurationProperties);
+        try {
+            long migratedVotes = 0;
+            int batchSize;
+            do {
+                batchSize = migrateBatch();
+                migratedVotes += batchSize;
+            } while (batchSize > 0);
+            completed = true;
+            log.info("{} legacy votes were migrated.", migratedVotes);
+        } catch (DataAccessException exception) {
+            log.error("Legacy vote migration failed, legacy votes are still read.", exception);
+        }
+    }
+
+    /**
+     * Migrates a batch of legacy votes, replacing the votes cast again under the slim schema by the legacy ones.
+     *
+     * @return number of legacy votes in the batch, {@code 0} once none is left
+     */
+    public int migrateBatch() {
+        final String collectionName = mongoTemplate.getCollectionName(Vote.class);
+        final Query query = legacyQuery().limit(voteMigrationConfigurationProperties.getBatchSize());
+        query.fields().include(LEGACY_CPF).include(LEGACY_SUBJECT_CODE);
+        final List<Document> legacyVotes = mongoTemplate.find(query, Document.class, collectionName);
+        if (legacyVotes.isEmpty()) {
+            return 0;
+        }
+
+        final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+        legacyVotes.forEach(legacyVote -> bulkOperations.updateOne(byId(legacyVote), toSlimSchema(legacyVote)));
+        try {
+            bulkOperations.execute();
+        } catch (BulkOperationException exception) {
+            replaceDuplicates(collectionName, legacyVotes, exception);
+        }
+        return legacyVotes.size();
+    }
+
+    private void replaceDuplicates(String collectionName, List<Document> legacyVotes, BulkOperationException exception) {
+        if (!exception.getErrors().stream().allMatch(error -> DUPLICATE_KEY_ERROR_CODE == error.getCode())) {
+            throw exception;
+        }
+        final List<Document> duplicateVotes = exception.getErrors().stream()
+            .map(BulkWriteError::getIndex)
+            .map(legacyVotes::get)
+            .collect(Collectors.toList());
+        log.warn("Replacing {} votes cast again under the slim schema by the legacy votes.", duplicateVotes.size());
+        for (Document legacyVote : duplicateVotes) {
+            final String subjectCode = legacySubjectCode(legacyVote);
+            mongoTemplate.remove(Query.query(Criteria.where(SUBJECT_CODE).is(subjectCode).and(CPF).is(legacyCpf(legacyVote))), collectionName);
+            mongoTemplate.updateFirst(byId(legacyVote), toSlimSchema(legacyVote), collectionName);
+            voteTallyStore.invalidate(subjectCode);
+        }
+    }
+
+    private static Query byId(Document legacyVote) {
+        return Query.query(Criteria.where(ID).is(legacyVote.get(ID)));
+    }
+
+    private static Update toSlimSchema(Document legacyVote) {
+        return new Update()
+            .set(CPF, legacyCpf(legacyVote))
+            .set(SUBJECT_CODE, legacySubjectCode(legacyVote))
+            .unset(ASSOCIATE)
+            .unset(SESSION);
+    }
+
+    private static String legacyCpf(Document legacyVote) {
+        return legacyVote.getEmbedded(Arrays.asList(ASSOCIATE, CPF), String.class);
+    }
+
+    private static String legacySubjectCode(Document legacyVote) {
+        return legacyVote.getEmbedded(Arrays.asList(SESSION, "subject", "code"), String.class);
+    }
+
+    private static Query legacyQuery() {
+        return new Query(Criteria.where(LEGACY_SUBJECT_CODE).exists(true));
+    }
+}
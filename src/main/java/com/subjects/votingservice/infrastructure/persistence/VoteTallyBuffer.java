@@ -0,0 +1,115 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.subjects.votingservice.configuration.properties.VoteTallyBufferConfigurationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Vote tally buffer.
+ * <p>
+ * Passes counts straight through to {@link VoteTallyStore} unless the buffer is enabled. When enabled, voting sessions
+ * with votes saved are marked dirty, and a single flusher thread counts the uncounted votes of the dirty sessions every
+ * {@code flushIntervalMilliseconds} and on shutdown, so that a session is counted once per interval however many votes
+ * it received. Sessions are only cleared once counted, so failed counts are retried on the next interval. Votes are
+ * counted from the votes saved rather than from in-memory counters, so buffered counts never hold votes that a recount
+ * or another instance counted already, and results lag behind the votes saved by up to the flush interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteTallyBuffer {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 10_000L;
+
+    private final VoteTallyStore voteTallyStore;
+    private final VoteTallyBufferConfigurationProperties voteTallyBufferConfigurationProperties;
+
+    private final Set<String> dirtySubjectCodes = ConcurrentHashMap.newKeySet();
+    private Thread flusher;
+    private volatile boolean running;
+
+    /**
+     * Starts the flusher thread when the buffer is enabled.
+     */
+    @PostConstruct
+    public void start() {
+        if (!voteTallyBufferConfigurationProperties.isEnabled()) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushContinuously, "vote-tally-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Vote tally buffer enabled with {}", voteTallyBufferConfigurationProperties);
+    }
+
+    /**
+     * Stops buffering and counts the dirty voting sessions.
+     *
+     * @throws InterruptedException if interrupted while waiting for the flusher thread
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        flusher.join(SHUTDOWN_TIMEOUT_MILLISECONDS);
+        flushSafely();
+    }
+
+    /**
+     * Counts the uncounted votes of a voting session into its tally, on the next flush when enabled.
+     *
+     * @param subjectCode voting session subject code
+     */
+    public void count(String subjectCode) {
+        if (!running) {
+            voteTallyStore.count(subjectCode);
+            return;
+        }
+        dirtySubjectCodes.add(subjectCode);
+    }
+
+    /**
+     * Counts the uncounted votes of every dirty voting session into its tally.
+     */
+    public void flush() {
+        for (String subjectCode : dirtySubjectCodes) {
+            dirtySubjectCodes.remove(subjectCode);
+            try {
+                voteTallyStore.count(subjectCode);
+            } catch (RuntimeException exception) {
+                dirtySubjectCodes.add(subjectCode);
+                throw exception;
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            log.error("Unable to flush vote tallies, dirty voting sessions will be counted again.", exception);
+        }
+    }
+
+    private void flushContinuously() {
+        while (running) {
+            try {
+                Thread.sleep(voteTallyBufferConfigurationProperties.getFlushIntervalMilliseconds());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            flushSafely();
+        }
+    }
+}
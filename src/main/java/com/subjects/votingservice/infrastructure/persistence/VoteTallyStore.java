@@ -0,0 +1,179 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.subjects.votingservice.domain.businessobjects.vote.VoteVerificationStatus;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.VoteTally;
+import com.subjects.votingservice.infrastructure.event.VotingSessionOpenedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Vote tally store.
+ * <p>
+ * Keeps one tally per voting session, created empty and complete when the session opens. Votes are saved uncounted,
+ * with a zero tally generation, and are counted by claiming them for the current generation of the tally of their
+ * session before adding the claimed votes to it. Claims are atomic per vote, so that a vote is only ever added once
+ * whoever counts it, and counting claims every uncounted vote of the session, so that votes left uncounted by an
+ * abandoned write or a crash are counted by the next count of their session.
+ * <p>
+ * A tally created by a count, because its session was opened before tallies existed or its tally was lost, is
+ * incomplete until recounted. A recount starts a new generation from zero and claims every vote of the session again,
+ * votes saved before tally generations existed included. Votes are only added to the tally of the generation they were
+ * claimed for, so that votes claimed by a count the recount overlapped are claimed again instead of being counted
+ * twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteTallyStore {
+
+    private static final String SUBJECT_CODE = "subjectCode";
+    private static final String YES = "yes";
+    private static final String NO = "no";
+    private static final String GENERATION = "generation";
+    private static final String COMPLETE = "complete";
+    private static final String CREATION_DATE_TIME = "creationDateTime";
+    private static final String OPTION = "option";
+    private static final String VERIFICATION = "verification";
+    private static final String TALLY_GENERATION = "tallyGeneration";
+    private static final long FIRST_GENERATION = 1L;
+    private static final int MAX_COUNT_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Creates the empty tally of an opened voting session, complete since every vote of the session is counted into it.
+     *
+     * @param votingSessionOpenedEvent {@link VotingSessionOpenedEvent} voting session opened event
+     */
+    @EventListener
+    public void onVotingSessionOpened(VotingSessionOpenedEvent votingSessionOpenedEvent) {
+        mongoTemplate.upsert(bySubjectCode(votingSessionOpenedEvent.getSubjectCode()), new Update()
+            .set(COMPLETE, true)
+            .setOnInsert(YES, 0L)
+            .setOnInsert(NO, 0L)
+            .setOnInsert(GENERATION, FIRST_GENERATION)
+            .setOnInsert(CREATION_DATE_TIME, LocalDateTime.now()), VoteTally.class);
+    }
+
+    /**
+     * Counts the uncounted votes of a voting session into its tally, creating it incomplete if missing.
+     *
+     * @param subjectCode voting session subject code
+     */
+    public void count(String subjectCode) {
+        for (int attempt = 0; attempt < MAX_COUNT_ATTEMPTS; attempt++) {
+            final long generation = findGeneration(subjectCode);
+            if (claim(subjectCode, generation, Criteria.where(TALLY_GENERATION).lt(generation))) {
+                return;
+            }
+        }
+        log.warn("Vote tally of voting session {} kept being recounted, its uncounted votes are left for the next count.", subjectCode);
+    }
+
+    /**
+     * Recounts every vote of a voting session into a new generation of its tally and marks it complete, creating it if
+     * missing.
+     *
+     * @param subjectCode voting session subject code
+     * @param legacyYes   yes votes that still have the legacy schema, which cannot be claimed
+     * @param legacyNo    no votes that still have the legacy schema, which cannot be claimed
+     * @return recounted {@link VoteTally}, empty if another recount started a newer generation meanwhile
+     */
+    public Optional<VoteTally> recount(String subjectCode, long legacyYes, long legacyNo) {
+        final Update restart = new Update()
+            .set(YES, legacyYes)
+            .set(NO, legacyNo)
+            .set(COMPLETE, false)
+            .inc(GENERATION, 1L)
+            .setOnInsert(CREATION_DATE_TIME, LocalDateTime.now());
+        VoteTally voteTally;
+        try {
+            voteTally = restart(subjectCode, restart);
+        } catch (DuplicateKeyException exception) {
+            // a concurrent count or recount created the tally first, the retry restarts it
+            voteTally = restart(subjectCode, restart);
+        }
+        final long generation = voteTally.getGeneration();
+        if (!claim(subjectCode, generation, new Criteria().orOperator(
+            Criteria.where(TALLY_GENERATION).lt(generation), Criteria.where(TALLY_GENERATION).exists(false)))) {
+            log.debug("Vote tally of voting session {} was recounted again since generation {}.", subjectCode, generation);
+            count(subjectCode);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(mongoTemplate.findAndModify(atGeneration(subjectCode, generation), new Update().set(COMPLETE, true),
+            FindAndModifyOptions.options().returnNew(true), VoteTally.class));
+    }
+
+    /**
+     * Marks the tally of a voting session incomplete, so that its votes are recounted on the next read.
+     *
+     * @param subjectCode voting session subject code
+     */
+    public void invalidate(String subjectCode) {
+        mongoTemplate.updateFirst(bySubjectCode(subjectCode), new Update().set(COMPLETE, false).inc(GENERATION, 1L), VoteTally.class);
+    }
+
+    private VoteTally restart(String subjectCode, Update restart) {
+        return mongoTemplate.findAndModify(bySubjectCode(subjectCode), restart,
+            FindAndModifyOptions.options().upsert(true).returnNew(true), VoteTally.class);
+    }
+
+    private long findGeneration(String subjectCode) {
+        final Query query = bySubjectCode(subjectCode);
+        query.fields().include(GENERATION);
+        final VoteTally voteTally = mongoTemplate.findOne(query, VoteTally.class);
+        if (voteTally != null) {
+            return voteTally.getGeneration();
+        }
+        try {
+            mongoTemplate.upsert(bySubjectCode(subjectCode), new Update()
+                .setOnInsert(YES, 0L)
+                .setOnInsert(NO, 0L)
+                .setOnInsert(GENERATION, FIRST_GENERATION)
+                .setOnInsert(COMPLETE, false)
+                .setOnInsert(CREATION_DATE_TIME, LocalDateTime.now()), VoteTally.class);
+        } catch (DuplicateKeyException exception) {
+            log.debug("Vote tally of voting session {} was created concurrently.", subjectCode);
+        }
+        return mongoTemplate.findOne(query, VoteTally.class).getGeneration();
+    }
+
+    private boolean claim(String subjectCode, long generation, Criteria unclaimed) {
+        final long yes = claim(subjectCode, true, generation, unclaimed);
+        final long no = claim(subjectCode, false, generation, unclaimed);
+        if (yes == 0 && no == 0) {
+            return true;
+        }
+        return mongoTemplate.updateFirst(atGeneration(subjectCode, generation), new Update().inc(YES, yes).inc(NO, no), VoteTally.class)
+            .getMatchedCount() > 0;
+    }
+
+    private long claim(String subjectCode, boolean option, long generation, Criteria unclaimed) {
+        final Query query = new Query(Criteria.where(SUBJECT_CODE).is(subjectCode)
+            .and(OPTION).is(option)
+            .and(VERIFICATION).nin(VoteVerificationStatus.PENDING.name(), VoteVerificationStatus.REVOKED.name(),
+                VoteVerificationStatus.UNVERIFIED.name())
+            .andOperator(unclaimed));
+        return mongoTemplate.updateMulti(query, new Update().set(TALLY_GENERATION, generation), Vote.class).getModifiedCount();
+    }
+
+    private Query atGeneration(String subjectCode, long generation) {
+        return new Query(Criteria.where(SUBJECT_CODE).is(subjectCode).and(GENERATION).is(generation));
+    }
+
+    private Query bySubjectCode(String subjectCode) {
+        return new Query(Criteria.where(SUBJECT_CODE).is(subjectCode));
+    }
+}
@@ -0,0 +1,278 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.subjects.votingservice.configuration.properties.VoteGroupCommitConfigurationProperties;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.repository.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Vote writer.
+ * <p>
+ * Saves votes straight through {@link VoteRepository} unless group commit is enabled. In group commit mode votes are
+ * queued and a single flusher thread inserts them in bulk every {@code batchSize} votes or {@code maxDelayMilliseconds},
+ * whichever comes first. Callers only return once the batch holding their vote has been acknowledged by Mongo, so
+ * durability is the same as in the straight through mode. Callers wait up to {@code commitTimeoutMilliseconds}, bounded
+ * by the request deadline, and votes still queued once the writer has stopped are failed.
+ * <p>
+ * Votes are given their ids before being written, so individual fallbacks insert them rather than save them: a vote
+ * rejected by the unique associate and subject index is never turned into an update of another vote.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteWriter {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 10_000L;
+
+    private final VoteRepository voteRepository;
+    private final VoteGroupCommitConfigurationProperties voteGroupCommitConfigurationProperties;
+
+    private BlockingQueue<PendingVote> pendingVotes;
+    private Thread flusher;
+    private volatile boolean running;
+
+    /**
+     * Starts the flusher thread when group commit is enabled.
+     */
+    @PostConstruct
+    public void start() {
+        if (!voteGroupCommitConfigurationProperties.isEnabled()) {
+            return;
+        }
+        pendingVotes = new ArrayBlockingQueue<>(voteGroupCommitConfigurationProperties.getQueueCapacity());
+        running = true;
+        flusher = new Thread(this::flushContinuously, "vote-group-commit");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Vote group commit enabled with {}", voteGroupCommitConfigurationProperties);
+    }
+
+    /**
+     * Stops accepting votes and waits for the queued ones to be flushed.
+     *
+     * @throws InterruptedException if interrupted while waiting for the flusher thread
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.join(SHUTDOWN_TIMEOUT_MILLISECONDS);
+        final List<PendingVote> remainingVotes = new ArrayList<>();
+        pendingVotes.drainTo(remainingVotes);
+        flush(remainingVotes);
+        remainingVotes.clear();
+        pendingVotes.drainTo(remainingVotes);
+        remainingVotes.forEach(pendingVote -> pendingVote.getFuture().completeExceptionally(
+            new IllegalStateException("Vote writer stopped before the vote was written")));
+    }
+
+    /**
+     * Saves a vote, waiting for its group commit when enabled.
+     *
+     * @param vote vote entity
+     * @return {@link Vote} saved vote entity
+     * @throws DeadlineExceededException if the request deadline passes before the group commit
+     */
+    public Vote save(Vote vote) {
+        if (!running) {
+            return voteRepository.save(vote);
+        }
+
+        vote.setId(new ObjectId().toHexString());
+        final PendingVote pendingVote = new PendingVote(vote);
+        if (!pendingVotes.offer(pendingVote)) {
+            log.warn("Vote group commit queue is full, saving vote directly.");
+            return voteRepository.insert(vote);
+        }
+        if (!running && pendingVotes.remove(pendingVote)) {
+            // Queued after the final drain of stop(), no flusher will ever write it.
+            return voteRepository.insert(vote);
+        }
+        return await(pendingVote);
+    }
+
+    /**
+     * Saves votes with a single bulk insert. When the bulk insert is rejected, votes are saved one by one and the ones
+     * rejected by the unique associate and subject index are left out of the result.
+     *
+     * @param votes vote entity list
+     * @return {@link List} of saved {@link Vote}, in the given order
+     */
+    public List<Vote> saveAll(List<Vote> votes) {
+        votes.forEach(vote -> vote.setId(new ObjectId().toHexString()));
+        try {
+            return voteRepository.insert(votes);
+        } catch (DataIntegrityViolationException exception) {
+            log.warn("Bulk insert of {} votes was rejected, saving them one by one.", votes.size());
+            final List<Vote> savedVotes = new ArrayList<>(votes.size());
+            for (Vote vote : votes) {
+                try {
+                    savedVotes.add(insertIndividually(vote));
+                } catch (DuplicateKeyException duplicateKeyException) {
+                    log.info("Vote {} was rejected by the unique associate and subject index.", vote);
+                }
+            }
+            return savedVotes;
+        }
+    }
+
+    private Vote await(PendingVote pendingVote) {
+        final long timeoutMilliseconds;
+        try {
+            timeoutMilliseconds = RequestDeadline.boundMilliseconds(voteGroupCommitConfigurationProperties.getCommitTimeoutMilliseconds());
+        } catch (DeadlineExceededException exception) {
+            abandon(pendingVote);
+            throw exception;
+        }
+        try {
+            return pendingVote.await(timeoutMilliseconds);
+        } catch (TimeoutException exception) {
+            abandon(pendingVote);
+            if (RequestDeadline.remainingMilliseconds().orElse(1L) <= 0) {
+                throw new DeadlineExceededException();
+            }
+            throw new IllegalStateException("Timed out waiting for vote group commit", exception);
+        }
+    }
+
+    private void abandon(PendingVote pendingVote) {
+        if (!pendingVotes.remove(pendingVote)) {
+            log.warn("Vote {} was abandoned while being written, it may still be saved.", pendingVote.getVote().getId());
+        }
+    }
+
+    private Vote insertIndividually(Vote vote) {
+        // The failed bulk insert may have written the vote already, under the id it was given.
+        try {
+            return voteRepository.insert(vote);
+        } catch (DuplicateKeyException exception) {
+            if (voteRepository.existsById(vote.getId())) {
+                return vote;
+            }
+            throw exception;
+        }
+    }
+
+    private void flushContinuously() {
+        final List<PendingVote> batch = new ArrayList<>(voteGroupCommitConfigurationProperties.getBatchSize());
+        while (running || !pendingVotes.isEmpty()) {
+            try {
+                collectBatch(batch);
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException exception) {
+                log.warn("Vote group commit flusher interrupted.");
+                Thread.currentThread().interrupt();
+                pendingVotes.drainTo(batch);
+                flush(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<PendingVote> batch) throws InterruptedException {
+        final int batchSize = voteGroupCommitConfigurationProperties.getBatchSize();
+        final long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(voteGroupCommitConfigurationProperties.getMaxDelayMilliseconds());
+        final PendingVote first = pendingVotes.poll(maxDelayNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        final long flushAt = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            if (pendingVotes.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            final long remainingNanos = flushAt - System.nanoTime();
+            final PendingVote next = remainingNanos > 0 ? pendingVotes.poll(remainingNanos, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingVote> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final List<Vote> votes = batch.stream().map(PendingVote::getVote).collect(Collectors.toList());
+        try {
+            final List<Vote> savedVotes = voteRepository.insert(votes);
+            for (int index = 0; index < batch.size(); index++) {
+                batch.get(index).getFuture().complete(savedVotes.get(index));
+            }
+            log.debug("Vote group commit flushed {} votes.", savedVotes.size());
+        } catch (RuntimeException exception) {
+            log.warn("Vote group commit of {} votes failed, saving them one by one.", batch.size(), exception);
+            batch.forEach(this::saveIndividually);
+        }
+    }
+
+    private void saveIndividually(PendingVote pendingVote) {
+        try {
+            pendingVote.getFuture().complete(insertIndividually(pendingVote.getVote()));
+        } catch (RuntimeException exception) {
+            pendingVote.getFuture().completeExceptionally(exception);
+        }
+    }
+
+    /**
+     * Vote waiting for its group commit.
+     */
+    private static final class PendingVote {
+
+        private final Vote vote;
+        private final CompletableFuture<Vote> future = new CompletableFuture<>();
+
+        PendingVote(Vote vote) {
+            this.vote = vote;
+        }
+
+        Vote getVote() {
+            return vote;
+        }
+
+        CompletableFuture<Vote> getFuture() {
+            return future;
+        }
+
+        Vote await(long timeoutMilliseconds) throws TimeoutException {
+            try {
+                return future.get(timeoutMilliseconds, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for vote group commit", exception);
+            } catch (ExecutionException exception) {
+                if (exception.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) exception.getCause();
+                }
+                throw new IllegalStateException("Vote group commit failed", exception.getCause());
+            }
+        }
+    }
+}
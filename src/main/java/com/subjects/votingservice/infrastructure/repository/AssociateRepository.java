@@ -1,9 +1,13 @@
 package com.subjects.votingservice.infrastructure.repository;
 
 import com.subjects.votingservice.infrastructure.entities.Associate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,4 +31,31 @@ public interface AssociateRepository extends MongoRepository<Associate, String>
      * @return {@link Optional} of {@link Associate}
      */
     Optional<Associate> findOneByCpf(String cpf);
+
+    /**
+     * Finds associates by cpf list.
+     *
+     * @param cpfs cpf list
+     * @return {@link List} of {@link Associate}
+     */
+    List<Associate> findByCpfIn(Collection<String> cpfs);
+
+    /**
+     * Finds the first page of associates, loading only the id and cpf fields.
+     *
+     * @param pageable page size and sort, by id to page through every associate
+     * @return {@link List} of {@link Associate} holding only the id and cpf
+     */
+    @Query(value = "{}", fields = "{ 'cpf' : 1 }")
+    List<Associate> findAllCpfs(Pageable pageable);
+
+    /**
+     * Finds the page of associates following the given id, loading only the id and cpf fields.
+     *
+     * @param id       id of the last associate of the previous page
+     * @param pageable page size and sort, by id to page through every associate
+     * @return {@link List} of {@link Associate} holding only the id and cpf
+     */
+    @Query(fields = "{ 'cpf' : 1 }")
+    List<Associate> findCpfsByIdGreaterThan(String id, Pageable pageable);
 }
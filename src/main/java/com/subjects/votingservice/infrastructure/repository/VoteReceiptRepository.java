@@ -0,0 +1,12 @@
+package com.subjects.votingservice.infrastructure.repository;
+
+import com.subjects.votingservice.infrastructure.entities.VoteReceipt;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Vote receipt repository.
+ */
+@Repository
+public interface VoteReceiptRepository extends MongoRepository<VoteReceipt, String> {
+}
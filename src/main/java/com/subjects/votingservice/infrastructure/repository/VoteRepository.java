@@ -2,30 +2,26 @@ package com.subjects.votingservice.infrastructure.repository;
 
 import com.subjects.votingservice.infrastructure.entities.Vote;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Vote repository.
  */
 @Repository
-public interface VoteRepository extends MongoRepository<Vote, String> {
+public interface VoteRepository extends MongoRepository<Vote, String>, VoteRepositoryCustom {
 
     /**
-     * Checks if associate has voted in given voting session.
+     * Finds votes cast by any of the given associates in any of the given voting sessions.
+     * Only cpf and subject code are loaded.
      *
-     * @param cpf         associate cpf
-     * @param subjectCode subject code
-     * @return {@code true} if vote is found by associate cpf and session subject code, {@code false} otherwise
-     */
-    boolean existsByAssociateCpfAndSessionSubjectCode(String cpf, String subjectCode);
-
-    /**
-     * Finds vote list by session subject code.
-     *
-     * @param subjectCode subject code
+     * @param cpfs         associate cpf list
+     * @param subjectCodes subject code list
      * @return {@link List} of {@link Vote}
      */
-    List<Vote> findBySessionSubjectCode(String subjectCode);
+    @Query(value = "{ 'cpf' : { $in : ?0 }, 'subjectCode' : { $in : ?1 } }", fields = "{ 'cpf' : 1, 'subjectCode' : 1 }")
+    List<Vote> findByCpfInAndSubjectCodeIn(Collection<String> cpfs, Collection<String> subjectCodes);
 }
@@ -0,0 +1,31 @@
+package com.subjects.votingservice.infrastructure.repository;
+
+import com.subjects.votingservice.infrastructure.entities.Vote;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vote repository fragment counting votes on the server and reading votes that still have the legacy schema.
+ */
+public interface VoteRepositoryCustom {
+
+    /**
+     * Counts votes by option for a session subject code among votes that still have the legacy embedded schema.
+     *
+     * @param subjectCode subject code
+     * @return {@link Map} of vote count by option, options without votes are left out
+     */
+    Map<Boolean, Long> countLegacyBySessionSubjectCodeGroupByOption(String subjectCode);
+
+    /**
+     * Finds votes that still have the legacy embedded schema, cast by any of the given associates in any of the given
+     * voting sessions. Only cpf and subject code are loaded, into the slim schema.
+     *
+     * @param cpfs         associate cpf list
+     * @param subjectCodes subject code list
+     * @return {@link List} of {@link Vote}
+     */
+    List<Vote> findLegacyByCpfInAndSessionSubjectCodeIn(Collection<String> cpfs, Collection<String> subjectCodes);
+}
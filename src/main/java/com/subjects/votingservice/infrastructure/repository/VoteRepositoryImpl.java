@@ -0,0 +1,105 @@
+package com.subjects.votingservice.infrastructure.repository;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of vote repository fragment.
+ * <p>
+ * Votes are matched and grouped by option in a single aggregation, so only one document per option is transferred
+ * whatever the number of votes.
+ * <p>
+ * Like the repository queries bounded by {@code DeadlineMongoRepositoryFactoryBean}, queries and aggregations run with
+ * the time left before the request deadline as their {@code maxTimeMS}, and are raised as
+ * {@link DeadlineExceededException} when cut short by the server.
+ * <p>
+ * Legacy votes are looked up by session subject code and associate cpf through the sparse
+ * {@code legacy_session_subject_code_associate_cpf_index}, which slim votes are left out of.
+ */
+@RequiredArgsConstructor
+public class VoteRepositoryImpl implements VoteRepositoryCustom {
+
+    private static final String LEGACY_SUBJECT_CODE = "session.subject.code";
+    private static final String LEGACY_CPF = "associate.cpf";
+    private static final String OPTION = "option";
+    private static final String COUNT = "count";
+    private static final String ID = "_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Boolean, Long> countLegacyBySessionSubjectCodeGroupByOption(String subjectCode) {
+        return countGroupByOption(Criteria.where(LEGACY_SUBJECT_CODE).is(subjectCode));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Vote> findLegacyByCpfInAndSessionSubjectCodeIn(Collection<String> cpfs, Collection<String> subjectCodes) {
+        final Query query = new Query(Criteria.where(LEGACY_SUBJECT_CODE).in(subjectCodes).and(LEGACY_CPF).in(cpfs));
+        query.fields().include(LEGACY_SUBJECT_CODE).include(LEGACY_CPF);
+        remainingMilliseconds().ifPresent(query::maxTimeMsec);
+        return executeWithinDeadline(() -> mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Vote.class))).stream()
+            .map(legacyVote -> new Vote(
+                legacyVote.getEmbedded(Arrays.asList("associate", "cpf"), String.class),
+                legacyVote.getEmbedded(Arrays.asList("session", "subject", "code"), String.class),
+                null))
+            .collect(Collectors.toList());
+    }
+
+    private Map<Boolean, Long> countGroupByOption(Criteria criteria) {
+        final AggregationOptions.Builder options = AggregationOptions.builder();
+        remainingMilliseconds().ifPresent(remaining -> options.maxTime(Duration.ofMillis(remaining)));
+        final Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(criteria),
+            Aggregation.project(OPTION).andExclude(ID),
+            Aggregation.group(OPTION).count().as(COUNT))
+            .withOptions(options.build());
+        final Map<Boolean, Long> counts = new HashMap<>();
+        for (Document count : executeWithinDeadline(() -> mongoTemplate.aggregate(aggregation, Vote.class, Document.class))) {
+            counts.put(count.getBoolean(ID), count.get(COUNT, Number.class).longValue());
+        }
+        return counts;
+    }
+
+    private static OptionalLong remainingMilliseconds() {
+        final OptionalLong remainingMilliseconds = RequestDeadline.remainingMilliseconds();
+        return remainingMilliseconds.isPresent() ? OptionalLong.of(Math.max(1L, remainingMilliseconds.getAsLong())) : remainingMilliseconds;
+    }
+
+    private static <T> T executeWithinDeadline(Supplier<T> execution) {
+        RequestDeadline.check();
+        try {
+            return execution.get();
+        } catch (DataAccessException exception) {
+            if (exception.getCause() instanceof MongoExecutionTimeoutException) {
+                throw new DeadlineExceededException();
+            }
+            throw exception;
+        }
+    }
+}
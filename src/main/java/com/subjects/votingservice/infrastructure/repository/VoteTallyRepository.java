@@ -0,0 +1,22 @@
+package com.subjects.votingservice.infrastructure.repository;
+
+import com.subjects.votingservice.infrastructure.entities.VoteTally;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Vote tally repository.
+ */
+@Repository
+public interface VoteTallyRepository extends MongoRepository<VoteTally, String> {
+
+    /**
+     * Finds vote tally by subject code.
+     *
+     * @param subjectCode subject code
+     * @return {@link Optional} of {@link VoteTally}
+     */
+    Optional<VoteTally> findOneBySubjectCode(String subjectCode);
+}
@@ -4,6 +4,8 @@ import com.subjects.votingservice.infrastructure.entities.VotingSession;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,4 +29,12 @@ public interface VotingSessionRepository extends MongoRepository<VotingSession,
      * @return {@code true} if voting session is found by subject code, {@code false} otherwise
      */
     boolean existsBySubjectCode(String subjectCode);
+
+    /**
+     * Finds voting sessions by subject code list.
+     *
+     * @param subjectCodes subject code list
+     * @return {@link List} of {@link VotingSession}
+     */
+    List<VotingSession> findBySubjectCodeIn(Collection<String> subjectCodes);
 }
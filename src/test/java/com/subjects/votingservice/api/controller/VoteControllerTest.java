@@ -1,6 +1,10 @@
 package com.subjects.votingservice.api.controller;
 
+import com.subjects.votingservice.configuration.properties.IdempotencyConfigurationProperties;
 import com.subjects.votingservice.domain.service.VoteService;
+import com.subjects.votingservice.infrastructure.cache.IdempotencyStore;
+import com.subjects.votingservice.api.dto.vote.VoteBatchRequestDto;
+import com.subjects.votingservice.api.dto.vote.VoteBatchResultDto;
 import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
 import com.subjects.votingservice.api.dto.vote.VoteResponseDto;
 import org.junit.Assert;
@@ -10,10 +14,17 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.subjects.votingservice.helper.VoteHelper.buildVoteBatchRequestDto;
 import static com.subjects.votingservice.helper.VoteHelper.buildVoteRequestDto;
 import static com.subjects.votingservice.helper.VoteHelper.buildVoteResponseDto;
 
@@ -23,11 +34,21 @@ import static com.subjects.votingservice.helper.VoteHelper.buildVoteResponseDto;
 @RunWith(MockitoJUnitRunner.class)
 public class VoteControllerTest {
 
+    private static final String IDEMPOTENCY_KEY = "idempotency key";
+    private static final long TTL_SECONDS = 60L;
+    private static final long MAXIMUM_SIZE = 10L;
+
     private transient MockMvc mockMvc;
 
     @Mock
     private transient VoteService voteService;
 
+    @Spy
+    private transient Executor ioExecutor = new SyncTaskExecutor();
+
+    @Spy
+    private transient IdempotencyStore idempotencyStore = new IdempotencyStore(buildIdempotencyConfigurationProperties());
+
     @InjectMocks
     private transient VoteController voteController;
 
@@ -46,7 +67,39 @@ public class VoteControllerTest {
     public void saveVoteShouldReturnOkStatusWhenVoteIsSaved() {
         final VoteRequestDto voteRequestDto = buildVoteRequestDto();
         Mockito.when(voteService.save(voteRequestDto)).thenReturn(buildVoteResponseDto());
-        final VoteResponseDto voteResponseDto = voteController.saveVote(voteRequestDto);
+        final VoteResponseDto voteResponseDto = voteController.saveVote(null, voteRequestDto).join();
         Assert.assertNotNull(voteResponseDto);
     }
+
+    /**
+     * Save vote should save vote once when retried with the same idempotency key.
+     */
+    @Test
+    public void saveVoteShouldSaveVoteOnceWhenRetriedWithTheSameIdempotencyKey() {
+        final VoteRequestDto voteRequestDto = buildVoteRequestDto();
+        final VoteResponseDto voteResponseDto = buildVoteResponseDto();
+        Mockito.when(voteService.save(voteRequestDto)).thenReturn(voteResponseDto);
+        Assert.assertSame(voteResponseDto, voteController.saveVote(IDEMPOTENCY_KEY, voteRequestDto).join());
+        Assert.assertSame(voteResponseDto, voteController.saveVote(IDEMPOTENCY_KEY, voteRequestDto).join());
+        Mockito.verify(voteService, Mockito.times(1)).save(voteRequestDto);
+    }
+
+    /**
+     * Save votes should return one result per vote when vote batch is saved.
+     */
+    @Test
+    public void saveVotesShouldReturnOneResultPerVoteWhenVoteBatchIsSaved() {
+        final VoteBatchRequestDto voteBatchRequestDto = buildVoteBatchRequestDto(buildVoteRequestDto());
+        Mockito.when(voteService.saveAll(voteBatchRequestDto.getVotes()))
+            .thenReturn(Collections.singletonList(VoteBatchResultDto.builder().build()));
+        final List<VoteBatchResultDto> voteBatchResultDtos = voteController.saveVotes(voteBatchRequestDto).join();
+        Assert.assertEquals(voteBatchRequestDto.getVotes().size(), voteBatchResultDtos.size());
+    }
+
+    private static IdempotencyConfigurationProperties buildIdempotencyConfigurationProperties() {
+        final IdempotencyConfigurationProperties idempotencyConfigurationProperties = new IdempotencyConfigurationProperties();
+        idempotencyConfigurationProperties.setTtlSeconds(TTL_SECONDS);
+        idempotencyConfigurationProperties.setMaximumSize(MAXIMUM_SIZE);
+        return idempotencyConfigurationProperties;
+    }
 }
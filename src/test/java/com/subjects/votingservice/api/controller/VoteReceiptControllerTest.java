@@ -0,0 +1,51 @@
+package com.subjects.votingservice.api.controller;
+
+import com.subjects.votingservice.api.dto.vote.VoteReceiptResponseDto;
+import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteReceiptStatus;
+import com.subjects.votingservice.domain.service.VoteReceiptService;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static com.subjects.votingservice.helper.VoteHelper.buildVoteRequestDto;
+import static com.subjects.votingservice.helper.VoteReceiptHelper.RECEIPT_ID;
+import static com.subjects.votingservice.helper.VoteReceiptHelper.buildVoteReceiptResponseDto;
+
+/**
+ * Vote receipt controller test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VoteReceiptControllerTest {
+
+    @Mock
+    private transient VoteReceiptService voteReceiptService;
+
+    @InjectMocks
+    private transient VoteReceiptController voteReceiptController;
+
+    /**
+     * Submit vote should return pending receipt when vote is accepted.
+     */
+    @Test
+    public void submitVoteShouldReturnPendingReceiptWhenVoteIsAccepted() {
+        final VoteRequestDto voteRequestDto = buildVoteRequestDto();
+        Mockito.when(voteReceiptService.submit(voteRequestDto)).thenReturn(buildVoteReceiptResponseDto());
+        final VoteReceiptResponseDto voteReceiptResponseDto = voteReceiptController.submitVote(voteRequestDto);
+        Assert.assertEquals(VoteReceiptStatus.PENDING, voteReceiptResponseDto.getStatus());
+    }
+
+    /**
+     * Find vote receipt should return receipt when vote receipt is found.
+     */
+    @Test
+    public void findVoteReceiptShouldReturnReceiptWhenVoteReceiptIsFound() {
+        Mockito.when(voteReceiptService.findById(RECEIPT_ID)).thenReturn(buildVoteReceiptResponseDto());
+        final VoteReceiptResponseDto voteReceiptResponseDto = voteReceiptController.findVoteReceipt(RECEIPT_ID);
+        Assert.assertEquals(RECEIPT_ID, voteReceiptResponseDto.getId());
+    }
+}
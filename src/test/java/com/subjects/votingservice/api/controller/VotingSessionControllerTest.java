@@ -5,6 +5,7 @@ import com.subjects.votingservice.domain.service.VotingSessionService;
 import com.subjects.votingservice.api.dto.session.VotingSessionRequestDto;
 import com.subjects.votingservice.api.dto.session.VotingSessionResponseDto;
 import com.subjects.votingservice.api.dto.session.VotingSessionResultDto;
+import com.subjects.votingservice.infrastructure.cache.VotingSessionResultCache;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -12,12 +13,17 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static com.subjects.votingservice.helper.SubjectHelper.CODE;
 import static com.subjects.votingservice.helper.VotingSessionHelper.*;
@@ -28,6 +34,8 @@ import static com.subjects.votingservice.helper.VotingSessionHelper.*;
 @RunWith(MockitoJUnitRunner.class)
 public class VotingSessionControllerTest {
 
+    private static final byte[] ENCODED_RESULT = "{}".getBytes(StandardCharsets.UTF_8);
+
     private transient MockMvc mockMvc;
 
     @Mock
@@ -36,6 +44,12 @@ public class VotingSessionControllerTest {
     @Mock
     private transient VoteService voteService;
 
+    @Mock
+    private transient VotingSessionResultCache votingSessionResultCache;
+
+    @Spy
+    private transient Executor ioExecutor = new SyncTaskExecutor();
+
     @InjectMocks
     private transient VotingSessionController votingSessionController;
 
@@ -85,8 +99,20 @@ public class VotingSessionControllerTest {
      */
     @Test
     public void findVotingSessionResultsShouldReturnOkStatusWhenVotingSessionResultIsFound() {
-        Mockito.when(voteService.findVotingSessionResultsBySubjectCode(CODE)).thenReturn(buildVotingSessionResultDto());
-        final VotingSessionResultDto votingSessionResultDto = votingSessionController.findVotingSessionResults(CODE);
-        Assert.assertNotNull(votingSessionResultDto);
+        final VotingSessionResultDto votingSessionResultDto = buildVotingSessionResultDto();
+        Mockito.when(votingSessionResultCache.find(CODE)).thenReturn(Optional.empty());
+        Mockito.when(voteService.findVotingSessionResultsBySubjectCode(CODE)).thenReturn(votingSessionResultDto);
+        Mockito.when(votingSessionResultCache.encode(votingSessionResultDto)).thenReturn(ENCODED_RESULT);
+        Assert.assertArrayEquals(ENCODED_RESULT, votingSessionController.findVotingSessionResults(CODE).join());
+    }
+
+    /**
+     * Find voting session results should return cached result when voting session is closed.
+     */
+    @Test
+    public void findVotingSessionResultsShouldReturnCachedResultWhenVotingSessionIsClosed() {
+        Mockito.when(votingSessionResultCache.find(CODE)).thenReturn(Optional.of(ENCODED_RESULT));
+        Assert.assertArrayEquals(ENCODED_RESULT, votingSessionController.findVotingSessionResults(CODE).join());
+        Mockito.verifyNoInteractions(voteService);
     }
 }
@@ -0,0 +1,65 @@
+package com.subjects.votingservice.api.dto.vote;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.util.Collections;
+import java.util.Set;
+
+import static com.subjects.votingservice.helper.VoteHelper.buildVoteBatchRequestDto;
+import static com.subjects.votingservice.helper.VoteHelper.buildVoteRequestDto;
+
+/**
+ * Vote batch request data transfer object test.
+ */
+public class VoteBatchRequestDtoTest {
+
+    private final transient ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final transient Validator validator = validatorFactory.getValidator();
+
+    private transient VoteBatchRequestDto voteBatchRequestDto;
+    private transient Set<ConstraintViolation<VoteBatchRequestDto>> violations;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        voteBatchRequestDto = buildVoteBatchRequestDto(buildVoteRequestDto());
+    }
+
+    /**
+     * Vote batch request data transfer object should not have empty votes attribute.
+     */
+    @Test
+    public void voteBatchRequestDtoShouldNotHaveEmptyVotesAttribute() {
+        voteBatchRequestDto.setVotes(Collections.emptyList());
+        violations = validator.validate(voteBatchRequestDto);
+        Assert.assertFalse(violations.isEmpty());
+    }
+
+    /**
+     * Vote batch request data transfer object should not have invalid vote request data transfer object.
+     */
+    @Test
+    public void voteBatchRequestDtoShouldNotHaveInvalidVoteRequestDto() {
+        voteBatchRequestDto.getVotes().get(0).setCpf("");
+        violations = validator.validate(voteBatchRequestDto);
+        Assert.assertFalse(violations.isEmpty());
+    }
+
+    /**
+     * Vote batch request data transfer object should not have more votes than maximum batch size.
+     */
+    @Test
+    public void voteBatchRequestDtoShouldNotHaveMoreVotesThanMaximumBatchSize() {
+        voteBatchRequestDto.setVotes(Collections.nCopies(VoteBatchRequestDto.MAX_BATCH_SIZE + 1, buildVoteRequestDto()));
+        violations = validator.validate(voteBatchRequestDto);
+        Assert.assertFalse(violations.isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+package com.subjects.votingservice.api.endpoint;
+
+import com.subjects.votingservice.api.dto.session.VotingSessionResultDto;
+import com.subjects.votingservice.domain.service.VoteService;
+import com.subjects.votingservice.infrastructure.cache.VotingSessionResultCache;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+
+/**
+ * Vote tally endpoint test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VoteTallyEndpointTest {
+
+    @Mock
+    private transient VoteService voteService;
+
+    @Mock
+    private transient VotingSessionResultCache votingSessionResultCache;
+
+    @InjectMocks
+    private transient VoteTallyEndpoint voteTallyEndpoint;
+
+    /**
+     * Recount should recount votes before evicting the cached voting session result.
+     */
+    @Test
+    public void recountShouldRecountVotesBeforeEvictingTheCachedResult() {
+        final VotingSessionResultDto votingSessionResultDto = VotingSessionResultDto.builder().build();
+        Mockito.when(voteService.recountVotingSessionResultsBySubjectCode(CODE)).thenReturn(votingSessionResultDto);
+
+        Assert.assertSame(votingSessionResultDto, voteTallyEndpoint.recount(CODE));
+
+        final InOrder inOrder = Mockito.inOrder(voteService, votingSessionResultCache);
+        inOrder.verify(voteService).recountVotingSessionResultsBySubjectCode(CODE);
+        inOrder.verify(votingSessionResultCache).evict(CODE);
+    }
+
+    /**
+     * Endpoint should not be exposed over HTTP by default.
+     *
+     * @throws IOException if the application properties cannot be read
+     */
+    @Test
+    public void endpointShouldNotBeExposedOverHttpByDefault() throws IOException {
+        final List<PropertySource<?>> propertySources = new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"));
+        final List<String> exposedEndpoints = new Binder(ConfigurationPropertySources.from(propertySources))
+            .bind("management.endpoints.web.exposure.include", Bindable.listOf(String.class))
+            .orElse(List.of());
+
+        Assert.assertFalse(exposedEndpoints.contains(VoteTallyEndpoint.class.getAnnotation(Endpoint.class).id()));
+        Assert.assertFalse(exposedEndpoints.contains("*"));
+    }
+}
@@ -0,0 +1,109 @@
+package com.subjects.votingservice.configuration;
+
+import com.subjects.votingservice.configuration.properties.VoteIngestionConfigurationProperties;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.listener.RetryingBatchErrorHandler;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+
+/**
+ * Kafka consumer configuration test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class KafkaConsumerConfigurationTest {
+
+    private static final String TOPIC = "votes";
+    private static final String DEAD_LETTER_TOPIC = "votes.DLT";
+    private static final String VOTE_REQUEST = "{}";
+    private static final int PARTITION = 3;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_INTERVAL_MILLISECONDS = 1L;
+
+    @Mock
+    private transient KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private transient Consumer<String, String> consumer;
+
+    @Mock
+    private transient MessageListenerContainer messageListenerContainer;
+
+    private transient RetryingBatchErrorHandler batchErrorHandler;
+    private transient ConsumerRecords<String, String> records;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        final VoteIngestionConfigurationProperties voteIngestionConfigurationProperties = new VoteIngestionConfigurationProperties();
+        voteIngestionConfigurationProperties.setDeadLetterTopic(DEAD_LETTER_TOPIC);
+        voteIngestionConfigurationProperties.setMaxAttempts(MAX_ATTEMPTS);
+        voteIngestionConfigurationProperties.setRetryIntervalMilliseconds(RETRY_INTERVAL_MILLISECONDS);
+        batchErrorHandler = new KafkaConsumerConfiguration(voteIngestionConfigurationProperties, kafkaTemplate).voteIngestionBatchErrorHandler();
+        final List<ConsumerRecord<String, String>> partitionRecords = Arrays.asList(
+            new ConsumerRecord<>(TOPIC, PARTITION, 0L, CODE, VOTE_REQUEST),
+            new ConsumerRecord<>(TOPIC, PARTITION, 1L, CODE, VOTE_REQUEST));
+        records = new ConsumerRecords<>(Map.of(new TopicPartition(TOPIC, PARTITION), partitionRecords));
+    }
+
+    /**
+     * Batch error handler should publish every record to the dead letter topic once max attempts are exhausted.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void batchErrorHandlerShouldDeadLetterEveryRecordOnceMaxAttemptsAreExhausted() {
+        final SettableListenableFuture<SendResult<String, String>> sendResult = new SettableListenableFuture<>();
+        sendResult.set(null);
+        Mockito.when(kafkaTemplate.send(Mockito.<ProducerRecord<String, String>>any())).thenReturn(sendResult);
+        final AtomicInteger retries = new AtomicInteger();
+
+        batchErrorHandler.handle(new IllegalStateException(), records, consumer, messageListenerContainer, () -> {
+            retries.incrementAndGet();
+            throw new IllegalStateException();
+        });
+
+        Assert.assertEquals(MAX_ATTEMPTS - 1, retries.get());
+        final ArgumentCaptor<ProducerRecord<String, String>> deadLetters = ArgumentCaptor.forClass(ProducerRecord.class);
+        Mockito.verify(kafkaTemplate, Mockito.times(2)).send(deadLetters.capture());
+        deadLetters.getAllValues().forEach(deadLetter -> {
+            Assert.assertEquals(DEAD_LETTER_TOPIC, deadLetter.topic());
+            Assert.assertEquals(Integer.valueOf(PARTITION), deadLetter.partition());
+            Assert.assertEquals(CODE, deadLetter.key());
+        });
+    }
+
+    /**
+     * Batch error handler should not dead letter a batch that succeeds on retry.
+     */
+    @Test
+    public void batchErrorHandlerShouldNotDeadLetterBatchThatSucceedsOnRetry() {
+        final AtomicInteger retries = new AtomicInteger();
+
+        batchErrorHandler.handle(new IllegalStateException(), records, consumer, messageListenerContainer, retries::incrementAndGet);
+
+        Assert.assertEquals(1, retries.get());
+        Mockito.verify(kafkaTemplate, Mockito.never()).send(Mockito.<ProducerRecord<String, String>>any());
+    }
+}
@@ -0,0 +1,124 @@
+package com.subjects.votingservice.configuration;
+
+import com.subjects.votingservice.configuration.properties.UserInfoHttpClientConfigurationProperties;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Rest template configuration test.
+ */
+public class RestTemplateConfigurationTest {
+
+    private static final URI USER_INFO_URI = URI.create("http://localhost/users/cpf");
+    private static final int MAX_CONNECTIONS_TOTAL = 20;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+    private static final long KEEP_ALIVE_MILLISECONDS = 30_000L;
+    private static final long IDLE_EVICTION_MILLISECONDS = 10_000L;
+    private static final int CONNECT_TIMEOUT_MILLISECONDS = 500;
+    private static final int CONNECTION_REQUEST_TIMEOUT_MILLISECONDS = 100;
+    private static final int READ_TIMEOUT_MILLISECONDS = 2_000;
+    private static final long DEADLINE_MILLISECONDS = 50L;
+
+    private transient PoolingHttpClientConnectionManager connectionManager;
+    private transient CloseableHttpClient httpClient;
+    private transient RestTemplate restTemplate;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        final UserInfoHttpClientConfigurationProperties userInfoHttpClientConfigurationProperties = new UserInfoHttpClientConfigurationProperties();
+        userInfoHttpClientConfigurationProperties.setMaxConnectionsTotal(MAX_CONNECTIONS_TOTAL);
+        userInfoHttpClientConfigurationProperties.setMaxConnectionsPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        userInfoHttpClientConfigurationProperties.setKeepAliveMilliseconds(KEEP_ALIVE_MILLISECONDS);
+        userInfoHttpClientConfigurationProperties.setIdleEvictionMilliseconds(IDLE_EVICTION_MILLISECONDS);
+        userInfoHttpClientConfigurationProperties.setConnectTimeoutMilliseconds(CONNECT_TIMEOUT_MILLISECONDS);
+        userInfoHttpClientConfigurationProperties.setConnectionRequestTimeoutMilliseconds(CONNECTION_REQUEST_TIMEOUT_MILLISECONDS);
+        userInfoHttpClientConfigurationProperties.setReadTimeoutMilliseconds(READ_TIMEOUT_MILLISECONDS);
+        final RestTemplateConfiguration restTemplateConfiguration = new RestTemplateConfiguration(userInfoHttpClientConfigurationProperties);
+        connectionManager = restTemplateConfiguration.connectionManager(new SimpleMeterRegistry());
+        httpClient = restTemplateConfiguration.httpClient(connectionManager);
+        restTemplate = restTemplateConfiguration.restTemplate(new RestTemplateBuilder(), httpClient);
+    }
+
+    /**
+     * Method tear down.
+     *
+     * @throws IOException if the http client cannot be closed
+     */
+    @After
+    public void tearDown() throws IOException {
+        RequestDeadline.clear();
+        httpClient.close();
+    }
+
+    /**
+     * Rest template should send requests through the pooled http client.
+     */
+    @Test
+    public void restTemplateShouldUsePooledHttpClient() {
+        Assert.assertEquals(MAX_CONNECTIONS_TOTAL, connectionManager.getMaxTotal());
+        Assert.assertEquals(MAX_CONNECTIONS_PER_ROUTE, connectionManager.getDefaultMaxPerRoute());
+        Assert.assertSame(connectionManager, ReflectionTestUtils.getField(httpClient, "connManager"));
+
+        Assert.assertTrue(restTemplate.getRequestFactory() instanceof HttpComponentsClientHttpRequestFactory);
+        Assert.assertSame(httpClient, ((HttpComponentsClientHttpRequestFactory) restTemplate.getRequestFactory()).getHttpClient());
+    }
+
+    /**
+     * Rest template should apply the configured connect, connection request and read timeouts.
+     */
+    @Test
+    public void restTemplateShouldApplyConfiguredTimeouts() {
+        final RequestConfig requestConfig = ReflectionTestUtils.invokeMethod(restTemplate.getRequestFactory(), "createRequestConfig", httpClient);
+
+        Assert.assertNotNull(requestConfig);
+        Assert.assertEquals(CONNECT_TIMEOUT_MILLISECONDS, requestConfig.getConnectTimeout());
+        Assert.assertEquals(CONNECTION_REQUEST_TIMEOUT_MILLISECONDS, requestConfig.getConnectionRequestTimeout());
+        Assert.assertEquals(READ_TIMEOUT_MILLISECONDS, requestConfig.getSocketTimeout());
+    }
+
+    /**
+     * Rest template should bound the configured timeouts by the request deadline.
+     */
+    @Test
+    public void restTemplateShouldBoundTimeoutsByRequestDeadline() {
+        RequestDeadline.start(DEADLINE_MILLISECONDS);
+
+        final HttpClientContext context = ReflectionTestUtils.invokeMethod(restTemplate.getRequestFactory(), "createHttpContext",
+            HttpMethod.GET, USER_INFO_URI);
+
+        Assert.assertNotNull(context);
+        Assert.assertTrue(context.getRequestConfig().getConnectTimeout() <= DEADLINE_MILLISECONDS);
+        Assert.assertTrue(context.getRequestConfig().getConnectionRequestTimeout() <= DEADLINE_MILLISECONDS);
+        Assert.assertTrue(context.getRequestConfig().getSocketTimeout() <= DEADLINE_MILLISECONDS);
+    }
+
+    /**
+     * Rest template should keep the configured timeouts when there is no request deadline.
+     */
+    @Test
+    public void restTemplateShouldKeepConfiguredTimeoutsWithoutRequestDeadline() {
+        final Object context = ReflectionTestUtils.invokeMethod(restTemplate.getRequestFactory(), "createHttpContext",
+            HttpMethod.GET, USER_INFO_URI);
+
+        Assert.assertNull(context);
+    }
+}
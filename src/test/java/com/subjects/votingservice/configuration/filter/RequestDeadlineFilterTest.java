@@ -0,0 +1,164 @@
+package com.subjects.votingservice.configuration.filter;
+
+import com.subjects.votingservice.configuration.properties.RequestDeadlineConfigurationProperties;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.subjects.votingservice.api.constants.HttpConstants.REQUEST_TIMEOUT_HEADER;
+
+/**
+ * Request deadline filter test.
+ */
+public class RequestDeadlineFilterTest {
+
+    private static final String VOTE_PATH = "/api/voting-service/v1/vote";
+    private static final String BATCH_VOTE_PATH = "/api/voting-service/v1/vote/batch";
+    private static final String ACTUATOR_PATH = "/api/voting-service/actuator/health";
+    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 1000L;
+    private static final long MAX_TIMEOUT_MILLISECONDS = 2000L;
+    private static final long BATCH_DEFAULT_TIMEOUT_MILLISECONDS = 30_000L;
+    private static final long BATCH_MAX_TIMEOUT_MILLISECONDS = 60_000L;
+    private static final long REQUESTED_TIMEOUT_MILLISECONDS = 500L;
+    private static final long LONG_REQUESTED_TIMEOUT_MILLISECONDS = 45_000L;
+    private static final long TOLERANCE_MILLISECONDS = 1000L;
+
+    private transient RequestDeadlineFilter requestDeadlineFilter;
+    private final transient AtomicReference<OptionalLong> chainRemainingMilliseconds = new AtomicReference<>();
+    private final transient FilterChain filterChain = (request, response) -> chainRemainingMilliseconds.set(RequestDeadline.remainingMilliseconds());
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        final RequestDeadlineConfigurationProperties.Route batchRoute = new RequestDeadlineConfigurationProperties.Route();
+        batchRoute.setPath(BATCH_VOTE_PATH);
+        batchRoute.setDefaultTimeoutMilliseconds(BATCH_DEFAULT_TIMEOUT_MILLISECONDS);
+        batchRoute.setMaxTimeoutMilliseconds(BATCH_MAX_TIMEOUT_MILLISECONDS);
+        final RequestDeadlineConfigurationProperties requestDeadlineConfigurationProperties = new RequestDeadlineConfigurationProperties();
+        requestDeadlineConfigurationProperties.setDefaultTimeoutMilliseconds(DEFAULT_TIMEOUT_MILLISECONDS);
+        requestDeadlineConfigurationProperties.setMaxTimeoutMilliseconds(MAX_TIMEOUT_MILLISECONDS);
+        requestDeadlineConfigurationProperties.setExcludedPaths(Collections.singletonList("/api/voting-service/actuator/**"));
+        requestDeadlineConfigurationProperties.setRoutes(Collections.singletonList(batchRoute));
+        requestDeadlineFilter = new RequestDeadlineFilter(requestDeadlineConfigurationProperties);
+    }
+
+    /**
+     * Filter should start default deadline when request timeout header is missing and clear it afterwards.
+     *
+     * @throws Exception if the filter chain fails
+     */
+    @Test
+    public void filterShouldStartDefaultDeadlineWhenHeaderIsMissing() throws Exception {
+        filter(new MockHttpServletRequest("POST", VOTE_PATH));
+
+        assertDeadline(DEFAULT_TIMEOUT_MILLISECONDS);
+        Assert.assertTrue(RequestDeadline.remainingMilliseconds().isEmpty());
+    }
+
+    /**
+     * Filter should start requested deadline when it is below the maximum.
+     *
+     * @throws Exception if the filter chain fails
+     */
+    @Test
+    public void filterShouldStartRequestedDeadline() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", VOTE_PATH);
+        request.addHeader(REQUEST_TIMEOUT_HEADER, String.valueOf(REQUESTED_TIMEOUT_MILLISECONDS));
+
+        filter(request);
+
+        assertDeadline(REQUESTED_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * Filter should cap requested deadline at the maximum.
+     *
+     * @throws Exception if the filter chain fails
+     */
+    @Test
+    public void filterShouldCapRequestedDeadlineAtTheMaximum() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", VOTE_PATH);
+        request.addHeader(REQUEST_TIMEOUT_HEADER, String.valueOf(LONG_REQUESTED_TIMEOUT_MILLISECONDS));
+
+        filter(request);
+
+        assertDeadline(MAX_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * Filter should start default deadline when request timeout header is invalid.
+     *
+     * @throws Exception if the filter chain fails
+     */
+    @Test
+    public void filterShouldStartDefaultDeadlineWhenHeaderIsInvalid() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", VOTE_PATH);
+        request.addHeader(REQUEST_TIMEOUT_HEADER, "soon");
+
+        filter(request);
+
+        assertDeadline(DEFAULT_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * Filter should apply route default deadline to batch votes.
+     *
+     * @throws Exception if the filter chain fails
+     */
+    @Test
+    public void filterShouldApplyRouteDefaultDeadlineToBatchVotes() throws Exception {
+        filter(new MockHttpServletRequest("POST", BATCH_VOTE_PATH));
+
+        assertDeadline(BATCH_DEFAULT_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * Filter should let batch votes request deadline up to the route maximum.
+     *
+     * @throws Exception if the filter chain fails
+     */
+    @Test
+    public void filterShouldLetBatchVotesRequestDeadlineUpToTheRouteMaximum() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", BATCH_VOTE_PATH);
+        request.addHeader(REQUEST_TIMEOUT_HEADER, String.valueOf(LONG_REQUESTED_TIMEOUT_MILLISECONDS));
+
+        filter(request);
+
+        assertDeadline(LONG_REQUESTED_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * Filter should not start any deadline on excluded paths.
+     *
+     * @throws Exception if the filter chain fails
+     */
+    @Test
+    public void filterShouldNotStartAnyDeadlineOnExcludedPaths() throws Exception {
+        filter(new MockHttpServletRequest("GET", ACTUATOR_PATH));
+
+        Assert.assertTrue(chainRemainingMilliseconds.get().isEmpty());
+    }
+
+    private void filter(MockHttpServletRequest request) throws ServletException, IOException {
+        requestDeadlineFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+    }
+
+    private void assertDeadline(long timeoutMilliseconds) {
+        final OptionalLong remainingMilliseconds = chainRemainingMilliseconds.get();
+        Assert.assertTrue(remainingMilliseconds.isPresent());
+        Assert.assertTrue(remainingMilliseconds.getAsLong() <= timeoutMilliseconds);
+        Assert.assertTrue(remainingMilliseconds.getAsLong() > timeoutMilliseconds - TOLERANCE_MILLISECONDS);
+    }
+}
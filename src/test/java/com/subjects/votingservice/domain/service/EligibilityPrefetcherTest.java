@@ -0,0 +1,156 @@
+package com.subjects.votingservice.domain.service;
+
+import com.subjects.votingservice.configuration.properties.EligibilityPrefetchConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoCacheConfigurationProperties;
+import com.subjects.votingservice.domain.service.impl.EligibilityPrefetcher;
+import com.subjects.votingservice.infrastructure.entities.Associate;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import com.subjects.votingservice.infrastructure.repository.AssociateRepository;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+import static com.subjects.votingservice.helper.UserInfoResponseHelper.buildUserInfoResponseDto;
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Eligibility prefetcher test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EligibilityPrefetcherTest {
+
+    private static final int ASSOCIATES = 20;
+    private static final int CONCURRENCY = 3;
+    private static final int RATE_PER_SECOND = 1000;
+    private static final int QUEUE_CAPACITY = 10;
+    private static final int PAGE_SIZE = 8;
+    private static final long TTL_SECONDS = 600L;
+
+    @Mock
+    private transient AssociateRepository associateRepository;
+
+    @Mock
+    private transient AsyncUserInfoService userInfoService;
+
+    private transient EligibilityPrefetcher eligibilityPrefetcher;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        final EligibilityPrefetchConfigurationProperties eligibilityPrefetchConfigurationProperties = new EligibilityPrefetchConfigurationProperties();
+        eligibilityPrefetchConfigurationProperties.setConcurrency(CONCURRENCY);
+        eligibilityPrefetchConfigurationProperties.setRatePerSecond(RATE_PER_SECOND);
+        eligibilityPrefetchConfigurationProperties.setQueueCapacity(QUEUE_CAPACITY);
+        eligibilityPrefetchConfigurationProperties.setPageSize(PAGE_SIZE);
+        final UserInfoCacheConfigurationProperties userInfoCacheConfigurationProperties = new UserInfoCacheConfigurationProperties();
+        userInfoCacheConfigurationProperties.setAbleToVoteTtlSeconds(TTL_SECONDS);
+        userInfoCacheConfigurationProperties.setUnableToVoteTtlSeconds(TTL_SECONDS);
+        userInfoCacheConfigurationProperties.setMaximumSize(ASSOCIATES);
+        eligibilityPrefetcher = new EligibilityPrefetcher(associateRepository, userInfoService, eligibilityPrefetchConfigurationProperties,
+            userInfoCacheConfigurationProperties);
+        final List<Associate> associates = IntStream.range(0, ASSOCIATES).mapToObj(index -> {
+            final Associate associate = new Associate("first name", "last name", "cpf" + index);
+            associate.setId(String.format("%02d", index));
+            return associate;
+        }).collect(Collectors.toList());
+        Mockito.when(associateRepository.findAllCpfs(any(Pageable.class))).thenReturn(associates.subList(0, PAGE_SIZE));
+        Mockito.when(associateRepository.findCpfsByIdGreaterThan(anyString(), any(Pageable.class))).thenAnswer(invocation -> associates.stream()
+            .filter(associate -> associate.getId().compareTo(invocation.getArgument(0)) > 0)
+            .limit(PAGE_SIZE)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * Prefetch should look every associate up without exceeding concurrency.
+     *
+     * @throws InterruptedException if interrupted while prefetching
+     */
+    @Test
+    public void prefetchShouldLookEveryAssociateUpWithoutExceedingConcurrency() throws InterruptedException {
+        final AtomicInteger inFlightLookups = new AtomicInteger();
+        final AtomicInteger maxInFlightLookups = new AtomicInteger();
+        final List<CompletableFuture<UserInfoResponseDto>> lookups = new ArrayList<>();
+        Mockito.when(userInfoService.getUserInfoAsync(anyString())).thenAnswer(invocation -> {
+            maxInFlightLookups.accumulateAndGet(inFlightLookups.incrementAndGet(), Math::max);
+            final CompletableFuture<UserInfoResponseDto> lookup = CompletableFuture.supplyAsync(() -> {
+                inFlightLookups.decrementAndGet();
+                return buildUserInfoResponseDto(ABLE_TO_VOTE);
+            });
+            lookups.add(lookup);
+            return lookup;
+        });
+
+        Assert.assertEquals(ASSOCIATES, eligibilityPrefetcher.prefetch(CODE));
+        Assert.assertTrue(lookups.stream().allMatch(CompletableFuture::isDone));
+        Assert.assertTrue(maxInFlightLookups.get() <= CONCURRENCY);
+    }
+
+    /**
+     * Prefetch should carry on when lookups fail.
+     *
+     * @throws InterruptedException if interrupted while prefetching
+     */
+    @Test
+    public void prefetchShouldCarryOnWhenLookupsFail() throws InterruptedException {
+        Mockito.when(userInfoService.getUserInfoAsync(anyString()))
+            .thenReturn(CompletableFuture.failedFuture(new ResourceAccessException("timeout")));
+
+        Assert.assertEquals(ASSOCIATES, eligibilityPrefetcher.prefetch(CODE));
+        Mockito.verify(userInfoService, Mockito.times(ASSOCIATES)).getUserInfoAsync(anyString());
+    }
+
+    /**
+     * Prefetch should look up the cpf of each associate.
+     *
+     * @throws InterruptedException if interrupted while prefetching
+     */
+    @Test
+    public void prefetchShouldLookUpTheCpfOfEachAssociate() throws InterruptedException {
+        final List<String> cpfs = new ArrayList<>();
+        Mockito.when(userInfoService.getUserInfoAsync(anyString())).thenAnswer(invocation -> {
+            cpfs.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(buildUserInfoResponseDto(ABLE_TO_VOTE));
+        });
+
+        eligibilityPrefetcher.prefetch(CODE);
+        Assert.assertEquals(IntStream.range(0, ASSOCIATES).mapToObj(index -> "cpf" + index).collect(Collectors.toList()), cpfs);
+    }
+
+    /**
+     * Prefetch should page through associates by id, stopping after the first page that is not full.
+     *
+     * @throws InterruptedException if interrupted while prefetching
+     */
+    @Test
+    public void prefetchShouldPageThroughAssociatesById() throws InterruptedException {
+        Mockito.when(userInfoService.getUserInfoAsync(anyString()))
+            .thenReturn(CompletableFuture.completedFuture(buildUserInfoResponseDto(ABLE_TO_VOTE)));
+
+        eligibilityPrefetcher.prefetch(CODE);
+
+        final ArgumentCaptor<String> lastIds = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(associateRepository, Mockito.times(2)).findCpfsByIdGreaterThan(lastIds.capture(), any(Pageable.class));
+        Assert.assertEquals(Arrays.asList("07", "15"), lastIds.getAllValues());
+    }
+}
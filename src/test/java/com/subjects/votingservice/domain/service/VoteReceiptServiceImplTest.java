@@ -0,0 +1,62 @@
+package com.subjects.votingservice.domain.service;
+
+import com.subjects.votingservice.api.dto.vote.VoteReceiptResponseDto;
+import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
+import com.subjects.votingservice.api.mapping.VoteReceiptMapper;
+import com.subjects.votingservice.domain.exception.VoteReceiptNotFoundException;
+import com.subjects.votingservice.domain.service.impl.VoteReceiptServiceImpl;
+import com.subjects.votingservice.infrastructure.entities.VoteReceipt;
+import com.subjects.votingservice.infrastructure.repository.VoteReceiptRepository;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static com.subjects.votingservice.helper.VoteHelper.buildVoteRequestDto;
+import static com.subjects.votingservice.helper.VoteReceiptHelper.RECEIPT_ID;
+import static com.subjects.votingservice.helper.VoteReceiptHelper.buildVoteReceipt;
+import static com.subjects.votingservice.helper.VoteReceiptHelper.buildVoteReceiptResponseDto;
+
+/**
+ * Vote receipt service implementation test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VoteReceiptServiceImplTest {
+
+    @Mock
+    private transient VoteReceiptRepository voteReceiptRepository;
+
+    @Mock
+    private transient VoteReceiptMapper voteReceiptMapper;
+
+    @InjectMocks
+    private transient VoteReceiptServiceImpl voteReceiptServiceImpl;
+
+    /**
+     * Submit should return pending vote receipt when vote receipt is saved.
+     */
+    @Test
+    public void submitShouldReturnPendingVoteReceiptWhenVoteReceiptIsSaved() {
+        final VoteRequestDto voteRequestDto = buildVoteRequestDto();
+        final VoteReceipt voteReceipt = buildVoteReceipt();
+        Mockito.when(voteReceiptMapper.voteRequestDtoToVoteReceipt(voteRequestDto)).thenReturn(voteReceipt);
+        Mockito.when(voteReceiptRepository.insert(voteReceipt)).thenReturn(voteReceipt);
+        Mockito.when(voteReceiptMapper.voteReceiptToVoteReceiptResponseDto(voteReceipt)).thenReturn(buildVoteReceiptResponseDto());
+        final VoteReceiptResponseDto voteReceiptResponseDto = voteReceiptServiceImpl.submit(voteRequestDto);
+        Assert.assertEquals(RECEIPT_ID, voteReceiptResponseDto.getId());
+    }
+
+    /**
+     * Find by id should throw vote receipt not found exception when vote receipt is not found.
+     */
+    @Test(expected = VoteReceiptNotFoundException.class)
+    public void findByIdShouldThrowVoteReceiptNotFoundExceptionWhenVoteReceiptIsNotFound() {
+        Mockito.when(voteReceiptRepository.findById(RECEIPT_ID)).thenReturn(Optional.empty());
+        voteReceiptServiceImpl.findById(RECEIPT_ID);
+    }
+}
@@ -0,0 +1,127 @@
+package com.subjects.votingservice.domain.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
+import com.subjects.votingservice.api.mapping.VoteReceiptMapper;
+import com.subjects.votingservice.configuration.properties.VoteReceiptConfigurationProperties;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteOutcome;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteReceiptStatus;
+import com.subjects.votingservice.domain.exception.AssociateAlreadyVotedException;
+import com.subjects.votingservice.domain.service.impl.VoteReceiptWorker;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.VoteReceipt;
+import org.bson.Document;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.web.client.ResourceAccessException;
+
+import static com.subjects.votingservice.helper.VoteHelper.buildVoteRequestDto;
+import static com.subjects.votingservice.helper.VoteReceiptHelper.buildVoteReceipt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Vote receipt worker test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VoteReceiptWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Mock
+    private transient MongoTemplate mongoTemplate;
+
+    @Mock
+    private transient VoteService voteService;
+
+    @Mock
+    private transient VoteReceiptMapper voteReceiptMapper;
+
+    private transient VoteReceiptWorker voteReceiptWorker;
+    private transient VoteReceipt voteReceipt;
+    private transient VoteRequestDto voteRequestDto;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        final VoteReceiptConfigurationProperties voteReceiptConfigurationProperties = new VoteReceiptConfigurationProperties();
+        voteReceiptConfigurationProperties.setMaxAttempts(MAX_ATTEMPTS);
+        voteReceiptWorker = new VoteReceiptWorker(mongoTemplate, voteService, voteReceiptMapper, voteReceiptConfigurationProperties);
+        voteReceipt = buildVoteReceipt();
+        voteRequestDto = buildVoteRequestDto();
+        Mockito.when(voteReceiptMapper.voteReceiptToVoteRequestDto(voteReceipt)).thenReturn(voteRequestDto);
+        Mockito.when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(VoteReceipt.class)))
+            .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
+    }
+
+    /**
+     * Process should complete receipt as accepted when vote is saved.
+     */
+    @Test
+    public void processShouldCompleteReceiptAsAcceptedWhenVoteIsSaved() {
+        voteReceiptWorker.process(voteReceipt);
+        assertUpdate(VoteReceiptStatus.COMPLETED, VoteOutcome.ACCEPTED);
+    }
+
+    /**
+     * Process should complete receipt with rejection outcome when vote is rejected.
+     */
+    @Test
+    public void processShouldCompleteReceiptWithRejectionOutcomeWhenVoteIsRejected() {
+        Mockito.when(voteService.save(voteRequestDto)).thenThrow(AssociateAlreadyVotedException.class);
+        voteReceiptWorker.process(voteReceipt);
+        assertUpdate(VoteReceiptStatus.COMPLETED, VoteOutcome.ALREADY_VOTED);
+    }
+
+    /**
+     * Process should complete receipt as accepted when vote was already saved by a previous claim of the receipt.
+     */
+    @Test
+    public void processShouldCompleteReceiptAsAcceptedWhenVoteWasSavedByPreviousClaim() {
+        Mockito.when(voteService.save(voteRequestDto)).thenThrow(AssociateAlreadyVotedException.class);
+        Mockito.when(mongoTemplate.exists(any(Query.class), eq(Vote.class))).thenReturn(true);
+        voteReceiptWorker.process(voteReceipt);
+        assertUpdate(VoteReceiptStatus.COMPLETED, VoteOutcome.ACCEPTED);
+    }
+
+    /**
+     * Process should release receipt when vote fails before max attempts.
+     */
+    @Test
+    public void processShouldReleaseReceiptWhenVoteFailsBeforeMaxAttempts() {
+        Mockito.when(voteService.save(voteRequestDto)).thenThrow(ResourceAccessException.class);
+        voteReceiptWorker.process(voteReceipt);
+        assertUpdate(VoteReceiptStatus.PENDING, null);
+    }
+
+    /**
+     * Process should fail receipt when vote fails at max attempts.
+     */
+    @Test
+    public void processShouldFailReceiptWhenVoteFailsAtMaxAttempts() {
+        voteReceipt.setAttempts(MAX_ATTEMPTS);
+        Mockito.when(voteService.save(voteRequestDto)).thenThrow(ResourceAccessException.class);
+        voteReceiptWorker.process(voteReceipt);
+        assertUpdate(VoteReceiptStatus.FAILED, null);
+    }
+
+    private void assertUpdate(VoteReceiptStatus status, VoteOutcome outcome) {
+        final ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        Mockito.verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(VoteReceipt.class));
+        final Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        Assert.assertEquals(status, set.get("status"));
+        Assert.assertEquals(outcome, set.get("outcome"));
+        Assert.assertEquals(VoteReceiptStatus.PENDING != status, set.containsKey("completionDateTime"));
+    }
+}
@@ -1,39 +1,64 @@
 package com.subjects.votingservice.domain.service;
 
 import com.subjects.votingservice.configuration.properties.KafkaConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VoteBatchConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VoteVerificationConfigurationProperties;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteOutcome;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteVerificationStatus;
 import com.subjects.votingservice.domain.exception.AssociateAlreadyVotedException;
 import com.subjects.votingservice.domain.exception.AssociateNotFoundException;
 import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
 import com.subjects.votingservice.domain.exception.SessionExpiredException;
 import com.subjects.votingservice.domain.exception.VotingSessionNotFoundException;
+import com.subjects.votingservice.infrastructure.integration.AsyncUserInfoService;
 import com.subjects.votingservice.infrastructure.integration.UserInfoService;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
 import com.subjects.votingservice.api.mapping.VoteMapper;
 import com.subjects.votingservice.api.mapping.VotingSessionMapper;
+import com.subjects.votingservice.infrastructure.entities.Associate;
 import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.VoteTally;
 import com.subjects.votingservice.infrastructure.entities.VotingSession;
+import com.subjects.votingservice.infrastructure.persistence.VoteSchemaMigration;
+import com.subjects.votingservice.infrastructure.persistence.VoteTallyBuffer;
+import com.subjects.votingservice.infrastructure.persistence.VoteTallyStore;
+import com.subjects.votingservice.infrastructure.persistence.VoteWriter;
 import com.subjects.votingservice.infrastructure.repository.AssociateRepository;
 import com.subjects.votingservice.infrastructure.repository.VoteRepository;
+import com.subjects.votingservice.infrastructure.repository.VoteTallyRepository;
 import com.subjects.votingservice.infrastructure.repository.VotingSessionRepository;
 import com.subjects.votingservice.domain.service.impl.VoteServiceImpl;
 import com.subjects.votingservice.api.dto.session.VotingSessionResponseDto;
 import com.subjects.votingservice.api.dto.session.VotingSessionResultDto;
+import com.subjects.votingservice.api.dto.vote.VoteBatchResultDto;
 import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
 import com.subjects.votingservice.api.dto.vote.VoteResponseDto;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.subjects.votingservice.helper.AssociateHelper.CPF;
 import static com.subjects.votingservice.helper.AssociateHelper.buildAssociate;
@@ -45,6 +70,8 @@ import static com.subjects.votingservice.helper.VotingSessionHelper.buildVotingS
 import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
 import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.UNABLE_TO_VOTE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 
 /**
  * Vote service implementation test.
@@ -53,6 +80,9 @@ import static org.mockito.ArgumentMatchers.any;
 public class VoteServiceImplTest {
 
     private static final int MINUTES = 30;
+    private static final String OTHER_CPF = "other cpf";
+    private static final String OTHER_CODE = "other code";
+    private static final int ELIGIBILITY_CONCURRENCY = 4;
 
     private transient MockMvc mockMvc;
 
@@ -62,12 +92,30 @@ public class VoteServiceImplTest {
     @Mock
     private transient VoteRepository voteRepository;
 
+    @Mock
+    private transient VoteWriter voteWriter;
+
+    @Mock
+    private transient VoteSchemaMigration voteSchemaMigration;
+
+    @Mock
+    private transient VoteTallyRepository voteTallyRepository;
+
+    @Mock
+    private transient VoteTallyStore voteTallyStore;
+
+    @Mock
+    private transient VoteTallyBuffer voteTallyBuffer;
+
     @Mock
     private transient VotingSessionRepository votingSessionRepository;
 
     @Mock
     private transient AssociateRepository associateRepository;
 
+    @Spy
+    private transient Executor voteValidationExecutor = new SyncTaskExecutor();
+
     @Mock
     private transient VoteMapper voteMapper;
 
@@ -80,6 +128,12 @@ public class VoteServiceImplTest {
     @Mock
     private transient KafkaConfigurationProperties kafkaConfigurationProperties;
 
+    @Mock
+    private transient VoteVerificationConfigurationProperties voteVerificationConfigurationProperties;
+
+    @Spy
+    private transient VoteBatchConfigurationProperties voteBatchConfigurationProperties = new VoteBatchConfigurationProperties();
+
     @InjectMocks
     private transient VoteServiceImpl voteServiceImpl;
 
@@ -89,6 +143,7 @@ public class VoteServiceImplTest {
     @Before
     public void setup() {
         mockMvc = MockMvcBuilders.standaloneSetup(voteServiceImpl).build();
+        voteBatchConfigurationProperties.setEligibilityConcurrency(ELIGIBILITY_CONCURRENCY);
     }
 
     /**
@@ -98,7 +153,6 @@ public class VoteServiceImplTest {
     public void saveShouldThrowAssociateUnableToVoteExceptionWhenUserIsNotAbleToVote() {
         final VoteRequestDto voteRequestDto = buildVoteRequestDto();
         Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.ofNullable(buildAssociate()));
-        Mockito.when(voteRepository.existsByAssociateCpfAndSessionSubjectCode(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode())).thenReturn(false);
         Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(UNABLE_TO_VOTE));
         voteServiceImpl.save(voteRequestDto);
     }
@@ -109,9 +163,52 @@ public class VoteServiceImplTest {
     @Test(expected = AssociateAlreadyVotedException.class)
     public void saveShouldThrowAssociateAlreadyVotedExceptionWhenAssociateHasVotedAlready() {
         final VoteRequestDto voteRequestDto = buildVoteRequestDto();
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+        Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.ofNullable(buildAssociate()));
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(voteRequestDto.getSubjectCode())).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteWriter.save(any(Vote.class))).thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+        voteServiceImpl.save(voteRequestDto);
+    }
+
+    /**
+     * Save should throw associate already voted exception without saving the vote when associate has a legacy vote
+     * before the vote schema migration is completed.
+     */
+    @Test
+    public void saveShouldThrowAssociateAlreadyVotedExceptionWhenAssociateHasLegacyVoteBeforeMigration() {
+        final VoteRequestDto voteRequestDto = buildVoteRequestDto();
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
         Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.ofNullable(buildAssociate()));
-        Mockito.when(voteRepository.existsByAssociateCpfAndSessionSubjectCode(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode())).thenReturn(true);
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(voteRequestDto.getSubjectCode())).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteSchemaMigration.isCompleted()).thenReturn(false);
+        Mockito.when(voteRepository.findLegacyByCpfInAndSessionSubjectCodeIn(Collections.singleton(CPF), Collections.singleton(CODE)))
+            .thenReturn(Collections.singletonList(new Vote(CPF, CODE, null)));
+
+        Assert.assertThrows(AssociateAlreadyVotedException.class, () -> voteServiceImpl.save(voteRequestDto));
+        Mockito.verifyNoInteractions(voteWriter, voteTallyBuffer);
+    }
+
+    /**
+     * Save should not look legacy votes up once the vote schema migration is completed.
+     */
+    @Test
+    public void saveShouldNotLookLegacyVotesUpOnceMigrationIsCompleted() {
+        final VoteRequestDto voteRequestDto = buildVoteRequestDto();
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+        Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.ofNullable(buildAssociate()));
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(voteRequestDto.getSubjectCode())).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteSchemaMigration.isCompleted()).thenReturn(true);
+
         voteServiceImpl.save(voteRequestDto);
+
+        Mockito.verify(voteWriter).save(any(Vote.class));
+        Mockito.verify(voteRepository, Mockito.never()).findLegacyByCpfInAndSessionSubjectCodeIn(anyCollection(), anyCollection());
     }
 
     /**
@@ -121,7 +218,6 @@ public class VoteServiceImplTest {
     public void saveShouldThrowVotingSessionNotFoundExceptionWhenVotingSessionSubjectIsNotFound() {
         final VoteRequestDto voteRequestDto = buildVoteRequestDto();
         Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.ofNullable(buildAssociate()));
-        Mockito.when(voteRepository.existsByAssociateCpfAndSessionSubjectCode(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode())).thenReturn(false);
         Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
         Mockito.when(votingSessionRepository.findOneBySubjectCode(voteRequestDto.getSubjectCode())).thenThrow(VotingSessionNotFoundException.class);
         voteServiceImpl.save(voteRequestDto);
@@ -135,12 +231,30 @@ public class VoteServiceImplTest {
         final VoteRequestDto voteRequestDto = buildVoteRequestDto();
         final VotingSession votingSession = buildVotingSession();
         Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.ofNullable(buildAssociate()));
-        Mockito.when(voteRepository.existsByAssociateCpfAndSessionSubjectCode(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode())).thenReturn(false);
         Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
         Mockito.when(votingSessionRepository.findOneBySubjectCode(voteRequestDto.getSubjectCode())).thenReturn(Optional.ofNullable(votingSession));
         voteServiceImpl.save(voteRequestDto);
     }
 
+    /**
+     * Save should reject vote of an expired voting session without waiting for the eligibility check.
+     */
+    @Test
+    public void saveShouldRejectVoteOfExpiredVotingSessionWithoutWaitingForTheEligibilityCheck() {
+        final VoteRequestDto voteRequestDto = buildVoteRequestDto();
+        final AsyncUserInfoService asyncUserInfoService = Mockito.mock(AsyncUserInfoService.class);
+        final CompletableFuture<UserInfoResponseDto> userInfoFuture = new CompletableFuture<>();
+        ReflectionTestUtils.setField(voteServiceImpl, "userInfoService", asyncUserInfoService);
+        Mockito.when(asyncUserInfoService.getUserInfoAsync(CPF)).thenReturn(userInfoFuture);
+        Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.ofNullable(buildAssociate()));
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(voteRequestDto.getSubjectCode())).thenReturn(Optional.ofNullable(buildVotingSession()));
+
+        Assert.assertThrows(SessionExpiredException.class, () -> voteServiceImpl.save(voteRequestDto));
+
+        Assert.assertFalse(userInfoFuture.isDone());
+        Mockito.verifyNoInteractions(voteWriter);
+    }
+
     /**
      * Save should throw associate not found exception when associate is not found.
      */
@@ -151,6 +265,18 @@ public class VoteServiceImplTest {
         voteServiceImpl.save(voteRequestDto);
     }
 
+    /**
+     * Save should throw associate not found exception when associate and voting session are not found.
+     */
+    @Test(expected = AssociateNotFoundException.class)
+    public void saveShouldThrowAssociateNotFoundExceptionWhenAssociateAndVotingSessionAreNotFound() {
+        final VoteRequestDto voteRequestDto = buildVoteRequestDto();
+        Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.empty());
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(UNABLE_TO_VOTE));
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(voteRequestDto.getSubjectCode())).thenReturn(Optional.empty());
+        voteServiceImpl.save(voteRequestDto);
+    }
+
     /**
      * Save should return vote response data transfer object when vote is saved.
      */
@@ -163,16 +289,173 @@ public class VoteServiceImplTest {
         votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
 
         Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.ofNullable(buildAssociate()));
-        Mockito.when(voteRepository.existsByAssociateCpfAndSessionSubjectCode(voteRequestDto.getCpf(), voteRequestDto.getSubjectCode())).thenReturn(false);
         Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
         Mockito.when(votingSessionRepository.findOneBySubjectCode(voteRequestDto.getSubjectCode())).thenReturn(Optional.ofNullable(votingSession));
-        Mockito.when(voteRepository.save(any(Vote.class))).thenReturn(vote);
-        Mockito.when(voteMapper.voteToVoteResponseDto(vote)).thenReturn(buildVoteResponseDto());
+        Mockito.when(voteWriter.save(any(Vote.class))).thenReturn(vote);
+        Mockito.when(voteMapper.toVoteResponseDto(any(Associate.class), any(VotingSession.class))).thenReturn(buildVoteResponseDto());
 
         final VoteResponseDto voteResponseDto = voteServiceImpl.save(voteRequestDto);
 
         Assert.assertEquals(voteRequestDto.getCpf(), voteResponseDto.getAssociate().getCpf());
         Assert.assertEquals(voteRequestDto.getSubjectCode(), voteResponseDto.getSession().getSubject().getCode());
+        Mockito.verify(voteTallyBuffer).count(CODE);
+    }
+
+    /**
+     * Save should save vote pending verification without checking eligibility when optimistic voting is enabled.
+     */
+    @Test
+    public void saveShouldSaveVotePendingVerificationWithoutCheckingEligibilityWhenOptimisticVotingIsEnabled() {
+        final VoteRequestDto voteRequestDto = buildVoteRequestDto();
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+
+        Mockito.when(voteVerificationConfigurationProperties.isEnabled()).thenReturn(true);
+        Mockito.when(associateRepository.findOneByCpf(voteRequestDto.getCpf())).thenReturn(Optional.ofNullable(buildAssociate()));
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(voteRequestDto.getSubjectCode())).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteMapper.toVoteResponseDto(any(Associate.class), any(VotingSession.class))).thenReturn(buildVoteResponseDto());
+
+        voteServiceImpl.save(voteRequestDto);
+
+        final ArgumentCaptor<Vote> voteCaptor = ArgumentCaptor.forClass(Vote.class);
+        Mockito.verify(voteWriter).save(voteCaptor.capture());
+        Assert.assertEquals(VoteVerificationStatus.PENDING, voteCaptor.getValue().getVerification());
+        Mockito.verifyNoInteractions(userInfoService, voteTallyBuffer);
+    }
+
+    /**
+     * Save all should accept first vote and reject repeated vote when batch has the same vote twice.
+     */
+    @Test
+    public void saveAllShouldAcceptFirstVoteAndRejectRepeatedVoteWhenBatchHasTheSameVoteTwice() {
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+
+        Mockito.when(associateRepository.findByCpfIn(anyCollection())).thenReturn(Collections.singletonList(buildAssociate()));
+        Mockito.when(votingSessionRepository.findBySubjectCodeIn(anyCollection())).thenReturn(Collections.singletonList(votingSession));
+        Mockito.when(voteRepository.findByCpfInAndSubjectCodeIn(anyCollection(), anyCollection())).thenReturn(Collections.emptyList());
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
+        Mockito.when(voteWriter.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(voteMapper.toVoteResponseDto(any(Associate.class), any(VotingSession.class))).thenReturn(buildVoteResponseDto());
+
+        final List<VoteBatchResultDto> voteBatchResultDtos = voteServiceImpl.saveAll(Arrays.asList(buildVoteRequestDto(), buildVoteRequestDto()));
+
+        Assert.assertEquals(VoteOutcome.ACCEPTED, voteBatchResultDtos.get(0).getOutcome());
+        Assert.assertNotNull(voteBatchResultDtos.get(0).getVote());
+        Assert.assertEquals(VoteOutcome.ALREADY_VOTED, voteBatchResultDtos.get(1).getOutcome());
+        Assert.assertNull(voteBatchResultDtos.get(1).getVote());
+    }
+
+    /**
+     * Save all should report already voted when vote is rejected by the unique index.
+     */
+    @Test
+    public void saveAllShouldReportAlreadyVotedWhenVoteIsRejectedByUniqueIndex() {
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+
+        Mockito.when(associateRepository.findByCpfIn(anyCollection())).thenReturn(Collections.singletonList(buildAssociate()));
+        Mockito.when(votingSessionRepository.findBySubjectCodeIn(anyCollection())).thenReturn(Collections.singletonList(votingSession));
+        Mockito.when(voteRepository.findByCpfInAndSubjectCodeIn(anyCollection(), anyCollection())).thenReturn(Collections.emptyList());
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
+        Mockito.when(voteWriter.saveAll(anyList())).thenReturn(Collections.emptyList());
+
+        final List<VoteBatchResultDto> voteBatchResultDtos = voteServiceImpl.saveAll(Collections.singletonList(buildVoteRequestDto()));
+
+        Assert.assertEquals(VoteOutcome.ALREADY_VOTED, voteBatchResultDtos.get(0).getOutcome());
+        Assert.assertNull(voteBatchResultDtos.get(0).getVote());
+    }
+
+    /**
+     * Save all should report already voted without saving the vote when associate has a legacy vote before the vote
+     * schema migration is completed.
+     */
+    @Test
+    public void saveAllShouldReportAlreadyVotedWhenAssociateHasLegacyVoteBeforeMigration() {
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+
+        Mockito.when(associateRepository.findByCpfIn(anyCollection())).thenReturn(Collections.singletonList(buildAssociate()));
+        Mockito.when(votingSessionRepository.findBySubjectCodeIn(anyCollection())).thenReturn(Collections.singletonList(votingSession));
+        Mockito.when(voteRepository.findByCpfInAndSubjectCodeIn(anyCollection(), anyCollection())).thenReturn(Collections.emptyList());
+        Mockito.when(voteSchemaMigration.isCompleted()).thenReturn(false);
+        Mockito.when(voteRepository.findLegacyByCpfInAndSessionSubjectCodeIn(anyCollection(), anyCollection()))
+            .thenReturn(Collections.singletonList(new Vote(CPF, CODE, null)));
+
+        final List<VoteBatchResultDto> voteBatchResultDtos = voteServiceImpl.saveAll(Collections.singletonList(buildVoteRequestDto()));
+
+        Assert.assertEquals(VoteOutcome.ALREADY_VOTED, voteBatchResultDtos.get(0).getOutcome());
+        Mockito.verifyNoInteractions(userInfoService, voteWriter);
+    }
+
+    /**
+     * Save all should report associate not found and not insert votes when associate is not found.
+     */
+    @Test
+    public void saveAllShouldReportAssociateNotFoundWhenAssociateIsNotFound() {
+        Mockito.when(associateRepository.findByCpfIn(anyCollection())).thenReturn(Collections.emptyList());
+        Mockito.when(votingSessionRepository.findBySubjectCodeIn(anyCollection())).thenReturn(Collections.emptyList());
+        Mockito.when(voteRepository.findByCpfInAndSubjectCodeIn(anyCollection(), anyCollection())).thenReturn(Collections.emptyList());
+
+        final List<VoteBatchResultDto> voteBatchResultDtos = voteServiceImpl.saveAll(Collections.singletonList(buildVoteRequestDto()));
+
+        Assert.assertEquals(VoteOutcome.ASSOCIATE_NOT_FOUND, voteBatchResultDtos.get(0).getOutcome());
+        Mockito.verify(voteWriter, Mockito.never()).saveAll(anyList());
+    }
+
+    /**
+     * Save all should report unable to vote and session expired outcomes when votes are rejected, without checking
+     * eligibility of votes for expired sessions.
+     */
+    @Test
+    public void saveAllShouldReportUnableToVoteAndSessionExpiredOutcomesWhenVotesAreRejected() {
+        final VoteRequestDto unableVoteRequestDto = buildVoteRequestDto();
+        final VoteRequestDto expiredVoteRequestDto = buildVoteRequestDto();
+        expiredVoteRequestDto.setCpf(OTHER_CPF);
+        expiredVoteRequestDto.setSubjectCode(OTHER_CODE);
+        final Associate otherAssociate = buildAssociate();
+        otherAssociate.setCpf(OTHER_CPF);
+        final VotingSession openVotingSession = buildVotingSession();
+        openVotingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+        final VotingSession expiredVotingSession = buildVotingSession();
+        expiredVotingSession.getSubject().setCode(OTHER_CODE);
+
+        Mockito.when(associateRepository.findByCpfIn(anyCollection())).thenReturn(Arrays.asList(buildAssociate(), otherAssociate));
+        Mockito.when(votingSessionRepository.findBySubjectCodeIn(anyCollection())).thenReturn(Arrays.asList(openVotingSession, expiredVotingSession));
+        Mockito.when(voteRepository.findByCpfInAndSubjectCodeIn(anyCollection(), anyCollection())).thenReturn(Collections.emptyList());
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenThrow(AssociateUnableToVoteException.class);
+
+        final List<VoteBatchResultDto> voteBatchResultDtos = voteServiceImpl.saveAll(Arrays.asList(unableVoteRequestDto, expiredVoteRequestDto));
+
+        Assert.assertEquals(VoteOutcome.UNABLE_TO_VOTE, voteBatchResultDtos.get(0).getOutcome());
+        Assert.assertEquals(VoteOutcome.SESSION_EXPIRED, voteBatchResultDtos.get(1).getOutcome());
+        Mockito.verify(userInfoService, Mockito.never()).getUserInfo(OTHER_CPF);
+    }
+
+    /**
+     * Save all should check eligibility of each distinct associate once when batch has several votes of the same associate.
+     */
+    @Test
+    public void saveAllShouldCheckEligibilityOnceWhenBatchHasSeveralVotesOfTheSameAssociate() {
+        final VoteRequestDto otherVoteRequestDto = buildVoteRequestDto();
+        otherVoteRequestDto.setSubjectCode(OTHER_CODE);
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+        final VotingSession otherVotingSession = buildVotingSession();
+        otherVotingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+        otherVotingSession.getSubject().setCode(OTHER_CODE);
+
+        Mockito.when(associateRepository.findByCpfIn(anyCollection())).thenReturn(Collections.singletonList(buildAssociate()));
+        Mockito.when(votingSessionRepository.findBySubjectCodeIn(anyCollection())).thenReturn(Arrays.asList(votingSession, otherVotingSession));
+        Mockito.when(voteRepository.findByCpfInAndSubjectCodeIn(anyCollection(), anyCollection())).thenReturn(Collections.emptyList());
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
+        Mockito.when(voteWriter.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(voteMapper.toVoteResponseDto(any(Associate.class), any(VotingSession.class))).thenReturn(buildVoteResponseDto());
+
+        final List<VoteBatchResultDto> voteBatchResultDtos = voteServiceImpl.saveAll(Arrays.asList(buildVoteRequestDto(), otherVoteRequestDto));
+
+        Assert.assertTrue(voteBatchResultDtos.stream().allMatch(voteBatchResultDto -> VoteOutcome.ACCEPTED == voteBatchResultDto.getOutcome()));
+        Mockito.verify(userInfoService).getUserInfo(CPF);
     }
 
     /**
@@ -191,10 +474,124 @@ public class VoteServiceImplTest {
     public void findVotingSessionResultsBySubjectCodeShouldReturnVotingSessionResultDtoWhenVotingSessionIsFound() {
         final VotingSession votingSession = buildVotingSession();
         Mockito.when(votingSessionRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.ofNullable(votingSession));
-        Mockito.when(voteRepository.findBySessionSubjectCode(CODE)).thenReturn(Arrays.asList(buildVote()));
+        Mockito.when(voteTallyRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.of(buildVoteTally(1L, 0L)));
         Mockito.when(votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSession)).thenReturn(buildVotingSessionResponseDto());
         final VotingSessionResultDto votingSessionResultDto = voteServiceImpl.findVotingSessionResultsBySubjectCode(CODE);
-        Assert.assertNotNull(votingSessionResultDto);
+        Assert.assertEquals(1L, votingSessionResultDto.getResultDto().getYes());
+        Mockito.verifyNoInteractions(voteRepository);
+    }
+
+    /**
+     * Find voting session results by subject code should count the votes left uncounted before reading the vote tally of an expired voting session.
+     */
+    @Test
+    public void findVotingSessionResultsBySubjectCodeShouldCountUncountedVotesOfExpiredVotingSession() {
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().minusMinutes(MINUTES));
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteTallyRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.of(buildVoteTally(1L, 0L)));
+        Mockito.when(votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSession)).thenReturn(buildVotingSessionResponseDto());
+
+        voteServiceImpl.findVotingSessionResultsBySubjectCode(CODE);
+
+        final InOrder inOrder = Mockito.inOrder(voteTallyStore, voteTallyRepository);
+        inOrder.verify(voteTallyStore).count(CODE);
+        inOrder.verify(voteTallyRepository).findOneBySubjectCode(CODE);
+    }
+
+    /**
+     * Find voting session results by subject code should not count votes of an active voting session, left to the vote tally buffer.
+     */
+    @Test
+    public void findVotingSessionResultsBySubjectCodeShouldNotCountVotesOfActiveVotingSession() {
+        final VotingSession votingSession = buildVotingSession();
+        votingSession.setExpirationDate(LocalDateTime.now().plusMinutes(MINUTES));
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteTallyRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.of(buildVoteTally(1L, 0L)));
+        Mockito.when(votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSession)).thenReturn(buildVotingSessionResponseDto());
+
+        voteServiceImpl.findVotingSessionResultsBySubjectCode(CODE);
+
+        Mockito.verifyNoInteractions(voteTallyStore);
+    }
+
+    /**
+     * Find voting session results by subject code should recount votes, legacy votes included, when vote tally is missing.
+     */
+    @Test
+    public void findVotingSessionResultsBySubjectCodeShouldRecountVotesWhenVoteTallyIsMissing() {
+        final VotingSession votingSession = buildVotingSession();
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteTallyRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.empty());
+        Mockito.when(voteSchemaMigration.isCompleted()).thenReturn(false);
+        Mockito.when(voteRepository.countLegacyBySessionSubjectCodeGroupByOption(CODE)).thenReturn(Map.of(true, 1L, false, 1L));
+        Mockito.when(voteTallyStore.recount(CODE, 1L, 1L)).thenReturn(Optional.of(buildVoteTally(3L, 1L)));
+        Mockito.when(votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSession)).thenReturn(buildVotingSessionResponseDto());
+
+        final VotingSessionResultDto votingSessionResultDto = voteServiceImpl.findVotingSessionResultsBySubjectCode(CODE);
+
+        Assert.assertEquals(3L, votingSessionResultDto.getResultDto().getYes());
+        Assert.assertEquals(1L, votingSessionResultDto.getResultDto().getNo());
+    }
+
+    /**
+     * Find voting session results by subject code should recount votes without counting legacy votes once migration is completed, when vote tally is incomplete.
+     */
+    @Test
+    public void findVotingSessionResultsBySubjectCodeShouldRecountVotesWhenVoteTallyIsIncomplete() {
+        final VotingSession votingSession = buildVotingSession();
+        final VoteTally incompleteVoteTally = buildVoteTally(1L, 0L);
+        incompleteVoteTally.setComplete(false);
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteTallyRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.of(incompleteVoteTally));
+        Mockito.when(voteSchemaMigration.isCompleted()).thenReturn(true);
+        Mockito.when(voteTallyStore.recount(CODE, 0L, 0L)).thenReturn(Optional.of(buildVoteTally(2L, 1L)));
+        Mockito.when(votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSession)).thenReturn(buildVotingSessionResponseDto());
+
+        final VotingSessionResultDto votingSessionResultDto = voteServiceImpl.findVotingSessionResultsBySubjectCode(CODE);
+
+        Assert.assertEquals(2L, votingSessionResultDto.getResultDto().getYes());
+        Assert.assertEquals(1L, votingSessionResultDto.getResultDto().getNo());
+        Mockito.verifyNoInteractions(voteRepository);
+    }
+
+    /**
+     * Recount voting session results by subject code should recount again when another recount overlaps it.
+     */
+    @Test
+    public void recountVotingSessionResultsBySubjectCodeShouldRecountAgainWhenAnotherRecountOverlapsIt() {
+        final VotingSession votingSession = buildVotingSession();
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteSchemaMigration.isCompleted()).thenReturn(true);
+        Mockito.when(voteTallyStore.recount(CODE, 0L, 0L))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(buildVoteTally(1L, 0L)));
+        Mockito.when(votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSession)).thenReturn(buildVotingSessionResponseDto());
+
+        final VotingSessionResultDto votingSessionResultDto = voteServiceImpl.recountVotingSessionResultsBySubjectCode(CODE);
+
+        Assert.assertEquals(1L, votingSessionResultDto.getResultDto().getYes());
+        Mockito.verify(voteTallyStore, Mockito.times(2)).recount(CODE, 0L, 0L);
+    }
+
+    /**
+     * Recount voting session results by subject code should return the incomplete vote tally when recounts keep overlapping it.
+     */
+    @Test
+    public void recountVotingSessionResultsBySubjectCodeShouldReturnIncompleteVoteTallyWhenRecountsKeepOverlappingIt() {
+        final VotingSession votingSession = buildVotingSession();
+        final VoteTally incompleteVoteTally = buildVoteTally(1L, 0L);
+        incompleteVoteTally.setComplete(false);
+        Mockito.when(votingSessionRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.ofNullable(votingSession));
+        Mockito.when(voteSchemaMigration.isCompleted()).thenReturn(true);
+        Mockito.when(voteTallyStore.recount(CODE, 0L, 0L)).thenReturn(Optional.empty());
+        Mockito.when(voteTallyRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.of(incompleteVoteTally));
+        Mockito.when(votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSession)).thenReturn(buildVotingSessionResponseDto());
+
+        final VotingSessionResultDto votingSessionResultDto = voteServiceImpl.recountVotingSessionResultsBySubjectCode(CODE);
+
+        Assert.assertEquals(1L, votingSessionResultDto.getResultDto().getYes());
+        Mockito.verify(voteTallyStore, Mockito.times(3)).recount(CODE, 0L, 0L);
     }
 
     /**
@@ -205,7 +602,7 @@ public class VoteServiceImplTest {
         final VotingSession votingSession = buildVotingSession();
         final VotingSessionResponseDto votingSessionResponseDto = buildVotingSessionResponseDto();
         Mockito.when(votingSessionRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.ofNullable(votingSession));
-        Mockito.when(voteRepository.findBySessionSubjectCode(CODE)).thenReturn(Arrays.asList(buildVote()));
+        Mockito.when(voteTallyRepository.findOneBySubjectCode(CODE)).thenReturn(Optional.of(buildVoteTally(1L, 0L)));
         votingSessionResponseDto.setStatus(VotingSessionResponseDto.Status.CLOSED);
         Mockito.when(votingSessionMapper.votingSessionToVotingSessionResponseDto(votingSession)).thenReturn(votingSessionResponseDto);
         Mockito.when(kafkaConfigurationProperties.isEnabled()).thenReturn(true);
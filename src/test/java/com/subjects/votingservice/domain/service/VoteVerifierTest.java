@@ -0,0 +1,168 @@
+package com.subjects.votingservice.domain.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.subjects.votingservice.configuration.properties.VoteVerificationConfigurationProperties;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteVerificationStatus;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.domain.service.impl.VoteVerifier;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.integration.UserInfoService;
+import com.subjects.votingservice.infrastructure.persistence.VoteTallyStore;
+import org.bson.Document;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.helper.UserInfoResponseHelper.buildUserInfoResponseDto;
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+import static com.subjects.votingservice.helper.VoteHelper.buildVote;
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Vote verifier test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VoteVerifierTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLISECONDS = 1000L;
+    private static final long MAX_RETRY_DELAY_MILLISECONDS = 60_000L;
+    private static final String OTHER_CPF = "other cpf";
+    private static final String VOTE_ID = "vote id";
+    private static final String OTHER_VOTE_ID = "other vote id";
+
+    @Mock
+    private transient MongoTemplate mongoTemplate;
+
+    @Mock
+    private transient UserInfoService userInfoService;
+
+    @Mock
+    private transient VoteTallyStore voteTallyStore;
+
+    private transient VoteVerifier voteVerifier;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        final VoteVerificationConfigurationProperties voteVerificationConfigurationProperties = new VoteVerificationConfigurationProperties();
+        voteVerificationConfigurationProperties.setBatchSize(BATCH_SIZE);
+        voteVerificationConfigurationProperties.setMaxAttempts(MAX_ATTEMPTS);
+        voteVerificationConfigurationProperties.setRetryDelayMilliseconds(RETRY_DELAY_MILLISECONDS);
+        voteVerificationConfigurationProperties.setMaxRetryDelayMilliseconds(MAX_RETRY_DELAY_MILLISECONDS);
+        voteVerifier = new VoteVerifier(mongoTemplate, userInfoService, voteTallyStore, voteVerificationConfigurationProperties);
+    }
+
+    /**
+     * Verify next should verify votes of able associates and revoke votes of unable associates.
+     */
+    @Test
+    public void verifyNextShouldVerifyVotesOfAbleAssociatesAndRevokeVotesOfUnableAssociates() {
+        final Vote otherVote = buildPendingVote(OTHER_VOTE_ID);
+        otherVote.setCpf(OTHER_CPF);
+        Mockito.when(mongoTemplate.find(any(Query.class), eq(Vote.class))).thenReturn(Arrays.asList(buildPendingVote(VOTE_ID), otherVote));
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenReturn(buildUserInfoResponseDto(ABLE_TO_VOTE));
+        Mockito.when(userInfoService.getUserInfo(OTHER_CPF)).thenThrow(AssociateUnableToVoteException.class);
+        Mockito.when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Vote.class)))
+            .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
+
+        Assert.assertEquals(2, voteVerifier.verifyNext());
+
+        final ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        Mockito.verify(mongoTemplate, Mockito.times(2)).updateMulti(any(Query.class), update.capture(), eq(Vote.class));
+        final List<Object> verifications = Arrays.asList(
+            update.getAllValues().get(0).getUpdateObject().get("$set", Document.class).get("verification"),
+            update.getAllValues().get(1).getUpdateObject().get("$set", Document.class).get("verification"));
+        Assert.assertTrue(verifications.contains(VoteVerificationStatus.VERIFIED));
+        Assert.assertTrue(verifications.contains(VoteVerificationStatus.REVOKED));
+        Mockito.verify(voteTallyStore).count(CODE);
+    }
+
+    /**
+     * Verify next should leave votes pending and back off when user info service is unavailable.
+     */
+    @Test
+    public void verifyNextShouldLeaveVotesPendingAndBackOffWhenUserInfoServiceIsUnavailable() {
+        final Vote pendingVote = buildPendingVote(VOTE_ID);
+        pendingVote.setVerificationAttempts(1);
+        Mockito.when(mongoTemplate.find(any(Query.class), eq(Vote.class))).thenReturn(Collections.singletonList(pendingVote));
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenThrow(ResourceAccessException.class);
+        final LocalDateTime start = LocalDateTime.now();
+
+        Assert.assertEquals(0, voteVerifier.verifyNext());
+
+        final ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        Mockito.verify(mongoTemplate).updateMulti(any(Query.class), update.capture(), eq(Vote.class));
+        final Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        Assert.assertFalse(set.containsKey("verification"));
+        Assert.assertEquals(2, set.get("verificationAttempts"));
+        final LocalDateTime nextVerificationDateTime = (LocalDateTime) set.get("nextVerificationDateTime");
+        Assert.assertFalse(nextVerificationDateTime.isBefore(start.plusNanos(2 * RETRY_DELAY_MILLISECONDS * 1_000_000L)));
+        Mockito.verifyNoInteractions(voteTallyStore);
+    }
+
+    /**
+     * Verify next should leave votes unverified once max attempts are used up.
+     */
+    @Test
+    public void verifyNextShouldLeaveVotesUnverifiedOnceMaxAttemptsAreUsedUp() {
+        final Vote pendingVote = buildPendingVote(VOTE_ID);
+        pendingVote.setVerificationAttempts(MAX_ATTEMPTS - 1);
+        Mockito.when(mongoTemplate.find(any(Query.class), eq(Vote.class))).thenReturn(Collections.singletonList(pendingVote));
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenThrow(IllegalStateException.class);
+        Mockito.when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Vote.class)))
+            .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
+
+        Assert.assertEquals(1, voteVerifier.verifyNext());
+
+        final ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        Mockito.verify(mongoTemplate).updateMulti(any(Query.class), update.capture(), eq(Vote.class));
+        final Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        Assert.assertEquals(VoteVerificationStatus.UNVERIFIED, set.get("verification"));
+        Assert.assertEquals(MAX_ATTEMPTS, set.get("verificationAttempts"));
+        Mockito.verifyNoInteractions(voteTallyStore);
+    }
+
+    /**
+     * Verify next should only fetch pending votes that are due, never checked ones first.
+     */
+    @Test
+    public void verifyNextShouldOnlyFetchPendingVotesThatAreDue() {
+        Mockito.when(mongoTemplate.find(any(Query.class), eq(Vote.class))).thenReturn(Collections.emptyList());
+
+        Assert.assertEquals(0, voteVerifier.verifyNext());
+
+        final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        Mockito.verify(mongoTemplate).find(query.capture(), eq(Vote.class));
+        Assert.assertEquals(VoteVerificationStatus.PENDING, query.getValue().getQueryObject().get("verification"));
+        Assert.assertTrue(query.getValue().getQueryObject().get("nextVerificationDateTime", Document.class).containsKey("$not"));
+        Assert.assertEquals(1, query.getValue().getSortObject().get("nextVerificationDateTime"));
+    }
+
+    private Vote buildPendingVote(String id) {
+        final Vote vote = buildVote();
+        vote.setId(id);
+        vote.setVerification(VoteVerificationStatus.PENDING);
+        return vote;
+    }
+}
@@ -12,6 +12,7 @@ import com.subjects.votingservice.infrastructure.repository.VotingSessionReposit
 import com.subjects.votingservice.domain.service.impl.VotingSessionServiceImpl;
 import com.subjects.votingservice.api.dto.session.VotingSessionRequestDto;
 import com.subjects.votingservice.api.dto.session.VotingSessionResponseDto;
+import com.subjects.votingservice.infrastructure.event.VotingSessionOpenedEvent;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -20,6 +21,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -49,6 +51,9 @@ public class VotingSessionServiceImplTest {
     @Mock
     private transient VotingSessionMapper votingSessionMapper;
 
+    @Mock
+    private transient ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private transient VotingSessionServiceImpl votingSessionServiceImpl;
 
@@ -80,6 +85,7 @@ public class VotingSessionServiceImplTest {
 
         Assert.assertEquals(votingSessionRequestDto.getExpirationDate(), votingSessionResponseDto.getExpirationDate());
         Assert.assertEquals(votingSessionRequestDto.getSubjectCode(), votingSessionResponseDto.getSubject().getCode());
+        Mockito.verify(applicationEventPublisher).publishEvent(new VotingSessionOpenedEvent(CODE, votingSession.getExpirationDate()));
     }
 
     /**
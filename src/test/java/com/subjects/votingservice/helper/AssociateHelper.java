@@ -21,7 +21,7 @@ public final class AssociateHelper {
      * @return new instance of {@link Associate}
      */
     public static Associate buildAssociate() {
-        return new Associate(CPF, FIRST_NAME, LAST_NAME);
+        return new Associate(FIRST_NAME, LAST_NAME, CPF);
     }
 
     /**
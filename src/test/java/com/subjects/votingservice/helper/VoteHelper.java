@@ -1,12 +1,15 @@
 package com.subjects.votingservice.helper;
 
 import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.VoteTally;
+import com.subjects.votingservice.api.dto.vote.VoteBatchRequestDto;
 import com.subjects.votingservice.api.dto.vote.VoteRequestDto;
 import com.subjects.votingservice.api.dto.vote.VoteResponseDto;
 
+import java.util.Arrays;
+
 import static com.subjects.votingservice.helper.AssociateHelper.*;
 import static com.subjects.votingservice.helper.SubjectHelper.CODE;
-import static com.subjects.votingservice.helper.VotingSessionHelper.buildVotingSession;
 import static com.subjects.votingservice.helper.VotingSessionHelper.buildVotingSessionResponseDto;
 
 /**
@@ -22,7 +25,23 @@ public final class VoteHelper {
      * @return new instance of {@link Vote}
      */
     public static Vote buildVote() {
-        return new Vote(buildAssociate(), buildVotingSession(), true);
+        return new Vote(CPF, CODE, OPTION);
+    }
+
+    /**
+     * Builds a new instance of vote tally.
+     *
+     * @param yes yes votes
+     * @param no  no votes
+     * @return new instance of {@link VoteTally}
+     */
+    public static VoteTally buildVoteTally(long yes, long no) {
+        final VoteTally voteTally = new VoteTally();
+        voteTally.setSubjectCode(CODE);
+        voteTally.setYes(yes);
+        voteTally.setNo(no);
+        voteTally.setComplete(true);
+        return voteTally;
     }
 
     /**
@@ -49,4 +68,16 @@ public final class VoteHelper {
         voteRequestDto.setOption(OPTION);
         return voteRequestDto;
     }
+
+    /**
+     * Builds a new instance of vote batch request data transfer object.
+     *
+     * @param voteRequestDtos vote request data transfer objects
+     * @return new instance of {@link VoteBatchRequestDto}
+     */
+    public static VoteBatchRequestDto buildVoteBatchRequestDto(VoteRequestDto... voteRequestDtos) {
+        final VoteBatchRequestDto voteBatchRequestDto = new VoteBatchRequestDto();
+        voteBatchRequestDto.setVotes(Arrays.asList(voteRequestDtos));
+        return voteBatchRequestDto;
+    }
 }
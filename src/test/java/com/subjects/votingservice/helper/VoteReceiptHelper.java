@@ -0,0 +1,50 @@
+package com.subjects.votingservice.helper;
+
+import com.subjects.votingservice.api.dto.vote.VoteReceiptResponseDto;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteReceiptStatus;
+import com.subjects.votingservice.infrastructure.entities.VoteReceipt;
+
+import java.time.LocalDateTime;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+import static com.subjects.votingservice.helper.VoteHelper.OPTION;
+
+/**
+ * Vote receipt helper class.
+ */
+public final class VoteReceiptHelper {
+
+    public static final String RECEIPT_ID = "receipt id";
+
+    /**
+     * Builds a new instance of claimed vote receipt.
+     *
+     * @return new instance of {@link VoteReceipt}
+     */
+    public static VoteReceipt buildVoteReceipt() {
+        final VoteReceipt voteReceipt = new VoteReceipt();
+        voteReceipt.setId(RECEIPT_ID);
+        voteReceipt.setCpf(CPF);
+        voteReceipt.setSubjectCode(CODE);
+        voteReceipt.setOption(OPTION);
+        voteReceipt.setStatus(VoteReceiptStatus.PROCESSING);
+        voteReceipt.setAttempts(1);
+        voteReceipt.setClaimDateTime(LocalDateTime.now());
+        return voteReceipt;
+    }
+
+    /**
+     * Builds a new instance of pending vote receipt response data transfer object.
+     *
+     * @return new instance of {@link VoteReceiptResponseDto}
+     */
+    public static VoteReceiptResponseDto buildVoteReceiptResponseDto() {
+        final VoteReceiptResponseDto voteReceiptResponseDto = new VoteReceiptResponseDto();
+        voteReceiptResponseDto.setId(RECEIPT_ID);
+        voteReceiptResponseDto.setCpf(CPF);
+        voteReceiptResponseDto.setSubjectCode(CODE);
+        voteReceiptResponseDto.setStatus(VoteReceiptStatus.PENDING);
+        return voteReceiptResponseDto;
+    }
+}
@@ -0,0 +1,88 @@
+package com.subjects.votingservice.infrastructure.cache;
+
+import com.subjects.votingservice.configuration.properties.IdempotencyConfigurationProperties;
+import com.subjects.votingservice.domain.exception.IdempotencyKeyReusedException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Idempotency store test.
+ */
+public class IdempotencyStoreTest {
+
+    private static final String IDEMPOTENCY_KEY = "idempotency key";
+    private static final String REQUEST = "request";
+    private static final String RESPONSE = "response";
+    private static final long TTL_SECONDS = 60L;
+    private static final long MAXIMUM_SIZE = 10L;
+
+    private transient IdempotencyStore idempotencyStore;
+    private transient AtomicInteger executions;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        final IdempotencyConfigurationProperties idempotencyConfigurationProperties = new IdempotencyConfigurationProperties();
+        idempotencyConfigurationProperties.setTtlSeconds(TTL_SECONDS);
+        idempotencyConfigurationProperties.setMaximumSize(MAXIMUM_SIZE);
+        idempotencyStore = new IdempotencyStore(idempotencyConfigurationProperties);
+        executions = new AtomicInteger();
+    }
+
+    /**
+     * Execute should replay response when key is retried.
+     */
+    @Test
+    public void executeShouldReplayResponseWhenKeyIsRetried() {
+        Assert.assertEquals(RESPONSE, idempotencyStore.execute(IDEMPOTENCY_KEY, REQUEST, this::respond).join());
+        Assert.assertEquals(RESPONSE, idempotencyStore.execute(IDEMPOTENCY_KEY, REQUEST, this::respond).join());
+        Assert.assertEquals(1, executions.get());
+    }
+
+    /**
+     * Execute should wait on in-flight execution when key is used concurrently.
+     */
+    @Test
+    public void executeShouldWaitOnInFlightExecutionWhenKeyIsUsedConcurrently() {
+        final CompletableFuture<String> inFlightResponse = new CompletableFuture<>();
+        final CompletableFuture<String> firstResponse = idempotencyStore.execute(IDEMPOTENCY_KEY, REQUEST, () -> inFlightResponse);
+        final CompletableFuture<String> concurrentResponse = idempotencyStore.execute(IDEMPOTENCY_KEY, REQUEST, this::respond);
+        Assert.assertFalse(concurrentResponse.isDone());
+        inFlightResponse.complete(RESPONSE);
+        Assert.assertEquals(RESPONSE, firstResponse.join());
+        Assert.assertEquals(RESPONSE, concurrentResponse.join());
+        Assert.assertEquals(0, executions.get());
+    }
+
+    /**
+     * Execute should throw idempotency key reused exception when key is used with a different request.
+     */
+    @Test(expected = IdempotencyKeyReusedException.class)
+    public void executeShouldThrowIdempotencyKeyReusedExceptionWhenKeyIsUsedWithADifferentRequest() {
+        idempotencyStore.execute(IDEMPOTENCY_KEY, REQUEST, this::respond).join();
+        idempotencyStore.execute(IDEMPOTENCY_KEY, "other request", this::respond);
+    }
+
+    /**
+     * Execute should execute again when previous execution failed.
+     */
+    @Test
+    public void executeShouldExecuteAgainWhenPreviousExecutionFailed() {
+        final CompletableFuture<String> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(new IllegalStateException());
+        Assert.assertTrue(idempotencyStore.execute(IDEMPOTENCY_KEY, REQUEST, () -> failedResponse).isCompletedExceptionally());
+        Assert.assertEquals(RESPONSE, idempotencyStore.execute(IDEMPOTENCY_KEY, REQUEST, this::respond).join());
+        Assert.assertEquals(1, executions.get());
+    }
+
+    private CompletableFuture<String> respond() {
+        executions.incrementAndGet();
+        return CompletableFuture.completedFuture(RESPONSE);
+    }
+}
@@ -0,0 +1,167 @@
+package com.subjects.votingservice.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subjects.votingservice.api.dto.session.VotingSessionResponseDto;
+import com.subjects.votingservice.api.dto.session.VotingSessionResultDto;
+import com.subjects.votingservice.configuration.properties.VoteGroupCommitConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VoteTallyBufferConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VoteVerificationConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.VotingSessionResultCacheConfigurationProperties;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+import static com.subjects.votingservice.helper.VotingSessionHelper.buildVotingSessionResultDto;
+
+/**
+ * Closed voting session result cache test.
+ */
+public class VotingSessionResultCacheTest {
+
+    private static final long MAXIMUM_BYTES = 1_024L;
+    private static final long GRACE_PERIOD_MILLISECONDS = 60_000L;
+    private static final long FLUSH_INTERVAL_MILLISECONDS = 120_000L;
+    private static final long MAX_DELAY_MILLISECONDS = 10L;
+    private static final long COMMIT_TIMEOUT_MILLISECONDS = 5_000L;
+    private static final long MARGIN_MILLISECONDS = 1_000L;
+
+    private transient ObjectMapper objectMapper;
+    private transient VotingSessionResultCacheConfigurationProperties votingSessionResultCacheConfigurationProperties;
+    private transient VoteVerificationConfigurationProperties voteVerificationConfigurationProperties;
+    private transient VoteTallyBufferConfigurationProperties voteTallyBufferConfigurationProperties;
+    private transient VoteGroupCommitConfigurationProperties voteGroupCommitConfigurationProperties;
+    private transient VotingSessionResultCache votingSessionResultCache;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        votingSessionResultCacheConfigurationProperties = new VotingSessionResultCacheConfigurationProperties();
+        votingSessionResultCacheConfigurationProperties.setMaximumBytes(MAXIMUM_BYTES);
+        votingSessionResultCacheConfigurationProperties.setGracePeriodMilliseconds(GRACE_PERIOD_MILLISECONDS);
+        voteVerificationConfigurationProperties = new VoteVerificationConfigurationProperties();
+        voteTallyBufferConfigurationProperties = new VoteTallyBufferConfigurationProperties();
+        voteTallyBufferConfigurationProperties.setFlushIntervalMilliseconds(FLUSH_INTERVAL_MILLISECONDS);
+        voteGroupCommitConfigurationProperties = new VoteGroupCommitConfigurationProperties();
+        voteGroupCommitConfigurationProperties.setMaxDelayMilliseconds(MAX_DELAY_MILLISECONDS);
+        voteGroupCommitConfigurationProperties.setCommitTimeoutMilliseconds(COMMIT_TIMEOUT_MILLISECONDS);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        votingSessionResultCache = buildVotingSessionResultCache();
+    }
+
+    /**
+     * Encode should cache encoded result when voting session is closed.
+     *
+     * @throws IOException if the encoded result cannot be read
+     */
+    @Test
+    public void encodeShouldCacheEncodedResultWhenVotingSessionIsClosed() throws IOException {
+        final VotingSessionResultDto votingSessionResultDto = buildClosedVotingSessionResultDto();
+
+        final byte[] result = votingSessionResultCache.encode(votingSessionResultDto);
+
+        Assert.assertArrayEquals(result, votingSessionResultCache.find(CODE).orElseThrow());
+        Assert.assertEquals(CODE, objectMapper.readTree(result).path("session").path("subject").path("code").asText());
+    }
+
+    /**
+     * Encode should not cache result when voting session expired within the grace period.
+     */
+    @Test
+    public void encodeShouldNotCacheResultWhenVotingSessionExpiredWithinTheGracePeriod() {
+        votingSessionResultCache.encode(buildClosedVotingSessionResultDto(GRACE_PERIOD_MILLISECONDS - MARGIN_MILLISECONDS));
+        Assert.assertTrue(votingSessionResultCache.find(CODE).isEmpty());
+    }
+
+    /**
+     * Encode should cache result when voting session expired before the grace period.
+     */
+    @Test
+    public void encodeShouldCacheResultWhenVotingSessionExpiredBeforeTheGracePeriod() {
+        votingSessionResultCache.encode(buildClosedVotingSessionResultDto(GRACE_PERIOD_MILLISECONDS + MARGIN_MILLISECONDS));
+        Assert.assertTrue(votingSessionResultCache.find(CODE).isPresent());
+    }
+
+    /**
+     * Encode should extend the grace period by the flush interval when vote tally buffer is enabled.
+     */
+    @Test
+    public void encodeShouldExtendTheGracePeriodByTheFlushIntervalWhenVoteTallyBufferIsEnabled() {
+        voteTallyBufferConfigurationProperties.setEnabled(true);
+        votingSessionResultCache = buildVotingSessionResultCache();
+        final long gracePeriodMilliseconds = GRACE_PERIOD_MILLISECONDS + FLUSH_INTERVAL_MILLISECONDS;
+
+        votingSessionResultCache.encode(buildClosedVotingSessionResultDto(gracePeriodMilliseconds - MARGIN_MILLISECONDS));
+        Assert.assertTrue(votingSessionResultCache.find(CODE).isEmpty());
+
+        votingSessionResultCache.encode(buildClosedVotingSessionResultDto(gracePeriodMilliseconds + MARGIN_MILLISECONDS));
+        Assert.assertTrue(votingSessionResultCache.find(CODE).isPresent());
+    }
+
+    /**
+     * Encode should extend the grace period by the commit timeout and max delay when vote group commit is enabled.
+     */
+    @Test
+    public void encodeShouldExtendTheGracePeriodByTheCommitTimeoutWhenVoteGroupCommitIsEnabled() {
+        voteGroupCommitConfigurationProperties.setEnabled(true);
+        votingSessionResultCache = buildVotingSessionResultCache();
+        final long gracePeriodMilliseconds = GRACE_PERIOD_MILLISECONDS + COMMIT_TIMEOUT_MILLISECONDS + MAX_DELAY_MILLISECONDS;
+
+        votingSessionResultCache.encode(buildClosedVotingSessionResultDto(gracePeriodMilliseconds - MARGIN_MILLISECONDS));
+        Assert.assertTrue(votingSessionResultCache.find(CODE).isEmpty());
+
+        votingSessionResultCache.encode(buildClosedVotingSessionResultDto(gracePeriodMilliseconds + MARGIN_MILLISECONDS));
+        Assert.assertTrue(votingSessionResultCache.find(CODE).isPresent());
+    }
+
+    /**
+     * Encode should not cache result when voting session is open.
+     */
+    @Test
+    public void encodeShouldNotCacheResultWhenVotingSessionIsOpen() {
+        votingSessionResultCache.encode(buildVotingSessionResultDto());
+        Assert.assertTrue(votingSessionResultCache.find(CODE).isEmpty());
+    }
+
+    /**
+     * Encode should not cache result when optimistic voting is enabled.
+     */
+    @Test
+    public void encodeShouldNotCacheResultWhenOptimisticVotingIsEnabled() {
+        voteVerificationConfigurationProperties.setEnabled(true);
+        votingSessionResultCache.encode(buildClosedVotingSessionResultDto());
+        Assert.assertTrue(votingSessionResultCache.find(CODE).isEmpty());
+    }
+
+    /**
+     * Evict should remove cached result.
+     */
+    @Test
+    public void evictShouldRemoveCachedResult() {
+        votingSessionResultCache.encode(buildClosedVotingSessionResultDto());
+        votingSessionResultCache.evict(CODE);
+        Assert.assertTrue(votingSessionResultCache.find(CODE).isEmpty());
+    }
+
+    private VotingSessionResultCache buildVotingSessionResultCache() {
+        return new VotingSessionResultCache(votingSessionResultCacheConfigurationProperties, voteVerificationConfigurationProperties,
+            voteTallyBufferConfigurationProperties, voteGroupCommitConfigurationProperties, objectMapper);
+    }
+
+    private static VotingSessionResultDto buildClosedVotingSessionResultDto() {
+        return buildClosedVotingSessionResultDto(GRACE_PERIOD_MILLISECONDS + MARGIN_MILLISECONDS);
+    }
+
+    private static VotingSessionResultDto buildClosedVotingSessionResultDto(long expiredMilliseconds) {
+        final VotingSessionResultDto votingSessionResultDto = buildVotingSessionResultDto();
+        votingSessionResultDto.getSession().setStatus(VotingSessionResponseDto.Status.CLOSED);
+        votingSessionResultDto.getSession().setExpirationDate(LocalDateTime.now().minus(Duration.ofMillis(expiredMilliseconds)));
+        return votingSessionResultDto;
+    }
+}
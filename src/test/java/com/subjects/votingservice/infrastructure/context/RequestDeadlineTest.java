@@ -0,0 +1,118 @@
+package com.subjects.votingservice.infrastructure.context;
+
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Request deadline test.
+ */
+public class RequestDeadlineTest {
+
+    private static final long TIMEOUT_MILLISECONDS = 1000L;
+    private static final long DEADLINE_MILLISECONDS = 100L;
+    private static final long LONGER_TIMEOUT_MILLISECONDS = 60_000L;
+
+    /**
+     * Method tear down.
+     */
+    @After
+    public void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    /**
+     * Remaining milliseconds should be empty when there is no deadline.
+     */
+    @Test
+    public void remainingMillisecondsShouldBeEmptyWhenThereIsNoDeadline() {
+        Assert.assertTrue(RequestDeadline.remainingMilliseconds().isEmpty());
+    }
+
+    /**
+     * Remaining milliseconds should not exceed the started timeout.
+     */
+    @Test
+    public void remainingMillisecondsShouldNotExceedTheStartedTimeout() {
+        RequestDeadline.start(DEADLINE_MILLISECONDS);
+
+        final OptionalLong remainingMilliseconds = RequestDeadline.remainingMilliseconds();
+        Assert.assertTrue(remainingMilliseconds.isPresent());
+        Assert.assertTrue(remainingMilliseconds.getAsLong() <= DEADLINE_MILLISECONDS);
+    }
+
+    /**
+     * Bound milliseconds should keep timeout when there is no deadline.
+     */
+    @Test
+    public void boundMillisecondsShouldKeepTimeoutWhenThereIsNoDeadline() {
+        Assert.assertEquals(TIMEOUT_MILLISECONDS, RequestDeadline.boundMilliseconds(TIMEOUT_MILLISECONDS));
+    }
+
+    /**
+     * Bound milliseconds should cap timeout at the time left before the deadline.
+     */
+    @Test
+    public void boundMillisecondsShouldCapTimeoutAtTheTimeLeftBeforeTheDeadline() {
+        RequestDeadline.start(DEADLINE_MILLISECONDS);
+
+        Assert.assertTrue(RequestDeadline.boundMilliseconds(TIMEOUT_MILLISECONDS) <= DEADLINE_MILLISECONDS);
+    }
+
+    /**
+     * Bound milliseconds and check should throw deadline exceeded exception when deadline has passed.
+     */
+    @Test
+    public void boundMillisecondsAndCheckShouldThrowDeadlineExceededExceptionWhenDeadlineHasPassed() {
+        RequestDeadline.start(-DEADLINE_MILLISECONDS);
+
+        Assert.assertThrows(DeadlineExceededException.class, () -> RequestDeadline.boundMilliseconds(TIMEOUT_MILLISECONDS));
+        Assert.assertThrows(DeadlineExceededException.class, RequestDeadline::check);
+    }
+
+    /**
+     * Propagate should run task with the deadline of the submitting thread and restore the previous one afterwards.
+     */
+    @Test
+    public void propagateShouldRunTaskWithTheDeadlineOfTheSubmittingThread() {
+        final AtomicReference<OptionalLong> taskRemainingMilliseconds = new AtomicReference<>();
+        RequestDeadline.start(DEADLINE_MILLISECONDS);
+        final Runnable task = RequestDeadline.propagate(() -> taskRemainingMilliseconds.set(RequestDeadline.remainingMilliseconds()));
+        RequestDeadline.clear();
+
+        task.run();
+
+        Assert.assertTrue(taskRemainingMilliseconds.get().isPresent());
+        Assert.assertTrue(taskRemainingMilliseconds.get().getAsLong() <= DEADLINE_MILLISECONDS);
+        Assert.assertTrue(RequestDeadline.remainingMilliseconds().isEmpty());
+    }
+
+    /**
+     * Call within should tighten the deadline for the task and restore it afterwards.
+     */
+    @Test
+    public void callWithinShouldTightenTheDeadlineForTheTask() {
+        final OptionalLong taskRemainingMilliseconds = RequestDeadline.callWithin(DEADLINE_MILLISECONDS, RequestDeadline::remainingMilliseconds);
+
+        Assert.assertTrue(taskRemainingMilliseconds.isPresent());
+        Assert.assertTrue(taskRemainingMilliseconds.getAsLong() <= DEADLINE_MILLISECONDS);
+        Assert.assertTrue(RequestDeadline.remainingMilliseconds().isEmpty());
+    }
+
+    /**
+     * Call within should never extend the deadline of the current thread.
+     */
+    @Test
+    public void callWithinShouldNeverExtendTheDeadline() {
+        RequestDeadline.start(DEADLINE_MILLISECONDS);
+
+        final OptionalLong taskRemainingMilliseconds = RequestDeadline.callWithin(LONGER_TIMEOUT_MILLISECONDS, RequestDeadline::remainingMilliseconds);
+
+        Assert.assertTrue(taskRemainingMilliseconds.getAsLong() <= DEADLINE_MILLISECONDS);
+        Assert.assertTrue(RequestDeadline.remainingMilliseconds().isPresent());
+    }
+}
@@ -32,21 +32,21 @@ public class VoteTest {
     }
 
     /**
-     * Vote should not have null associate attribute.
+     * Vote should not have blank cpf attribute.
      */
     @Test
-    public void voteShouldNotHaveNullAssociateAttribute() {
-        vote.setAssociate(null);
+    public void voteShouldNotHaveBlankCpfAttribute() {
+        vote.setCpf("");
         violations = validator.validate(vote);
         Assert.assertFalse(violations.isEmpty());
     }
 
     /**
-     * Vote should not have null session attribute.
+     * Vote should not have blank subject code attribute.
      */
     @Test
-    public void voteShouldNotHaveNullSessionAttribute() {
-        vote.setSession(null);
+    public void voteShouldNotHaveBlankSubjectCodeAttribute() {
+        vote.setSubjectCode("");
         violations = validator.validate(vote);
         Assert.assertFalse(violations.isEmpty());
     }
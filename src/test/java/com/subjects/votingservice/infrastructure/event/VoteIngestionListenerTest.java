@@ -0,0 +1,109 @@
+package com.subjects.votingservice.infrastructure.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subjects.votingservice.api.dto.vote.VoteBatchResultDto;
+import com.subjects.votingservice.configuration.properties.VoteIngestionConfigurationProperties;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteOutcome;
+import com.subjects.votingservice.domain.service.VoteService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import javax.validation.Validation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+import static com.subjects.votingservice.helper.VoteHelper.buildVoteRequestDto;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Vote ingestion listener test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VoteIngestionListenerTest {
+
+    private static final String TOPIC = "votes";
+    private static final String REPLY_TOPIC = "vote outcomes";
+    private static final String MALFORMED_VOTE_REQUEST = "{";
+
+    @Mock
+    private transient VoteService voteService;
+
+    @Mock
+    private transient KafkaTemplate<String, String> kafkaTemplate;
+
+    private final transient ObjectMapper objectMapper = new ObjectMapper();
+    private transient VoteIngestionListener voteIngestionListener;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        final VoteIngestionConfigurationProperties voteIngestionConfigurationProperties = new VoteIngestionConfigurationProperties();
+        voteIngestionConfigurationProperties.setReplyTopic(REPLY_TOPIC);
+        voteIngestionListener = new VoteIngestionListener(voteService, kafkaTemplate, objectMapper,
+            Validation.buildDefaultValidatorFactory().getValidator(), voteIngestionConfigurationProperties);
+        final SettableListenableFuture<SendResult<String, String>> sendResult = new SettableListenableFuture<>();
+        sendResult.set(null);
+        Mockito.when(kafkaTemplate.send(eq(REPLY_TOPIC), anyString(), anyString())).thenReturn(sendResult);
+    }
+
+    /**
+     * Ingest should save valid votes as one batch and reply every record in order.
+     *
+     * @throws Exception if the records or replies cannot be serialized
+     */
+    @Test
+    public void ingestShouldSaveValidVotesAsOneBatchAndReplyEveryRecordInOrder() throws Exception {
+        final String voteRequest = objectMapper.writeValueAsString(buildVoteRequestDto());
+        final List<ConsumerRecord<String, String>> records = Arrays.asList(
+            new ConsumerRecord<>(TOPIC, 0, 0L, CODE, voteRequest),
+            new ConsumerRecord<>(TOPIC, 0, 1L, CODE, MALFORMED_VOTE_REQUEST),
+            new ConsumerRecord<>(TOPIC, 0, 2L, CODE, voteRequest));
+        Mockito.when(voteService.saveAll(Arrays.asList(buildVoteRequestDto(), buildVoteRequestDto()))).thenReturn(Arrays.asList(
+            VoteBatchResultDto.builder().subjectCode(CODE).outcome(VoteOutcome.ACCEPTED).build(),
+            VoteBatchResultDto.builder().subjectCode(CODE).outcome(VoteOutcome.ALREADY_VOTED).build()));
+
+        voteIngestionListener.ingest(records);
+
+        final ArgumentCaptor<String> replies = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(kafkaTemplate, Mockito.times(records.size())).send(eq(REPLY_TOPIC), eq(CODE), replies.capture());
+        Assert.assertEquals(Arrays.asList(VoteOutcome.ACCEPTED, VoteOutcome.INVALID_REQUEST, VoteOutcome.ALREADY_VOTED),
+            Arrays.asList(outcomeOf(replies.getAllValues().get(0)), outcomeOf(replies.getAllValues().get(1)),
+                outcomeOf(replies.getAllValues().get(2))));
+    }
+
+    /**
+     * Ingest should not save anything when every record is invalid.
+     *
+     * @throws Exception if the records or replies cannot be serialized
+     */
+    @Test
+    public void ingestShouldNotSaveAnythingWhenEveryRecordIsInvalid() throws Exception {
+        final String invalidVoteRequest = objectMapper.writeValueAsString(Collections.singletonMap("cpf", ""));
+
+        voteIngestionListener.ingest(Collections.singletonList(new ConsumerRecord<>(TOPIC, 0, 0L, CODE, invalidVoteRequest)));
+
+        final ArgumentCaptor<String> replies = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(kafkaTemplate).send(eq(REPLY_TOPIC), eq(CODE), replies.capture());
+        Assert.assertEquals(VoteOutcome.INVALID_REQUEST, outcomeOf(replies.getValue()));
+        Mockito.verifyNoInteractions(voteService);
+    }
+
+    private VoteOutcome outcomeOf(String reply) throws Exception {
+        return VoteOutcome.valueOf(objectMapper.readTree(reply).get("outcome").asText());
+    }
+}
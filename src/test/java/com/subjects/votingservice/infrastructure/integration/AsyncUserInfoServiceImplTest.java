@@ -0,0 +1,108 @@
+package com.subjects.votingservice.infrastructure.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subjects.votingservice.configuration.properties.UserInfoHttpClientConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoServiceConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.infrastructure.integration.impl.AsyncUserInfoServiceImpl;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+
+/**
+ * Non-blocking user info service implementation test.
+ */
+public class AsyncUserInfoServiceImplTest {
+
+    private static final String PATH = "/users";
+    private static final String ABLE_TO_VOTE_RESPONSE = "{\"status\":\"ABLE_TO_VOTE\"}";
+    private static final int OK = 200;
+    private static final int NOT_FOUND = 404;
+    private static final int TIMEOUT_MILLISECONDS = 200;
+    private static final long SLOW_RESPONSE_MILLISECONDS = 2000L;
+
+    private transient HttpServer server;
+    private transient AsyncUserInfoServiceImpl asyncUserInfoServiceImpl;
+
+    /**
+     * Method setup.
+     *
+     * @throws IOException if the user info stub server cannot be started
+     */
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(ForkJoinPool.commonPool());
+        server.start();
+
+        final UserInfoServiceConfigurationProperties userInfoServiceConfigurationProperties = new UserInfoServiceConfigurationProperties();
+        userInfoServiceConfigurationProperties.setUrl("http://localhost:" + server.getAddress().getPort() + PATH);
+        final UserInfoHttpClientConfigurationProperties userInfoHttpClientConfigurationProperties = new UserInfoHttpClientConfigurationProperties();
+        userInfoHttpClientConfigurationProperties.setConnectTimeoutMilliseconds(TIMEOUT_MILLISECONDS);
+        userInfoHttpClientConfigurationProperties.setReadTimeoutMilliseconds(TIMEOUT_MILLISECONDS);
+        asyncUserInfoServiceImpl = new AsyncUserInfoServiceImpl(userInfoServiceConfigurationProperties,
+            userInfoHttpClientConfigurationProperties, new ObjectMapper(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method tear down.
+     */
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Get user info async should return user info response data transfer object when user is found.
+     */
+    @Test
+    public void getUserInfoAsyncShouldReturnUserInfoResponseDtoWhenUserIsFound() {
+        respond(OK, ABLE_TO_VOTE_RESPONSE, 0L);
+        Assert.assertEquals(ABLE_TO_VOTE, asyncUserInfoServiceImpl.getUserInfoAsync(CPF).join().getStatus());
+    }
+
+    /**
+     * Get user info should throw associate unable to vote exception when user is not found.
+     */
+    @Test(expected = AssociateUnableToVoteException.class)
+    public void getUserInfoShouldThrowAssociateUnableToVoteExceptionWhenUserIsNotFound() {
+        respond(NOT_FOUND, "", 0L);
+        asyncUserInfoServiceImpl.getUserInfo(CPF);
+    }
+
+    /**
+     * Get user info should throw resource access exception when user info service times out.
+     */
+    @Test(expected = ResourceAccessException.class)
+    public void getUserInfoShouldThrowResourceAccessExceptionWhenUserInfoServiceTimesOut() {
+        respond(OK, ABLE_TO_VOTE_RESPONSE, SLOW_RESPONSE_MILLISECONDS);
+        asyncUserInfoServiceImpl.getUserInfo(CPF);
+    }
+
+    private void respond(int status, String body, long delayMilliseconds) {
+        server.createContext(PATH + "/" + CPF, exchange -> {
+            try {
+                Thread.sleep(delayMilliseconds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, response.length == 0 ? -1 : response.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(response);
+            }
+        });
+    }
+}
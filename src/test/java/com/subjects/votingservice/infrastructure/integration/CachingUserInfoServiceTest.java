@@ -0,0 +1,96 @@
+package com.subjects.votingservice.infrastructure.integration;
+
+import com.subjects.votingservice.configuration.properties.UserInfoCacheConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import com.subjects.votingservice.infrastructure.integration.impl.CachingUserInfoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.helper.UserInfoResponseHelper.buildUserInfoResponseDto;
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+
+/**
+ * Caching user info service test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CachingUserInfoServiceTest {
+
+    private static final long TTL_SECONDS = 60L;
+    private static final long MAXIMUM_SIZE = 10L;
+
+    @Mock
+    private transient AsyncUserInfoService userInfoService;
+
+    private transient CachingUserInfoService cachingUserInfoService;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        final UserInfoCacheConfigurationProperties userInfoCacheConfigurationProperties = new UserInfoCacheConfigurationProperties();
+        userInfoCacheConfigurationProperties.setAbleToVoteTtlSeconds(TTL_SECONDS);
+        userInfoCacheConfigurationProperties.setUnableToVoteTtlSeconds(TTL_SECONDS);
+        userInfoCacheConfigurationProperties.setNotFoundTtlSeconds(TTL_SECONDS);
+        userInfoCacheConfigurationProperties.setMaximumSize(MAXIMUM_SIZE);
+        cachingUserInfoService = new CachingUserInfoService(userInfoService, userInfoCacheConfigurationProperties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Get user info should call remote service once when user info is cached.
+     */
+    @Test
+    public void getUserInfoShouldCallRemoteServiceOnceWhenUserInfoIsCached() {
+        Mockito.when(userInfoService.getUserInfoAsync(CPF)).thenReturn(CompletableFuture.completedFuture(buildUserInfoResponseDto(ABLE_TO_VOTE)));
+
+        Assert.assertEquals(ABLE_TO_VOTE, cachingUserInfoService.getUserInfo(CPF).getStatus());
+        Assert.assertEquals(ABLE_TO_VOTE, cachingUserInfoService.getUserInfo(CPF).getStatus());
+
+        Mockito.verify(userInfoService).getUserInfoAsync(CPF);
+        Assert.assertEquals(1L, cachingUserInfoService.stats().hitCount());
+        Assert.assertEquals(1L, cachingUserInfoService.stats().missCount());
+    }
+
+    /**
+     * Get user info should throw associate unable to vote exception from cache when user info was not found.
+     */
+    @Test
+    public void getUserInfoShouldThrowAssociateUnableToVoteExceptionFromCacheWhenUserInfoWasNotFound() {
+        Mockito.when(userInfoService.getUserInfoAsync(CPF)).thenReturn(CompletableFuture.failedFuture(new AssociateUnableToVoteException()));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                cachingUserInfoService.getUserInfo(CPF);
+                Assert.fail("User info should not be found");
+            } catch (AssociateUnableToVoteException exception) {
+                Assert.assertNotNull(exception);
+            }
+        }
+        Mockito.verify(userInfoService).getUserInfoAsync(CPF);
+    }
+
+    /**
+     * Get user info should not cache failure when remote service is unavailable.
+     */
+    @Test
+    public void getUserInfoShouldNotCacheFailureWhenRemoteServiceIsUnavailable() {
+        final UserInfoResponseDto userInfoResponseDto = buildUserInfoResponseDto(ABLE_TO_VOTE);
+        Mockito.when(userInfoService.getUserInfoAsync(CPF))
+            .thenReturn(CompletableFuture.failedFuture(new ResourceAccessException("timeout")))
+            .thenReturn(CompletableFuture.completedFuture(userInfoResponseDto));
+
+        Assert.assertThrows(ResourceAccessException.class, () -> cachingUserInfoService.getUserInfo(CPF));
+        Assert.assertEquals(userInfoResponseDto, cachingUserInfoService.getUserInfo(CPF));
+    }
+}
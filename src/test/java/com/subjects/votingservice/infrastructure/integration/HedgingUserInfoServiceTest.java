@@ -0,0 +1,237 @@
+package com.subjects.votingservice.infrastructure.integration;
+
+import com.subjects.votingservice.configuration.properties.UserInfoLatencyConfigurationProperties;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import com.subjects.votingservice.infrastructure.integration.impl.HedgingUserInfoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.helper.UserInfoResponseHelper.buildUserInfoResponseDto;
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+
+/**
+ * Hedging user info service test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class HedgingUserInfoServiceTest {
+
+    private static final long WINDOW_SECONDS = 60L;
+    private static final long MINIMUM_SAMPLES = 5L;
+    private static final double TIMEOUT_PERCENTILE = 0.99;
+    private static final double HEDGE_PERCENTILE = 0.95;
+    private static final long MIN_TIMEOUT_MILLISECONDS = 500L;
+    private static final long MAX_TIMEOUT_MILLISECONDS = 1000L;
+    private static final long DEADLINE_MILLISECONDS = 100L;
+    private static final long REMOTE_LATENCY_MILLISECONDS = 1L;
+    private static final long SHORT_WINDOW_SECONDS = 1L;
+    private static final long STALE_WINDOW_MILLISECONDS = 1500L;
+    private static final long SLOW_REMOTE_LATENCY_MILLISECONDS = 200L;
+    private static final String LATENCY_METRIC_NAME = "user.info.latency";
+
+    @Mock
+    private transient AsyncUserInfoService userInfoService;
+
+    @Mock
+    private transient UserInfoService blockingUserInfoService;
+
+    private transient UserInfoLatencyConfigurationProperties userInfoLatencyConfigurationProperties;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        userInfoLatencyConfigurationProperties = new UserInfoLatencyConfigurationProperties();
+        userInfoLatencyConfigurationProperties.setWindowSeconds(WINDOW_SECONDS);
+        userInfoLatencyConfigurationProperties.setMinimumSamples(MINIMUM_SAMPLES);
+        userInfoLatencyConfigurationProperties.setTimeoutPercentile(TIMEOUT_PERCENTILE);
+        userInfoLatencyConfigurationProperties.setHedgePercentile(HEDGE_PERCENTILE);
+        userInfoLatencyConfigurationProperties.setMinTimeoutMilliseconds(MIN_TIMEOUT_MILLISECONDS);
+        userInfoLatencyConfigurationProperties.setMaxTimeoutMilliseconds(MAX_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * Method tear down.
+     */
+    @After
+    public void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    /**
+     * Get user info should take hedged answer when first request is slow.
+     */
+    @Test
+    public void getUserInfoShouldTakeHedgedAnswerWhenFirstRequestIsSlow() {
+        userInfoLatencyConfigurationProperties.setHedgingEnabled(true);
+        final HedgingUserInfoService hedgingUserInfoService = buildHedgingUserInfoService();
+        final UserInfoResponseDto userInfoResponseDto = buildUserInfoResponseDto(ABLE_TO_VOTE);
+        final AtomicInteger requests = new AtomicInteger();
+        Mockito.when(userInfoService.getUserInfoAsync(CPF)).thenAnswer(invocation -> requests.incrementAndGet() == MINIMUM_SAMPLES + 1
+            ? new CompletableFuture<>()
+            : new CompletableFuture<UserInfoResponseDto>().completeOnTimeout(userInfoResponseDto, REMOTE_LATENCY_MILLISECONDS,
+                TimeUnit.MILLISECONDS));
+        for (int sample = 0; sample < MINIMUM_SAMPLES; sample++) {
+            hedgingUserInfoService.getUserInfo(CPF);
+        }
+
+        Assert.assertSame(userInfoResponseDto, hedgingUserInfoService.getUserInfo(CPF));
+        Assert.assertEquals(MINIMUM_SAMPLES + 2, requests.get());
+    }
+
+    /**
+     * Get user info should not hedge once the samples collected have left the window, however many were collected before.
+     *
+     * @throws InterruptedException if interrupted while waiting for the samples to leave the window
+     */
+    @Test
+    public void getUserInfoShouldNotHedgeOnceSamplesLeftTheWindow() throws InterruptedException {
+        userInfoLatencyConfigurationProperties.setHedgingEnabled(true);
+        userInfoLatencyConfigurationProperties.setWindowSeconds(SHORT_WINDOW_SECONDS);
+        final HedgingUserInfoService hedgingUserInfoService = buildHedgingUserInfoService();
+        final UserInfoResponseDto userInfoResponseDto = buildUserInfoResponseDto(ABLE_TO_VOTE);
+        final AtomicInteger requests = new AtomicInteger();
+        Mockito.when(userInfoService.getUserInfoAsync(CPF)).thenAnswer(invocation -> new CompletableFuture<UserInfoResponseDto>()
+            .completeOnTimeout(userInfoResponseDto, requests.incrementAndGet() > MINIMUM_SAMPLES
+                ? SLOW_REMOTE_LATENCY_MILLISECONDS
+                : REMOTE_LATENCY_MILLISECONDS, TimeUnit.MILLISECONDS));
+        for (int sample = 0; sample < MINIMUM_SAMPLES; sample++) {
+            hedgingUserInfoService.getUserInfo(CPF);
+        }
+        Thread.sleep(STALE_WINDOW_MILLISECONDS);
+
+        Assert.assertSame(userInfoResponseDto, hedgingUserInfoService.getUserInfo(CPF));
+        Assert.assertEquals(MINIMUM_SAMPLES + 1, requests.get());
+    }
+
+    /**
+     * Get user info should track latency of failed requests and of requests timed out, at their timeout.
+     */
+    @Test
+    public void getUserInfoShouldTrackLatencyOfFailedAndTimedOutRequests() {
+        userInfoLatencyConfigurationProperties.setMaxTimeoutMilliseconds(DEADLINE_MILLISECONDS);
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final HedgingUserInfoService hedgingUserInfoService = new HedgingUserInfoService(userInfoService,
+            userInfoLatencyConfigurationProperties, new SyncTaskExecutor(), meterRegistry);
+        Mockito.when(userInfoService.getUserInfoAsync(CPF))
+            .thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> {
+                throw new ResourceAccessException("User info service is unavailable");
+            }, CompletableFuture.delayedExecutor(REMOTE_LATENCY_MILLISECONDS, TimeUnit.MILLISECONDS)))
+            .thenReturn(new CompletableFuture<>());
+
+        Assert.assertThrows(ResourceAccessException.class, () -> hedgingUserInfoService.getUserInfo(CPF));
+        Assert.assertEquals(1L, meterRegistry.get(LATENCY_METRIC_NAME).timer().count());
+        Assert.assertThrows(ResourceAccessException.class, () -> hedgingUserInfoService.getUserInfo(CPF));
+        Assert.assertEquals(2L, meterRegistry.get(LATENCY_METRIC_NAME).timer().count());
+        Assert.assertEquals(DEADLINE_MILLISECONDS, meterRegistry.get(LATENCY_METRIC_NAME).timer().max(TimeUnit.MILLISECONDS), 0.0);
+    }
+
+    /**
+     * Get user info should not track latency of answers available as soon as the request is sent, which are not remote.
+     */
+    @Test
+    public void getUserInfoShouldNotTrackLatencyOfAnswersAvailableAsSoonAsTheRequestIsSent() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final HedgingUserInfoService hedgingUserInfoService = new HedgingUserInfoService(userInfoService,
+            userInfoLatencyConfigurationProperties, new SyncTaskExecutor(), meterRegistry);
+        Mockito.when(userInfoService.getUserInfoAsync(CPF))
+            .thenReturn(CompletableFuture.completedFuture(buildUserInfoResponseDto(ABLE_TO_VOTE)))
+            .thenAnswer(invocation -> new CompletableFuture<UserInfoResponseDto>().completeOnTimeout(buildUserInfoResponseDto(ABLE_TO_VOTE),
+                REMOTE_LATENCY_MILLISECONDS, TimeUnit.MILLISECONDS));
+
+        hedgingUserInfoService.getUserInfo(CPF);
+        Assert.assertEquals(0L, meterRegistry.get(LATENCY_METRIC_NAME).timer().count());
+        hedgingUserInfoService.getUserInfo(CPF);
+        Assert.assertEquals(1L, meterRegistry.get(LATENCY_METRIC_NAME).timer().count());
+    }
+
+    /**
+     * Get user info should throw resource access exception when remote service does not answer within the timeout.
+     */
+    @Test(expected = ResourceAccessException.class)
+    public void getUserInfoShouldThrowResourceAccessExceptionWhenRemoteServiceDoesNotAnswerWithinTheTimeout() {
+        Mockito.when(userInfoService.getUserInfoAsync(CPF)).thenReturn(new CompletableFuture<>());
+        buildHedgingUserInfoService().getUserInfo(CPF);
+    }
+
+    /**
+     * Get user info should throw deadline exceeded exception when remote service does not answer within the request deadline.
+     */
+    @Test(expected = DeadlineExceededException.class)
+    public void getUserInfoShouldThrowDeadlineExceededExceptionWhenRemoteServiceDoesNotAnswerWithinTheRequestDeadline() {
+        Mockito.when(userInfoService.getUserInfoAsync(CPF)).thenReturn(new CompletableFuture<>());
+        RequestDeadline.start(DEADLINE_MILLISECONDS);
+        buildHedgingUserInfoService().getUserInfo(CPF);
+    }
+
+    /**
+     * Get user info should throw deadline exceeded exception without calling remote service when request deadline has passed.
+     */
+    @Test
+    public void getUserInfoShouldThrowDeadlineExceededExceptionWithoutCallingRemoteServiceWhenRequestDeadlineHasPassed() {
+        RequestDeadline.start(-DEADLINE_MILLISECONDS);
+        Assert.assertThrows(DeadlineExceededException.class, () -> buildHedgingUserInfoService().getUserInfo(CPF));
+        Mockito.verifyNoInteractions(userInfoService);
+    }
+
+    /**
+     * Get user info should bound blocking remote request by the timeout so that it is not left running once abandoned.
+     */
+    @Test
+    public void getUserInfoShouldBoundBlockingRemoteRequestByTheTimeout() {
+        final UserInfoResponseDto userInfoResponseDto = buildUserInfoResponseDto(ABLE_TO_VOTE);
+        final AtomicReference<OptionalLong> remoteRequestRemainingMilliseconds = new AtomicReference<>();
+        Mockito.when(blockingUserInfoService.getUserInfo(CPF)).thenAnswer(invocation -> {
+            remoteRequestRemainingMilliseconds.set(RequestDeadline.remainingMilliseconds());
+            return userInfoResponseDto;
+        });
+        final HedgingUserInfoService hedgingUserInfoService = new HedgingUserInfoService(blockingUserInfoService,
+            userInfoLatencyConfigurationProperties, new SyncTaskExecutor(), new SimpleMeterRegistry());
+
+        Assert.assertSame(userInfoResponseDto, hedgingUserInfoService.getUserInfo(CPF));
+        Assert.assertTrue(remoteRequestRemainingMilliseconds.get().isPresent());
+        Assert.assertTrue(remoteRequestRemainingMilliseconds.get().getAsLong() <= MAX_TIMEOUT_MILLISECONDS);
+        Assert.assertTrue(RequestDeadline.remainingMilliseconds().isEmpty());
+    }
+
+    /**
+     * Get user info should fail with rejected execution exception when remote executor is full.
+     */
+    @Test
+    public void getUserInfoShouldFailWithRejectedExecutionExceptionWhenRemoteExecutorIsFull() {
+        final HedgingUserInfoService hedgingUserInfoService = new HedgingUserInfoService(blockingUserInfoService,
+            userInfoLatencyConfigurationProperties, task -> {
+                throw new RejectedExecutionException();
+            }, new SimpleMeterRegistry());
+
+        final CompletionException exception = Assert.assertThrows(CompletionException.class,
+            () -> hedgingUserInfoService.getUserInfoAsync(CPF).join());
+        Assert.assertTrue(exception.getCause() instanceof RejectedExecutionException);
+        Mockito.verifyNoInteractions(blockingUserInfoService);
+    }
+
+    private HedgingUserInfoService buildHedgingUserInfoService() {
+        return new HedgingUserInfoService(userInfoService, userInfoLatencyConfigurationProperties, new SyncTaskExecutor(),
+            new SimpleMeterRegistry());
+    }
+}
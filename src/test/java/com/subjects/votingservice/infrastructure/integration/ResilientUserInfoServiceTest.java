@@ -0,0 +1,132 @@
+package com.subjects.votingservice.infrastructure.integration;
+
+import com.subjects.votingservice.configuration.properties.UserInfoResilienceConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.domain.exception.UserInfoUnavailableException;
+import com.subjects.votingservice.infrastructure.integration.impl.ResilientUserInfoService;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.helper.UserInfoResponseHelper.buildUserInfoResponseDto;
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+
+/**
+ * Resilient user info service test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ResilientUserInfoServiceTest {
+
+    private static final int MINIMUM_NUMBER_OF_CALLS = 2;
+    private static final long WAIT_DURATION_IN_OPEN_STATE_SECONDS = 60L;
+
+    @Mock
+    private transient AsyncUserInfoService userInfoService;
+
+    private transient UserInfoResilienceConfigurationProperties userInfoResilienceConfigurationProperties;
+    private transient ResilientUserInfoService resilientUserInfoService;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        userInfoResilienceConfigurationProperties = new UserInfoResilienceConfigurationProperties();
+        userInfoResilienceConfigurationProperties.setFallbackPolicy(UserInfoResilienceConfigurationProperties.FallbackPolicy.ALLOW);
+        resilientUserInfoService = new ResilientUserInfoService(userInfoService, userInfoResilienceConfigurationProperties,
+            CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(MINIMUM_NUMBER_OF_CALLS)
+                .minimumNumberOfCalls(MINIMUM_NUMBER_OF_CALLS)
+                .waitDurationInOpenState(Duration.ofSeconds(WAIT_DURATION_IN_OPEN_STATE_SECONDS))
+                .build()),
+            BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()));
+    }
+
+    /**
+     * Get user info should not call remote service when circuit is open.
+     */
+    @Test
+    public void getUserInfoShouldNotCallRemoteServiceWhenCircuitIsOpen() {
+        Mockito.when(userInfoService.getUserInfoAsync(CPF)).thenReturn(CompletableFuture.failedFuture(new ResourceAccessException("timeout")));
+        for (int call = 0; call < MINIMUM_NUMBER_OF_CALLS; call++) {
+            Assert.assertThrows(ResourceAccessException.class, () -> resilientUserInfoService.getUserInfo(CPF));
+        }
+
+        Assert.assertThrows(ResourceAccessException.class, () -> resilientUserInfoService.getUserInfo(CPF));
+        Mockito.verify(userInfoService, Mockito.times(MINIMUM_NUMBER_OF_CALLS)).getUserInfoAsync(CPF);
+    }
+
+    /**
+     * Get user info should deny associate when circuit is open and fallback policy is deny.
+     */
+    @Test
+    public void getUserInfoShouldDenyAssociateWhenCircuitIsOpenAndFallbackPolicyIsDeny() {
+        userInfoResilienceConfigurationProperties.setFallbackPolicy(UserInfoResilienceConfigurationProperties.FallbackPolicy.DENY);
+        Mockito.when(userInfoService.getUserInfoAsync(CPF)).thenReturn(CompletableFuture.failedFuture(new ResourceAccessException("timeout")));
+        for (int call = 0; call < MINIMUM_NUMBER_OF_CALLS; call++) {
+            Assert.assertThrows(UserInfoUnavailableException.class, () -> resilientUserInfoService.getUserInfo(CPF));
+        }
+
+        Assert.assertThrows(UserInfoUnavailableException.class, () -> resilientUserInfoService.getUserInfo(CPF));
+        Mockito.verify(userInfoService, Mockito.times(MINIMUM_NUMBER_OF_CALLS)).getUserInfoAsync(CPF);
+    }
+
+    /**
+     * Get user info should keep circuit closed when user info is not found.
+     */
+    @Test
+    public void getUserInfoShouldKeepCircuitClosedWhenUserInfoIsNotFound() {
+        Mockito.when(userInfoService.getUserInfoAsync(CPF))
+            .thenReturn(CompletableFuture.failedFuture(new AssociateUnableToVoteException()))
+            .thenReturn(CompletableFuture.failedFuture(new AssociateUnableToVoteException()))
+            .thenReturn(CompletableFuture.completedFuture(buildUserInfoResponseDto(ABLE_TO_VOTE)));
+        for (int call = 0; call < MINIMUM_NUMBER_OF_CALLS; call++) {
+            Assert.assertThrows(AssociateUnableToVoteException.class, () -> resilientUserInfoService.getUserInfo(CPF));
+        }
+
+        Assert.assertEquals(ABLE_TO_VOTE, resilientUserInfoService.getUserInfo(CPF).getStatus());
+    }
+
+    /**
+     * Get user info should apply fallback policy and keep circuit closed when remote executor rejects the call.
+     */
+    @Test
+    public void getUserInfoShouldApplyFallbackPolicyAndKeepCircuitClosedWhenRemoteExecutorRejectsTheCall() {
+        Mockito.when(userInfoService.getUserInfoAsync(CPF))
+            .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException()))
+            .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException()))
+            .thenReturn(CompletableFuture.completedFuture(buildUserInfoResponseDto(ABLE_TO_VOTE)));
+        for (int call = 0; call < MINIMUM_NUMBER_OF_CALLS; call++) {
+            Assert.assertThrows(ResourceAccessException.class, () -> resilientUserInfoService.getUserInfo(CPF));
+        }
+
+        Assert.assertEquals(ABLE_TO_VOTE, resilientUserInfoService.getUserInfo(CPF).getStatus());
+    }
+
+    /**
+     * Get user info should apply fallback policy when bulkhead is full.
+     */
+    @Test
+    public void getUserInfoShouldApplyFallbackPolicyWhenBulkheadIsFull() {
+        Mockito.when(userInfoService.getUserInfoAsync(CPF)).thenReturn(new CompletableFuture<>());
+        final CompletableFuture<?> inFlightLookup = resilientUserInfoService.getUserInfoAsync(CPF);
+
+        Assert.assertThrows(ResourceAccessException.class, () -> resilientUserInfoService.getUserInfo(CPF));
+        Assert.assertFalse(inFlightLookup.isDone());
+        Mockito.verify(userInfoService).getUserInfoAsync(CPF);
+    }
+}
@@ -0,0 +1,109 @@
+package com.subjects.votingservice.infrastructure.integration;
+
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import com.subjects.votingservice.infrastructure.integration.impl.SingleFlightUserInfoService;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.helper.UserInfoResponseHelper.buildUserInfoResponseDto;
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+
+/**
+ * Single flight user info service test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SingleFlightUserInfoServiceTest {
+
+    @Mock
+    private transient UserInfoService userInfoService;
+
+    private transient SingleFlightUserInfoService singleFlightUserInfoService;
+    private transient CountDownLatch lookupStarted;
+    private transient CountDownLatch lookupReleased;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        singleFlightUserInfoService = new SingleFlightUserInfoService(userInfoService);
+        lookupStarted = new CountDownLatch(1);
+        lookupReleased = new CountDownLatch(1);
+    }
+
+    /**
+     * Get user info should share in-flight lookup when the same CPF is looked up concurrently.
+     *
+     * @throws InterruptedException if interrupted while waiting for the lookups
+     */
+    @Test
+    public void getUserInfoShouldShareInFlightLookupWhenTheSameCpfIsLookedUpConcurrently() throws InterruptedException {
+        final UserInfoResponseDto userInfoResponseDto = buildUserInfoResponseDto(ABLE_TO_VOTE);
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            lookupReleased.await();
+            return userInfoResponseDto;
+        });
+
+        final CompletableFuture<UserInfoResponseDto> firstLookup = CompletableFuture.supplyAsync(() -> singleFlightUserInfoService.getUserInfo(CPF));
+        final AtomicReference<Object> secondLookup = new AtomicReference<>();
+        final Thread secondLookupThread = startConcurrentLookup(secondLookup);
+
+        lookupReleased.countDown();
+        secondLookupThread.join();
+        Assert.assertSame(userInfoResponseDto, firstLookup.join());
+        Assert.assertSame(userInfoResponseDto, secondLookup.get());
+        Mockito.verify(userInfoService).getUserInfo(CPF);
+    }
+
+    /**
+     * Get user info should share exception of in-flight lookup when the same CPF is looked up concurrently.
+     *
+     * @throws InterruptedException if interrupted while waiting for the lookups
+     */
+    @Test
+    public void getUserInfoShouldShareExceptionOfInFlightLookupWhenTheSameCpfIsLookedUpConcurrently() throws InterruptedException {
+        Mockito.when(userInfoService.getUserInfo(CPF)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            lookupReleased.await();
+            throw new AssociateUnableToVoteException();
+        });
+
+        final CompletableFuture<UserInfoResponseDto> firstLookup = CompletableFuture.supplyAsync(() -> singleFlightUserInfoService.getUserInfo(CPF));
+        final AtomicReference<Object> secondLookup = new AtomicReference<>();
+        final Thread secondLookupThread = startConcurrentLookup(secondLookup);
+
+        lookupReleased.countDown();
+        secondLookupThread.join();
+        Assert.assertTrue(firstLookup.handle((response, exception) -> exception.getCause() instanceof AssociateUnableToVoteException).join());
+        Assert.assertTrue(secondLookup.get() instanceof AssociateUnableToVoteException);
+        Mockito.verify(userInfoService).getUserInfo(CPF);
+    }
+
+    private Thread startConcurrentLookup(AtomicReference<Object> lookup) throws InterruptedException {
+        lookupStarted.await();
+        final Thread lookupThread = new Thread(() -> {
+            try {
+                lookup.set(singleFlightUserInfoService.getUserInfo(CPF));
+            } catch (AssociateUnableToVoteException exception) {
+                lookup.set(exception);
+            }
+        });
+        lookupThread.start();
+        while (lookupThread.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        return lookupThread;
+    }
+}
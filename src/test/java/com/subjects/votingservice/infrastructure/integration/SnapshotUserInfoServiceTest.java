@@ -0,0 +1,195 @@
+package com.subjects.votingservice.infrastructure.integration;
+
+import com.subjects.votingservice.configuration.properties.UserInfoHttpClientConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoServiceConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoSnapshotConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto;
+import com.subjects.votingservice.infrastructure.integration.impl.SnapshotUserInfoService;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.subjects.votingservice.helper.UserInfoResponseHelper.buildUserInfoResponseDto;
+
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.UNABLE_TO_VOTE;
+
+/**
+ * Eligibility snapshot user info service test.
+ */
+public class SnapshotUserInfoServiceTest {
+
+    private static final String ABLE_CPF = "123.456.789-01";
+    private static final String UNABLE_CPF = "23456789012";
+    private static final String MISSING_CPF = "34567890123";
+    private static final long RELOAD_INTERVAL_SECONDS = 3600L;
+    private static final int READ_TIMEOUT_MILLISECONDS = 5000;
+    private static final String URL = "endpoint_url";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private transient Path snapshotPath;
+    private transient SnapshotUserInfoService snapshotUserInfoService;
+
+    /**
+     * Method setup.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    @Before
+    public void setup() throws IOException {
+        snapshotPath = temporaryFolder.getRoot().toPath().resolve("eligibility.bin");
+        writeSnapshot(snapshotPath, record(ABLE_CPF, true), record(UNABLE_CPF, false));
+
+        final UserInfoSnapshotConfigurationProperties userInfoSnapshotConfigurationProperties = new UserInfoSnapshotConfigurationProperties();
+        userInfoSnapshotConfigurationProperties.setPath(snapshotPath.toString());
+        userInfoSnapshotConfigurationProperties.setReloadIntervalSeconds(RELOAD_INTERVAL_SECONDS);
+        snapshotUserInfoService = buildSnapshotUserInfoService(userInfoSnapshotConfigurationProperties, new RestTemplate(), Runnable::run);
+    }
+
+    /**
+     * Method tear down.
+     *
+     * @throws InterruptedException if interrupted while stopping the reloader
+     */
+    @After
+    public void tearDown() throws InterruptedException {
+        snapshotUserInfoService.stop();
+    }
+
+    /**
+     * Get user info should return status from snapshot when cpf is in the snapshot.
+     */
+    @Test
+    public void getUserInfoShouldReturnStatusFromSnapshotWhenCpfIsInTheSnapshot() {
+        Assert.assertEquals(ABLE_TO_VOTE, snapshotUserInfoService.getUserInfo(ABLE_CPF).getStatus());
+        Assert.assertEquals(UNABLE_TO_VOTE, snapshotUserInfoService.getUserInfo(UNABLE_CPF).getStatus());
+    }
+
+    /**
+     * Get user info should throw associate unable to vote exception when cpf is not in the snapshot.
+     */
+    @Test(expected = AssociateUnableToVoteException.class)
+    public void getUserInfoShouldThrowAssociateUnableToVoteExceptionWhenCpfIsNotInTheSnapshot() {
+        snapshotUserInfoService.getUserInfo(MISSING_CPF);
+    }
+
+    /**
+     * Get user info async should look cpf up in the remote service on the remote executor, bounded by the read timeout,
+     * when cpf is not in the snapshot and fallback to remote is enabled.
+     *
+     * @throws InterruptedException if interrupted while stopping the reloader
+     */
+    @Test
+    public void getUserInfoAsyncShouldLookCpfUpInRemoteServiceOnRemoteExecutorWhenCpfIsNotInTheSnapshotAndFallbackIsEnabled()
+        throws InterruptedException {
+        final UserInfoSnapshotConfigurationProperties userInfoSnapshotConfigurationProperties = new UserInfoSnapshotConfigurationProperties();
+        userInfoSnapshotConfigurationProperties.setPath(snapshotPath.toString());
+        userInfoSnapshotConfigurationProperties.setReloadIntervalSeconds(RELOAD_INTERVAL_SECONDS);
+        userInfoSnapshotConfigurationProperties.setFallbackToRemote(true);
+        final RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
+        final AtomicReference<OptionalLong> remoteRequestRemainingMilliseconds = new AtomicReference<>();
+        Mockito.when(restTemplate.exchange(ArgumentMatchers.eq(URL.concat("/").concat(MISSING_CPF)), ArgumentMatchers.eq(HttpMethod.GET),
+            ArgumentMatchers.any(HttpEntity.class), ArgumentMatchers.eq(UserInfoResponseDto.class))).thenAnswer(invocation -> {
+                remoteRequestRemainingMilliseconds.set(RequestDeadline.remainingMilliseconds());
+                return new ResponseEntity<>(buildUserInfoResponseDto(ABLE_TO_VOTE), HttpStatus.OK);
+            });
+        final AtomicInteger remoteTasks = new AtomicInteger();
+        final SnapshotUserInfoService fallbackSnapshotUserInfoService = buildSnapshotUserInfoService(userInfoSnapshotConfigurationProperties,
+            restTemplate, task -> {
+                remoteTasks.incrementAndGet();
+                task.run();
+            });
+        try {
+            Assert.assertEquals(ABLE_TO_VOTE, fallbackSnapshotUserInfoService.getUserInfoAsync(MISSING_CPF).join().getStatus());
+            Assert.assertEquals(ABLE_TO_VOTE, fallbackSnapshotUserInfoService.getUserInfoAsync(ABLE_CPF).join().getStatus());
+        } finally {
+            fallbackSnapshotUserInfoService.stop();
+        }
+
+        Assert.assertEquals(1, remoteTasks.get());
+        Assert.assertTrue(remoteRequestRemainingMilliseconds.get().isPresent());
+        Assert.assertTrue(remoteRequestRemainingMilliseconds.get().getAsLong() <= READ_TIMEOUT_MILLISECONDS);
+    }
+
+    /**
+     * Reload should swap snapshot in when snapshot file is replaced.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    @Test
+    public void reloadShouldSwapSnapshotInWhenSnapshotFileIsReplaced() throws IOException {
+        Assert.assertFalse(snapshotUserInfoService.reload());
+
+        final Path replacementPath = temporaryFolder.newFile().toPath();
+        writeSnapshot(replacementPath, record(ABLE_CPF, false), record(UNABLE_CPF, true), record(MISSING_CPF, true));
+        Files.move(replacementPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Assert.assertTrue(snapshotUserInfoService.reload());
+        Assert.assertEquals(UNABLE_TO_VOTE, snapshotUserInfoService.getUserInfo(ABLE_CPF).getStatus());
+        Assert.assertEquals(ABLE_TO_VOTE, snapshotUserInfoService.getUserInfo(MISSING_CPF).getStatus());
+    }
+
+    /**
+     * Reload should keep current snapshot when snapshot file is invalid.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    @Test
+    public void reloadShouldKeepCurrentSnapshotWhenSnapshotFileIsInvalid() throws IOException {
+        Files.write(snapshotPath, "invalid".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertFalse(snapshotUserInfoService.reload());
+        Assert.assertEquals(ABLE_TO_VOTE, snapshotUserInfoService.getUserInfo(ABLE_CPF).getStatus());
+    }
+
+    private static SnapshotUserInfoService buildSnapshotUserInfoService(
+        UserInfoSnapshotConfigurationProperties userInfoSnapshotConfigurationProperties, RestTemplate restTemplate, Executor executor) {
+        final UserInfoServiceConfigurationProperties userInfoServiceConfigurationProperties = new UserInfoServiceConfigurationProperties();
+        userInfoServiceConfigurationProperties.setUrl(URL);
+        final UserInfoHttpClientConfigurationProperties userInfoHttpClientConfigurationProperties = new UserInfoHttpClientConfigurationProperties();
+        userInfoHttpClientConfigurationProperties.setReadTimeoutMilliseconds(READ_TIMEOUT_MILLISECONDS);
+        final SnapshotUserInfoService snapshotUserInfoService = new SnapshotUserInfoService(userInfoSnapshotConfigurationProperties,
+            userInfoServiceConfigurationProperties, userInfoHttpClientConfigurationProperties, restTemplate, executor);
+        snapshotUserInfoService.start();
+        return snapshotUserInfoService;
+    }
+
+    private static long record(String cpf, boolean ableToVote) {
+        return Long.parseLong(cpf.replaceAll("\\D", "")) << 1 | (ableToVote ? 1L : 0L);
+    }
+
+    private static void writeSnapshot(Path path, long... records) throws IOException {
+        final long[] sortedRecords = records.clone();
+        Arrays.sort(sortedRecords);
+        final ByteBuffer buffer = ByteBuffer.allocate(SnapshotUserInfoService.HEADER_BYTES + sortedRecords.length * Long.BYTES);
+        buffer.putInt(SnapshotUserInfoService.MAGIC).putInt(SnapshotUserInfoService.VERSION).putLong(sortedRecords.length);
+        Arrays.stream(sortedRecords).forEach(buffer::putLong);
+        Files.write(path, buffer.array());
+    }
+}
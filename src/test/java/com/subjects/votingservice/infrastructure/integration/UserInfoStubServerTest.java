@@ -0,0 +1,109 @@
+package com.subjects.votingservice.infrastructure.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subjects.votingservice.configuration.properties.UserInfoHttpClientConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoServiceConfigurationProperties;
+import com.subjects.votingservice.configuration.properties.UserInfoStubConfigurationProperties;
+import com.subjects.votingservice.domain.exception.AssociateUnableToVoteException;
+import com.subjects.votingservice.infrastructure.integration.impl.AsyncUserInfoServiceImpl;
+import com.subjects.votingservice.infrastructure.integration.stub.UserInfoStubServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.infrastructure.integration.dto.UserInfoResponseDto.StatusEnum.ABLE_TO_VOTE;
+
+/**
+ * User info stub server test.
+ */
+public class UserInfoStubServerTest {
+
+    private static final int TIMEOUT_MILLISECONDS = 200;
+    private static final long SLOW_RESPONSE_MILLISECONDS = 2000L;
+    private static final double HALF = 0.5;
+
+    private transient UserInfoStubConfigurationProperties userInfoStubConfigurationProperties;
+    private transient UserInfoStubServer userInfoStubServer;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        userInfoStubConfigurationProperties = new UserInfoStubConfigurationProperties();
+        userInfoStubConfigurationProperties.setThreads(1);
+        userInfoStubConfigurationProperties.setLatencyDistribution(UserInfoStubConfigurationProperties.LatencyDistribution.CONSTANT);
+        userInfoStubConfigurationProperties.setAbleToVoteRatio(1.0);
+    }
+
+    /**
+     * Method tear down.
+     */
+    @After
+    public void tearDown() {
+        userInfoStubServer.stop();
+    }
+
+    /**
+     * Get user info should return able to vote when stub answers every associate as able to vote.
+     *
+     * @throws IOException if the user info stub server cannot be started
+     */
+    @Test
+    public void getUserInfoShouldReturnAbleToVoteWhenStubAnswersEveryAssociateAsAbleToVote() throws IOException {
+        Assert.assertEquals(ABLE_TO_VOTE, startUserInfoService().getUserInfo(CPF).getStatus());
+    }
+
+    /**
+     * Get user info should throw associate unable to vote exception when stub answers every associate as not found.
+     *
+     * @throws IOException if the user info stub server cannot be started
+     */
+    @Test(expected = AssociateUnableToVoteException.class)
+    public void getUserInfoShouldThrowAssociateUnableToVoteExceptionWhenStubAnswersEveryAssociateAsNotFound() throws IOException {
+        userInfoStubConfigurationProperties.setNotFoundRatio(1.0);
+        startUserInfoService().getUserInfo(CPF);
+    }
+
+    /**
+     * Get user info should throw resource access exception when stub latency exceeds the client timeout.
+     *
+     * @throws IOException if the user info stub server cannot be started
+     */
+    @Test(expected = ResourceAccessException.class)
+    public void getUserInfoShouldThrowResourceAccessExceptionWhenStubLatencyExceedsClientTimeout() throws IOException {
+        userInfoStubConfigurationProperties.setMedianLatencyMilliseconds(SLOW_RESPONSE_MILLISECONDS);
+        startUserInfoService().getUserInfo(CPF);
+    }
+
+    /**
+     * Get user info should return the same status when the same associate is requested again.
+     *
+     * @throws IOException if the user info stub server cannot be started
+     */
+    @Test
+    public void getUserInfoShouldReturnTheSameStatusWhenTheSameAssociateIsRequestedAgain() throws IOException {
+        userInfoStubConfigurationProperties.setAbleToVoteRatio(HALF);
+        final UserInfoService userInfoService = startUserInfoService();
+        Assert.assertEquals(userInfoService.getUserInfo(CPF).getStatus(), userInfoService.getUserInfo(CPF).getStatus());
+    }
+
+    private UserInfoService startUserInfoService() throws IOException {
+        userInfoStubServer = new UserInfoStubServer(userInfoStubConfigurationProperties);
+        userInfoStubServer.start();
+
+        final UserInfoServiceConfigurationProperties userInfoServiceConfigurationProperties = new UserInfoServiceConfigurationProperties();
+        userInfoServiceConfigurationProperties.setUrl("http://localhost:" + userInfoStubServer.getPort() + "/users");
+        final UserInfoHttpClientConfigurationProperties userInfoHttpClientConfigurationProperties = new UserInfoHttpClientConfigurationProperties();
+        userInfoHttpClientConfigurationProperties.setConnectTimeoutMilliseconds(TIMEOUT_MILLISECONDS);
+        userInfoHttpClientConfigurationProperties.setReadTimeoutMilliseconds(TIMEOUT_MILLISECONDS);
+        return new AsyncUserInfoServiceImpl(userInfoServiceConfigurationProperties,
+            userInfoHttpClientConfigurationProperties, new ObjectMapper(), ForkJoinPool.commonPool());
+    }
+}
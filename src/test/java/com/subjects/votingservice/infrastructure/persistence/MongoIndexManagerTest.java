@@ -0,0 +1,99 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.subjects.votingservice.infrastructure.entities.Associate;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import org.bson.Document;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+
+/**
+ * Mongo index manager test, against an embedded Mongo.
+ */
+@RunWith(SpringRunner.class)
+@DataMongoTest
+public class MongoIndexManagerTest {
+
+    private static final String VOTE_UNIQUE_INDEX_NAME = "subject_code_cpf_index";
+
+    @Autowired
+    private transient MongoTemplate mongoTemplate;
+
+    private transient MongoIndexManager mongoIndexManager;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        MongoIndexManager.declareIndexes().keySet().forEach(mongoTemplate::dropCollection);
+        mongoIndexManager = new MongoIndexManager(mongoTemplate);
+    }
+
+    /**
+     * Bootstrap should create every declared index.
+     */
+    @Test
+    public void bootstrapShouldCreateEveryDeclaredIndex() {
+        mongoIndexManager.bootstrap();
+
+        MongoIndexManager.declareIndexes().forEach((entity, indexes) -> {
+            final Set<String> existingIndexNames = mongoTemplate.indexOps(entity).getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+            indexes.stream()
+                .map(Index::getIndexOptions)
+                .map(indexOptions -> indexOptions.getString("name"))
+                .forEach(indexName -> Assert.assertTrue(entity.getSimpleName() + " " + indexName, existingIndexNames.contains(indexName)));
+        });
+    }
+
+    /**
+     * Bootstrap should create unique sparse vote index on subject code and cpf, rejecting a second vote.
+     */
+    @Test
+    public void bootstrapShouldCreateUniqueSparseVoteIndexOnSubjectCodeAndCpf() {
+        mongoIndexManager.bootstrap();
+
+        final IndexInfo voteUniqueIndex = mongoTemplate.indexOps(Vote.class).getIndexInfo().stream()
+            .filter(indexInfo -> VOTE_UNIQUE_INDEX_NAME.equals(indexInfo.getName()))
+            .findFirst()
+            .orElseThrow();
+        final List<String> indexKeys = voteUniqueIndex.getIndexFields().stream().map(IndexField::getKey).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("subjectCode", "cpf"), indexKeys);
+        Assert.assertTrue(voteUniqueIndex.isUnique());
+        Assert.assertTrue(voteUniqueIndex.isSparse());
+
+        mongoTemplate.insert(new Vote(CPF, CODE, true));
+        Assert.assertThrows(DuplicateKeyException.class, () -> mongoTemplate.insert(new Vote(CPF, CODE, false)));
+    }
+
+    /**
+     * Bootstrap should fail startup when a unique index cannot be created.
+     */
+    @Test
+    public void bootstrapShouldFailWhenUniqueIndexCannotBeCreated() {
+        final String associateCollectionName = mongoTemplate.getCollectionName(Associate.class);
+        mongoTemplate.insert(new Document("cpf", CPF), associateCollectionName);
+        mongoTemplate.insert(new Document("cpf", CPF), associateCollectionName);
+
+        Assert.assertThrows(IllegalStateException.class, mongoIndexManager::bootstrap);
+    }
+}
@@ -0,0 +1,140 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.subjects.votingservice.configuration.properties.VoteMigrationConfigurationProperties;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.VoteTally;
+import com.subjects.votingservice.infrastructure.event.VotingSessionOpenedEvent;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.subjects.votingservice.helper.AssociateHelper.CPF;
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+
+/**
+ * Vote schema migration test, against an embedded Mongo.
+ */
+@RunWith(SpringRunner.class)
+@DataMongoTest
+public class VoteSchemaMigrationTest {
+
+    private static final String OTHER_CPF = "other cpf";
+    private static final int BATCH_SIZE = 10;
+
+    @Autowired
+    private transient MongoTemplate mongoTemplate;
+
+    private transient VoteMigrationConfigurationProperties voteMigrationConfigurationProperties;
+    private transient VoteTallyStore voteTallyStore;
+    private transient VoteSchemaMigration voteSchemaMigration;
+    private transient String collectionName;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        collectionName = mongoTemplate.getCollectionName(Vote.class);
+        mongoTemplate.dropCollection(collectionName);
+        mongoTemplate.dropCollection(VoteTally.class);
+        new MongoIndexManager(mongoTemplate).bootstrap();
+        voteMigrationConfigurationProperties = new VoteMigrationConfigurationProperties();
+        voteMigrationConfigurationProperties.setEnabled(true);
+        voteMigrationConfigurationProperties.setBatchSize(BATCH_SIZE);
+        voteTallyStore = new VoteTallyStore(mongoTemplate);
+        voteSchemaMigration = new VoteSchemaMigration(mongoTemplate, voteMigrationConfigurationProperties, voteTallyStore);
+    }
+
+    /**
+     * Migrate batch should rewrite legacy votes into the slim schema.
+     */
+    @Test
+    public void migrateBatchShouldRewriteLegacyVotesIntoTheSlimSchema() {
+        final ObjectId legacyVoteId = insertLegacyVote(CPF, true);
+        insertLegacyVote(OTHER_CPF, false);
+
+        Assert.assertEquals(2, voteSchemaMigration.migrateBatch());
+
+        final Document migratedVote = mongoTemplate.findById(legacyVoteId, Document.class, collectionName);
+        Assert.assertEquals(CPF, migratedVote.getString("cpf"));
+        Assert.assertEquals(CODE, migratedVote.getString("subjectCode"));
+        Assert.assertTrue(migratedVote.getBoolean("option"));
+        Assert.assertFalse(migratedVote.containsKey("associate"));
+        Assert.assertFalse(migratedVote.containsKey("session"));
+        Assert.assertEquals(0L, voteSchemaMigration.countLegacy());
+        Assert.assertEquals(0, voteSchemaMigration.migrateBatch());
+    }
+
+    /**
+     * Migrate should keep the legacy vote, remove the slim vote and have the tally recounted when associate voted again
+     * under the slim schema.
+     */
+    @Test
+    public void migrateShouldKeepLegacyVoteAndRemoveSlimVoteWhenAssociateVotedAgain() {
+        voteTallyStore.onVotingSessionOpened(new VotingSessionOpenedEvent(CODE, LocalDateTime.now()));
+        final Vote slimVote = mongoTemplate.insert(new Vote(CPF, CODE, false));
+        final ObjectId legacyVoteId = insertLegacyVote(CPF, true);
+
+        voteSchemaMigration.migrate();
+
+        final List<Document> votes = mongoTemplate.findAll(Document.class, collectionName);
+        Assert.assertEquals(1, votes.size());
+        Assert.assertEquals(legacyVoteId, votes.get(0).getObjectId("_id"));
+        Assert.assertEquals(CPF, votes.get(0).getString("cpf"));
+        Assert.assertTrue(votes.get(0).getBoolean("option"));
+        Assert.assertFalse(votes.get(0).containsKey("session"));
+        Assert.assertNull(mongoTemplate.findById(slimVote.getId(), Vote.class));
+        Assert.assertFalse(mongoTemplate.findOne(Query.query(Criteria.where("subjectCode").is(CODE)), VoteTally.class).isComplete());
+        Assert.assertTrue(voteSchemaMigration.isCompleted());
+    }
+
+    /**
+     * Start should not complete migration when it is disabled and legacy votes are left.
+     */
+    @Test
+    public void startShouldNotCompleteMigrationWhenItIsDisabledAndLegacyVotesAreLeft() {
+        insertLegacyVote(CPF, true);
+        voteMigrationConfigurationProperties.setEnabled(false);
+
+        voteSchemaMigration.start(Mockito.mock(ApplicationReadyEvent.class));
+
+        Assert.assertFalse(voteSchemaMigration.isCompleted());
+        Assert.assertEquals(1L, voteSchemaMigration.countLegacy());
+    }
+
+    /**
+     * Start should complete migration when it is disabled and no legacy vote is left.
+     */
+    @Test
+    public void startShouldCompleteMigrationWhenItIsDisabledAndNoLegacyVoteIsLeft() {
+        mongoTemplate.insert(new Vote(CPF, CODE, true));
+        voteMigrationConfigurationProperties.setEnabled(false);
+
+        voteSchemaMigration.start(Mockito.mock(ApplicationReadyEvent.class));
+
+        Assert.assertTrue(voteSchemaMigration.isCompleted());
+    }
+
+    private ObjectId insertLegacyVote(String cpf, boolean option) {
+        final ObjectId id = new ObjectId();
+        mongoTemplate.insert(new Document("_id", id)
+            .append("associate", new Document("cpf", cpf))
+            .append("session", new Document("subject", new Document("code", CODE)))
+            .append("option", option), collectionName);
+        return id;
+    }
+}
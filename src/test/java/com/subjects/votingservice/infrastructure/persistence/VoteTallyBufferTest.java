@@ -0,0 +1,101 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.subjects.votingservice.configuration.properties.VoteTallyBufferConfigurationProperties;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+
+/**
+ * Vote tally buffer test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VoteTallyBufferTest {
+
+    private static final long FLUSH_INTERVAL_MILLISECONDS = 60_000L;
+    private static final String OTHER_CODE = "other code";
+    private static final int CONCURRENT_VOTES = 25;
+
+    @Mock
+    private transient VoteTallyStore voteTallyStore;
+
+    private transient VoteTallyBufferConfigurationProperties voteTallyBufferConfigurationProperties;
+    private transient VoteTallyBuffer voteTallyBuffer;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        voteTallyBufferConfigurationProperties = new VoteTallyBufferConfigurationProperties();
+        voteTallyBufferConfigurationProperties.setFlushIntervalMilliseconds(FLUSH_INTERVAL_MILLISECONDS);
+        voteTallyBuffer = new VoteTallyBuffer(voteTallyStore, voteTallyBufferConfigurationProperties);
+    }
+
+    /**
+     * Method tear down.
+     *
+     * @throws InterruptedException if interrupted while stopping the buffer
+     */
+    @After
+    public void tearDown() throws InterruptedException {
+        voteTallyBuffer.stop();
+    }
+
+    /**
+     * Count should count the voting session directly when buffer is disabled.
+     */
+    @Test
+    public void countShouldCountVotingSessionDirectlyWhenBufferIsDisabled() {
+        voteTallyBuffer.start();
+        voteTallyBuffer.count(CODE);
+        Mockito.verify(voteTallyStore).count(CODE);
+    }
+
+    /**
+     * Count should count the voting sessions of concurrent votes once per flush when buffer is enabled.
+     */
+    @Test
+    public void countShouldCountVotingSessionsOfConcurrentVotesOncePerFlushWhenBufferIsEnabled() {
+        voteTallyBufferConfigurationProperties.setEnabled(true);
+        voteTallyBuffer.start();
+
+        CompletableFuture.allOf(IntStream.range(0, CONCURRENT_VOTES)
+            .mapToObj(index -> CompletableFuture.runAsync(() -> voteTallyBuffer.count(index % 2 == 0 ? CODE : OTHER_CODE)))
+            .toArray(CompletableFuture[]::new)).join();
+
+        Mockito.verifyNoInteractions(voteTallyStore);
+
+        voteTallyBuffer.flush();
+        voteTallyBuffer.flush();
+
+        Mockito.verify(voteTallyStore).count(CODE);
+        Mockito.verify(voteTallyStore).count(OTHER_CODE);
+    }
+
+    /**
+     * Flush should count the voting session again on the next flush when counting it fails.
+     */
+    @Test
+    public void flushShouldCountVotingSessionAgainWhenCountingItFails() {
+        Mockito.doThrow(new IllegalStateException("unavailable")).doNothing().when(voteTallyStore).count(CODE);
+        voteTallyBufferConfigurationProperties.setEnabled(true);
+        voteTallyBuffer.start();
+        voteTallyBuffer.count(CODE);
+
+        Assert.assertThrows(IllegalStateException.class, voteTallyBuffer::flush);
+        voteTallyBuffer.flush();
+        voteTallyBuffer.flush();
+
+        Mockito.verify(voteTallyStore, Mockito.times(2)).count(CODE);
+    }
+}
@@ -0,0 +1,220 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.subjects.votingservice.domain.businessobjects.vote.VoteVerificationStatus;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.entities.VoteTally;
+import com.subjects.votingservice.infrastructure.event.VotingSessionOpenedEvent;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+
+/**
+ * Vote tally store test, against an embedded Mongo.
+ */
+@RunWith(SpringRunner.class)
+@DataMongoTest
+public class VoteTallyStoreTest {
+
+    private static final long LEGACY_YES_VOTES = 3L;
+    private static final long LEGACY_NO_VOTES = 2L;
+
+    @Autowired
+    private transient MongoTemplate mongoTemplate;
+
+    private transient VoteTallyStore voteTallyStore;
+    private transient int cpfSequence;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        mongoTemplate.dropCollection(VoteTally.class);
+        mongoTemplate.dropCollection(Vote.class);
+        new MongoIndexManager(mongoTemplate).bootstrap();
+        voteTallyStore = new VoteTallyStore(mongoTemplate);
+    }
+
+    /**
+     * Count should add the saved votes to the empty complete vote tally created when the voting session opened.
+     */
+    @Test
+    public void countShouldAddSavedVotesToVoteTallyCreatedWhenVotingSessionOpened() {
+        voteTallyStore.onVotingSessionOpened(new VotingSessionOpenedEvent(CODE, LocalDateTime.now().plusMinutes(1)));
+        saveVote(true, null);
+        saveVote(true, VoteVerificationStatus.VERIFIED);
+        saveVote(false, null);
+        saveVote(true, VoteVerificationStatus.PENDING);
+        saveVote(true, VoteVerificationStatus.REVOKED);
+        saveVote(false, VoteVerificationStatus.UNVERIFIED);
+
+        voteTallyStore.count(CODE);
+
+        final VoteTally voteTally = findVoteTally();
+        Assert.assertTrue(voteTally.isComplete());
+        Assert.assertEquals(2L, voteTally.getYes());
+        Assert.assertEquals(1L, voteTally.getNo());
+    }
+
+    /**
+     * Count should add every vote once however many times the voting session is counted.
+     */
+    @Test
+    public void countShouldAddEveryVoteOnce() {
+        voteTallyStore.onVotingSessionOpened(new VotingSessionOpenedEvent(CODE, LocalDateTime.now().plusMinutes(1)));
+        saveVote(true, null);
+        voteTallyStore.count(CODE);
+        saveVote(false, null);
+        voteTallyStore.count(CODE);
+        voteTallyStore.count(CODE);
+
+        final VoteTally voteTally = findVoteTally();
+        Assert.assertEquals(1L, voteTally.getYes());
+        Assert.assertEquals(1L, voteTally.getNo());
+    }
+
+    /**
+     * Count should create missing vote tally as incomplete instead of dropping the votes.
+     */
+    @Test
+    public void countShouldCreateMissingVoteTallyAsIncomplete() {
+        saveVote(true, null);
+
+        voteTallyStore.count(CODE);
+
+        final VoteTally voteTally = findVoteTally();
+        Assert.assertFalse(voteTally.isComplete());
+        Assert.assertEquals(1L, voteTally.getYes());
+        Assert.assertEquals(0L, voteTally.getNo());
+    }
+
+    /**
+     * Recount should count every vote, votes saved before tally generations and legacy votes included, and mark the
+     * vote tally complete.
+     */
+    @Test
+    public void recountShouldCountEveryVoteAndMarkVoteTallyComplete() {
+        saveVote(true, null);
+        saveVote(false, VoteVerificationStatus.VERIFIED);
+        mongoTemplate.updateMulti(new Query(), new Update().unset("tallyGeneration"), Vote.class);
+        saveVote(true, null);
+        voteTallyStore.count(CODE);
+
+        final Optional<VoteTally> voteTally = voteTallyStore.recount(CODE, LEGACY_YES_VOTES, LEGACY_NO_VOTES);
+
+        Assert.assertTrue(voteTally.isPresent());
+        Assert.assertTrue(voteTally.get().isComplete());
+        Assert.assertEquals(LEGACY_YES_VOTES + 2L, voteTally.get().getYes());
+        Assert.assertEquals(LEGACY_NO_VOTES + 1L, voteTally.get().getNo());
+        Assert.assertEquals(1L, mongoTemplate.count(bySubjectCode(), VoteTally.class));
+    }
+
+    /**
+     * Count should not add again a vote saved before a recount and counted after it.
+     */
+    @Test
+    public void countShouldNotAddAgainVoteSavedBeforeRecountAndCountedAfterIt() {
+        voteTallyStore.onVotingSessionOpened(new VotingSessionOpenedEvent(CODE, LocalDateTime.now().plusMinutes(1)));
+        saveVote(true, null);
+
+        voteTallyStore.recount(CODE, 0L, 0L);
+        voteTallyStore.count(CODE);
+
+        final VoteTally voteTally = findVoteTally();
+        Assert.assertTrue(voteTally.isComplete());
+        Assert.assertEquals(1L, voteTally.getYes());
+    }
+
+    /**
+     * Count should not add votes it claimed once a recount overlapped it, leaving them to the recount.
+     */
+    @Test
+    public void countShouldNotAddVotesItClaimedOnceRecountOverlappedIt() {
+        voteTallyStore.onVotingSessionOpened(new VotingSessionOpenedEvent(CODE, LocalDateTime.now().plusMinutes(1)));
+        saveVote(true, null);
+        saveVote(false, null);
+        final MongoTemplate interleavedMongoTemplate = Mockito.spy(mongoTemplate);
+        final AtomicBoolean recounted = new AtomicBoolean();
+        Mockito.doAnswer(invocation -> {
+            if (recounted.compareAndSet(false, true)) {
+                voteTallyStore.recount(CODE, 0L, 0L);
+            }
+            return invocation.callRealMethod();
+        }).when(interleavedMongoTemplate).updateFirst(ArgumentMatchers.any(Query.class), ArgumentMatchers.any(Update.class),
+            ArgumentMatchers.eq(VoteTally.class));
+
+        new VoteTallyStore(interleavedMongoTemplate).count(CODE);
+
+        final VoteTally voteTally = findVoteTally();
+        Assert.assertTrue(recounted.get());
+        Assert.assertTrue(voteTally.isComplete());
+        Assert.assertEquals(1L, voteTally.getYes());
+        Assert.assertEquals(1L, voteTally.getNo());
+    }
+
+    /**
+     * Recount should give way to a newer recount that overlapped it, which counts every vote once.
+     */
+    @Test
+    public void recountShouldGiveWayToNewerRecountThatOverlappedIt() {
+        saveVote(true, null);
+        final MongoTemplate interleavedMongoTemplate = Mockito.spy(mongoTemplate);
+        final AtomicBoolean recounted = new AtomicBoolean();
+        Mockito.doAnswer(invocation -> {
+            if (recounted.compareAndSet(false, true)) {
+                voteTallyStore.recount(CODE, 0L, 0L);
+            }
+            return invocation.callRealMethod();
+        }).when(interleavedMongoTemplate).updateFirst(ArgumentMatchers.any(Query.class), ArgumentMatchers.any(Update.class),
+            ArgumentMatchers.eq(VoteTally.class));
+
+        Assert.assertTrue(new VoteTallyStore(interleavedMongoTemplate).recount(CODE, 0L, 0L).isEmpty());
+
+        final VoteTally voteTally = findVoteTally();
+        Assert.assertTrue(voteTally.isComplete());
+        Assert.assertEquals(1L, voteTally.getYes());
+    }
+
+    /**
+     * Invalidate should mark the vote tally incomplete.
+     */
+    @Test
+    public void invalidateShouldMarkVoteTallyIncomplete() {
+        voteTallyStore.onVotingSessionOpened(new VotingSessionOpenedEvent(CODE, LocalDateTime.now().plusMinutes(1)));
+
+        voteTallyStore.invalidate(CODE);
+
+        Assert.assertFalse(findVoteTally().isComplete());
+    }
+
+    private void saveVote(boolean option, VoteVerificationStatus verification) {
+        final Vote vote = new Vote(String.valueOf(cpfSequence++), CODE, option);
+        vote.setVerification(verification);
+        vote.setTallyGeneration(0L);
+        mongoTemplate.insert(vote);
+    }
+
+    private VoteTally findVoteTally() {
+        return mongoTemplate.findOne(bySubjectCode(), VoteTally.class);
+    }
+
+    private Query bySubjectCode() {
+        return new Query(Criteria.where("subjectCode").is(CODE));
+    }
+}
@@ -0,0 +1,198 @@
+package com.subjects.votingservice.infrastructure.persistence;
+
+import com.subjects.votingservice.configuration.properties.VoteGroupCommitConfigurationProperties;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import com.subjects.votingservice.infrastructure.repository.VoteRepository;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.subjects.votingservice.helper.VoteHelper.buildVote;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Vote writer test.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VoteWriterTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final long MAX_DELAY_MILLISECONDS = 5L;
+    private static final int QUEUE_CAPACITY = 100;
+    private static final int CONCURRENT_VOTES = 25;
+    private static final long COMMIT_TIMEOUT_MILLISECONDS = 5_000L;
+    private static final long DEADLINE_MILLISECONDS = 50L;
+
+    @Mock
+    private transient VoteRepository voteRepository;
+
+    private transient VoteGroupCommitConfigurationProperties voteGroupCommitConfigurationProperties;
+    private transient VoteWriter voteWriter;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        voteGroupCommitConfigurationProperties = new VoteGroupCommitConfigurationProperties();
+        voteGroupCommitConfigurationProperties.setBatchSize(BATCH_SIZE);
+        voteGroupCommitConfigurationProperties.setMaxDelayMilliseconds(MAX_DELAY_MILLISECONDS);
+        voteGroupCommitConfigurationProperties.setQueueCapacity(QUEUE_CAPACITY);
+        voteGroupCommitConfigurationProperties.setCommitTimeoutMilliseconds(COMMIT_TIMEOUT_MILLISECONDS);
+        voteWriter = new VoteWriter(voteRepository, voteGroupCommitConfigurationProperties);
+    }
+
+    /**
+     * Method tear down.
+     *
+     * @throws InterruptedException if interrupted while stopping the writer
+     */
+    @After
+    public void tearDown() throws InterruptedException {
+        RequestDeadline.clear();
+        voteWriter.stop();
+    }
+
+    /**
+     * Save should save vote directly when group commit is disabled.
+     */
+    @Test
+    public void saveShouldSaveVoteDirectlyWhenGroupCommitIsDisabled() {
+        final Vote vote = buildVote();
+        Mockito.when(voteRepository.save(vote)).thenReturn(vote);
+        voteWriter.start();
+        Assert.assertEquals(vote, voteWriter.save(vote));
+        Mockito.verify(voteRepository, Mockito.never()).insert(anyList());
+    }
+
+    /**
+     * Save should insert concurrent votes in bulk when group commit is enabled.
+     */
+    @Test
+    public void saveShouldInsertConcurrentVotesInBulkWhenGroupCommitIsEnabled() {
+        final List<Integer> batchSizes = new ArrayList<>();
+        Mockito.when(voteRepository.insert(anyList())).thenAnswer(invocation -> {
+            final List<Vote> votes = invocation.getArgument(0);
+            batchSizes.add(votes.size());
+            return votes;
+        });
+        voteGroupCommitConfigurationProperties.setEnabled(true);
+        voteWriter.start();
+
+        final List<CompletableFuture<Vote>> savedVotes = IntStream.range(0, CONCURRENT_VOTES)
+            .mapToObj(index -> CompletableFuture.supplyAsync(() -> voteWriter.save(buildVote())))
+            .collect(Collectors.toList());
+
+        savedVotes.forEach(savedVote -> Assert.assertNotNull(savedVote.join().getId()));
+        Assert.assertEquals(CONCURRENT_VOTES, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        Assert.assertTrue(batchSizes.stream().allMatch(batchSize -> batchSize <= BATCH_SIZE));
+    }
+
+    /**
+     * Save should propagate individual failure when group commit fails.
+     */
+    @Test(expected = DuplicateKeyException.class)
+    public void saveShouldPropagateIndividualFailureWhenGroupCommitFails() {
+        Mockito.when(voteRepository.insert(anyList())).thenThrow(new DuplicateKeyException("duplicate"));
+        Mockito.when(voteRepository.insert(any(Vote.class))).thenThrow(new DuplicateKeyException("duplicate"));
+        Mockito.when(voteRepository.existsById(anyString())).thenReturn(false);
+        voteGroupCommitConfigurationProperties.setEnabled(true);
+        voteWriter.start();
+        voteWriter.save(buildVote());
+    }
+
+    /**
+     * Save all should leave out votes rejected by unique index when bulk insert fails.
+     */
+    @Test
+    public void saveAllShouldLeaveOutVotesRejectedByUniqueIndexWhenBulkInsertFails() {
+        final Vote acceptedVote = buildVote();
+        final Vote duplicateVote = buildVote();
+        Mockito.when(voteRepository.insert(anyList())).thenThrow(new DuplicateKeyException("duplicate"));
+        Mockito.when(voteRepository.insert(any(Vote.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0))
+            .thenThrow(new DuplicateKeyException("duplicate"));
+        Mockito.when(voteRepository.existsById(anyString())).thenReturn(false);
+
+        final List<Vote> savedVotes = voteWriter.saveAll(Arrays.asList(acceptedVote, duplicateVote));
+
+        Assert.assertEquals(1, savedVotes.size());
+        Assert.assertSame(acceptedVote, savedVotes.get(0));
+        Assert.assertNotNull(acceptedVote.getId());
+        Mockito.verify(voteRepository, Mockito.never()).save(any(Vote.class));
+    }
+
+    /**
+     * Save all should keep votes already written by the failed bulk insert.
+     */
+    @Test
+    public void saveAllShouldKeepVotesAlreadyWrittenWhenBulkInsertFails() {
+        final Vote writtenVote = buildVote();
+        Mockito.when(voteRepository.insert(anyList())).thenThrow(new DuplicateKeyException("duplicate"));
+        Mockito.when(voteRepository.insert(any(Vote.class))).thenThrow(new DuplicateKeyException("duplicate"));
+        Mockito.when(voteRepository.existsById(anyString())).thenReturn(true);
+
+        final List<Vote> savedVotes = voteWriter.saveAll(Collections.singletonList(writtenVote));
+
+        Assert.assertEquals(Collections.singletonList(writtenVote), savedVotes);
+    }
+
+    /**
+     * Save should throw deadline exceeded exception when request deadline passes before group commit.
+     */
+    @Test
+    public void saveShouldThrowDeadlineExceededExceptionWhenRequestDeadlinePassesBeforeGroupCommit() {
+        final CountDownLatch commit = new CountDownLatch(1);
+        Mockito.when(voteRepository.insert(anyList())).thenAnswer(invocation -> {
+            commit.await();
+            return invocation.getArgument(0);
+        });
+        voteGroupCommitConfigurationProperties.setEnabled(true);
+        voteWriter.start();
+        RequestDeadline.start(DEADLINE_MILLISECONDS);
+        try {
+            Assert.assertThrows(DeadlineExceededException.class, () -> voteWriter.save(buildVote()));
+        } finally {
+            commit.countDown();
+        }
+    }
+
+    /**
+     * Save should throw illegal state exception when group commit does not complete in time.
+     */
+    @Test
+    public void saveShouldThrowIllegalStateExceptionWhenGroupCommitDoesNotCompleteInTime() {
+        final CountDownLatch commit = new CountDownLatch(1);
+        Mockito.when(voteRepository.insert(anyList())).thenAnswer(invocation -> {
+            commit.await();
+            return invocation.getArgument(0);
+        });
+        voteGroupCommitConfigurationProperties.setCommitTimeoutMilliseconds(DEADLINE_MILLISECONDS);
+        voteGroupCommitConfigurationProperties.setEnabled(true);
+        voteWriter.start();
+        try {
+            Assert.assertThrows(IllegalStateException.class, () -> voteWriter.save(buildVote()));
+        } finally {
+            commit.countDown();
+        }
+    }
+}
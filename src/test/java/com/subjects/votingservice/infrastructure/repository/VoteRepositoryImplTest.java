@@ -0,0 +1,152 @@
+package com.subjects.votingservice.infrastructure.repository;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.subjects.votingservice.domain.businessobjects.vote.VoteVerificationStatus;
+import com.subjects.votingservice.domain.exception.DeadlineExceededException;
+import com.subjects.votingservice.infrastructure.context.RequestDeadline;
+import com.subjects.votingservice.infrastructure.entities.Vote;
+import org.bson.Document;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.subjects.votingservice.helper.SubjectHelper.CODE;
+
+/**
+ * Vote repository implementation test, against an embedded Mongo.
+ */
+@RunWith(SpringRunner.class)
+@DataMongoTest
+public class VoteRepositoryImplTest {
+
+    private static final String OTHER_CODE = "other code";
+    private static final long DEADLINE_MILLISECONDS = 5_000L;
+    private static final int MAX_TIME_MS_EXPIRED = 50;
+
+    @Autowired
+    private transient MongoTemplate mongoTemplate;
+
+    private transient VoteRepositoryImpl voteRepositoryImpl;
+    private transient String collectionName;
+    private transient int cpfSequence;
+    private transient String legacyCpf;
+    private transient String otherLegacyCpf;
+
+    /**
+     * Method setup.
+     */
+    @Before
+    public void setup() {
+        collectionName = mongoTemplate.getCollectionName(Vote.class);
+        mongoTemplate.dropCollection(collectionName);
+        voteRepositoryImpl = new VoteRepositoryImpl(mongoTemplate);
+
+        insertVote(CODE, true, null);
+        insertVote(CODE, false, null);
+        insertVote(CODE, true, VoteVerificationStatus.VERIFIED);
+        insertVote(CODE, true, VoteVerificationStatus.PENDING);
+        insertVote(CODE, false, VoteVerificationStatus.PENDING);
+        insertVote(CODE, true, VoteVerificationStatus.REVOKED);
+        insertVote(CODE, false, VoteVerificationStatus.UNVERIFIED);
+        insertVote(OTHER_CODE, true, VoteVerificationStatus.VERIFIED);
+        legacyCpf = insertLegacyVote(CODE, false);
+        insertLegacyVote(CODE, false);
+        otherLegacyCpf = insertLegacyVote(OTHER_CODE, true);
+    }
+
+    /**
+     * Count legacy by session subject code group by option should only count votes with the legacy schema.
+     */
+    @Test
+    public void countLegacyBySessionSubjectCodeGroupByOptionShouldOnlyCountVotesWithTheLegacySchema() {
+        Assert.assertEquals(Map.of(false, 2L), voteRepositoryImpl.countLegacyBySessionSubjectCodeGroupByOption(CODE));
+    }
+
+    /**
+     * Count legacy by session subject code group by option should bound the aggregation by the request deadline.
+     */
+    @Test
+    public void countLegacyBySessionSubjectCodeGroupByOptionShouldBoundAggregationByRequestDeadline() {
+        final MongoTemplate deadlineMongoTemplate = Mockito.mock(MongoTemplate.class);
+        Mockito.when(deadlineMongoTemplate.aggregate(ArgumentMatchers.any(Aggregation.class), ArgumentMatchers.eq(Vote.class),
+            ArgumentMatchers.eq(Document.class))).thenReturn(new AggregationResults<>(Collections.emptyList(), new Document()));
+        RequestDeadline.start(DEADLINE_MILLISECONDS);
+        try {
+            new VoteRepositoryImpl(deadlineMongoTemplate).countLegacyBySessionSubjectCodeGroupByOption(CODE);
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        final ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        Mockito.verify(deadlineMongoTemplate).aggregate(aggregation.capture(), ArgumentMatchers.eq(Vote.class), ArgumentMatchers.eq(Document.class));
+        final Duration maxTime = aggregation.getValue().getOptions().getMaxTime();
+        Assert.assertFalse(maxTime.isZero());
+        Assert.assertTrue(maxTime.toMillis() <= DEADLINE_MILLISECONDS);
+    }
+
+    /**
+     * Count legacy by session subject code group by option should throw deadline exceeded exception when the server cuts the aggregation short.
+     */
+    @Test
+    public void countLegacyBySessionSubjectCodeGroupByOptionShouldThrowDeadlineExceededExceptionWhenServerCutsAggregationShort() {
+        final MongoTemplate deadlineMongoTemplate = Mockito.mock(MongoTemplate.class);
+        Mockito.when(deadlineMongoTemplate.aggregate(ArgumentMatchers.any(Aggregation.class), ArgumentMatchers.eq(Vote.class),
+            ArgumentMatchers.eq(Document.class))).thenThrow(new UncategorizedMongoDbException("operation exceeded time limit",
+            new MongoExecutionTimeoutException(MAX_TIME_MS_EXPIRED, "operation exceeded time limit")));
+        final VoteRepositoryImpl deadlineVoteRepositoryImpl = new VoteRepositoryImpl(deadlineMongoTemplate);
+        RequestDeadline.start(DEADLINE_MILLISECONDS);
+        try {
+            Assert.assertThrows(DeadlineExceededException.class, () -> deadlineVoteRepositoryImpl.countLegacyBySessionSubjectCodeGroupByOption(CODE));
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    /**
+     * Find legacy by cpf in and session subject code in should only find votes with the legacy schema, in the slim schema.
+     */
+    @Test
+    public void findLegacyByCpfInAndSessionSubjectCodeInShouldOnlyFindVotesWithTheLegacySchema() {
+        final List<Vote> legacyVotes = voteRepositoryImpl.findLegacyByCpfInAndSessionSubjectCodeIn(
+            Arrays.asList(legacyCpf, otherLegacyCpf, "0"), Collections.singletonList(CODE));
+
+        Assert.assertEquals(1, legacyVotes.size());
+        Assert.assertEquals(legacyCpf, legacyVotes.get(0).getCpf());
+        Assert.assertEquals(CODE, legacyVotes.get(0).getSubjectCode());
+    }
+
+    private void insertVote(String subjectCode, boolean option, VoteVerificationStatus verification) {
+        final Vote vote = new Vote(nextCpf(), subjectCode, option);
+        vote.setVerification(verification);
+        mongoTemplate.insert(vote);
+    }
+
+    private String insertLegacyVote(String subjectCode, boolean option) {
+        final String cpf = nextCpf();
+        mongoTemplate.insert(new Document("associate", new Document("cpf", cpf))
+            .append("session", new Document("subject", new Document("code", subjectCode)))
+            .append("option", option), collectionName);
+        return cpf;
+    }
+
+    private String nextCpf() {
+        return String.valueOf(cpfSequence++);
+    }
+}